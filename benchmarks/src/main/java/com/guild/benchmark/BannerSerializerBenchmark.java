@@ -0,0 +1,85 @@
+package com.guild.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.bukkit.DyeColor;
+import org.bukkit.Material;
+import org.bukkit.block.banner.Pattern;
+import org.bukkit.block.banner.PatternType;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.BannerMeta;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.guild.benchmark.fake.FakeServer;
+import com.guild.core.utils.BannerSerializer;
+
+/**
+ * Serialização de banners em JSON e Base64
+ *
+ * O Base64 usa um banner sem padrões: a serialização de metas com estado depende das classes do
+ * CraftBukkit, que o servidor falso não tem. O JSON usa um banner com seis padrões.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BannerSerializerBenchmark {
+
+    private ItemStack patternedBanner;
+    private ItemStack plainBanner;
+    private String json;
+    private String base64;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        FakeServer.install();
+        patternedBanner = new ItemStack(Material.BLACK_BANNER);
+        BannerMeta meta = (BannerMeta) patternedBanner.getItemMeta();
+        meta.addPattern(new Pattern(DyeColor.RED, PatternType.STRIPE_TOP));
+        meta.addPattern(new Pattern(DyeColor.WHITE, PatternType.CROSS));
+        meta.addPattern(new Pattern(DyeColor.YELLOW, PatternType.BORDER));
+        meta.addPattern(new Pattern(DyeColor.BLUE, PatternType.CIRCLE));
+        meta.addPattern(new Pattern(DyeColor.GREEN, PatternType.TRIANGLE_BOTTOM));
+        meta.addPattern(new Pattern(DyeColor.PURPLE, PatternType.GRADIENT));
+        patternedBanner.setItemMeta(meta);
+        plainBanner = new ItemStack(Material.WHITE_BANNER);
+
+        json = BannerSerializer.serializeToJson(patternedBanner);
+        base64 = BannerSerializer.serialize(plainBanner);
+        if (json == null || base64 == null) {
+            throw new IllegalStateException("Falha ao preparar os banners serializados");
+        }
+    }
+
+    @Benchmark
+    public String serializeJson() {
+        return BannerSerializer.serializeToJson(patternedBanner);
+    }
+
+    @Benchmark
+    public ItemStack deserializeJson() {
+        return BannerSerializer.deserializeFromJson(json);
+    }
+
+    @Benchmark
+    public String serializeBase64() {
+        return BannerSerializer.serialize(plainBanner);
+    }
+
+    @Benchmark
+    public ItemStack deserializeBase64() {
+        return BannerSerializer.deserialize(base64);
+    }
+}
@@ -0,0 +1,32 @@
+package com.guild.benchmark;
+
+import java.io.File;
+
+import org.bukkit.plugin.PluginDescriptionFile;
+import org.bukkit.plugin.java.JavaPluginLoader;
+
+import com.guild.GuildPlugin;
+
+/**
+ * GuildPlugin instanciado fora do servidor, com acesso ao ciclo de vida do JavaPlugin
+ */
+public class BenchmarkPlugin extends GuildPlugin {
+
+    public BenchmarkPlugin(JavaPluginLoader loader, PluginDescriptionFile description, File dataFolder, File file) {
+        super(loader, description, dataFolder, file);
+    }
+
+    /**
+     * Ativar o plugin (executa onEnable e marca como ativo para os comandos)
+     */
+    public void enable() {
+        setEnabled(true);
+    }
+
+    /**
+     * Desativar o plugin (executa onDisable)
+     */
+    public void disable() {
+        setEnabled(false);
+    }
+}
@@ -0,0 +1,81 @@
+package com.guild.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import com.guild.models.Guild;
+import com.guild.models.GuildMember;
+import com.guild.models.GuildRelation;
+import com.guild.services.GuildService;
+
+/**
+ * Massa de dados dos benchmarks: guildas com membros e relações entre guildas vizinhas
+ */
+public final class GuildFixture {
+
+    private final int[] guildIds;
+    private final UUID[] leaders;
+    private final UUID[] members;
+
+    private GuildFixture(int[] guildIds, UUID[] leaders, UUID[] members) {
+        this.guildIds = guildIds;
+        this.leaders = leaders;
+        this.members = members;
+    }
+
+    /**
+     * Criar as guildas pelo GuildService (mesmo caminho usado pelos comandos)
+     */
+    public static GuildFixture populate(GuildService guildService, int guilds, int membersPerGuild) {
+        int[] guildIds = new int[guilds];
+        UUID[] leaders = new UUID[guilds];
+        List<UUID> members = new ArrayList<>();
+        for (int i = 0; i < guilds; i++) {
+            String name = "Guild" + i;
+            UUID leader = playerUuid("Leader" + i);
+            if (!guildService.createGuildAsync(name, "G" + i, "Guilda de benchmark " + i, leader, "Leader" + i).join()) {
+                throw new IllegalStateException("Falha ao criar a guilda " + name);
+            }
+            Guild guild = guildService.getGuildByNameAsync(name).join();
+            guildIds[i] = guild.getId();
+            leaders[i] = leader;
+            members.add(leader);
+
+            List<CompletableFuture<Boolean>> joins = new ArrayList<>();
+            for (int m = 1; m < membersPerGuild; m++) {
+                UUID member = playerUuid("Member" + i + "_" + m);
+                members.add(member);
+                joins.add(guildService.addGuildMemberAsync(guild.getId(), member, "Member" + i + "_" + m, GuildMember.Role.MEMBER));
+            }
+            CompletableFuture.allOf(joins.toArray(new CompletableFuture[0])).join();
+        }
+        // Cada guilda aliada à próxima e inimiga da seguinte
+        for (int i = 0; i + 1 < guilds; i++) {
+            GuildRelation.RelationType type = i % 2 == 0 ? GuildRelation.RelationType.ALLY : GuildRelation.RelationType.ENEMY;
+            guildService.createGuildRelationAsync(guildIds[i], guildIds[i + 1], "Guild" + i, "Guild" + (i + 1),
+                type, leaders[i], "Leader" + i).join();
+        }
+        return new GuildFixture(guildIds, leaders, members.toArray(new UUID[0]));
+    }
+
+    /**
+     * UUID determinístico do jogador virtual com o nome informado
+     */
+    public static UUID playerUuid(String name) {
+        return UUID.nameUUIDFromBytes(("BenchmarkPlayer:" + name).getBytes());
+    }
+
+    public int[] getGuildIds() {
+        return guildIds;
+    }
+
+    public UUID[] getLeaders() {
+        return leaders;
+    }
+
+    public UUID[] getMembers() {
+        return members;
+    }
+}
@@ -0,0 +1,130 @@
+package com.guild.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.guild.models.Guild;
+import com.guild.models.GuildLog;
+import com.guild.models.GuildMember;
+import com.guild.models.GuildRelation;
+import com.guild.services.GuildService;
+
+/**
+ * Leituras e escritas do GuildService contra SQLite em arquivo, com o plugin inteiro ativo
+ *
+ * As leituras passam pelo GuildRegistry e pelo grafo de relações quando disponíveis; as escritas
+ * vão ao banco pelo DatabaseExecutor. Cada operação espera o CompletableFuture terminar.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class GuildServiceBenchmark {
+
+    @Param({ "200" })
+    public int guilds;
+
+    @Param({ "5" })
+    public int membersPerGuild;
+
+    private PluginHarness harness;
+    private GuildService guildService;
+    private GuildFixture fixture;
+    private final AtomicInteger created = new AtomicInteger();
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        harness = PluginHarness.start();
+        guildService = harness.getGuildService();
+        fixture = GuildFixture.populate(guildService, guilds, membersPerGuild);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        harness.close();
+    }
+
+    private int randomGuildId() {
+        int[] ids = fixture.getGuildIds();
+        return ids[ThreadLocalRandom.current().nextInt(ids.length)];
+    }
+
+    private UUID randomMember() {
+        UUID[] members = fixture.getMembers();
+        return members[ThreadLocalRandom.current().nextInt(members.length)];
+    }
+
+    @Benchmark
+    public Guild getGuildById() {
+        return guildService.getGuildByIdAsync(randomGuildId()).join();
+    }
+
+    @Benchmark
+    public GuildMember getGuildMember() {
+        return guildService.getGuildMemberAsync(randomMember()).join();
+    }
+
+    @Benchmark
+    public List<GuildRelation> getGuildRelations() {
+        return guildService.getGuildRelationsAsync(randomGuildId()).join();
+    }
+
+    @Benchmark
+    public Map<Integer, Integer> getMemberCounts() {
+        List<Integer> ids = new ArrayList<>(20);
+        for (int i = 0; i < 20; i++) {
+            ids.add(randomGuildId());
+        }
+        return guildService.getMemberCountsAsync(ids).join();
+    }
+
+    @Benchmark
+    public Boolean updateGuild() {
+        int index = ThreadLocalRandom.current().nextInt(guilds);
+        int guildId = fixture.getGuildIds()[index];
+        return guildService.updateGuildAsync(guildId, "Guild" + index, "G" + index,
+            "Descrição " + System.nanoTime(), fixture.getLeaders()[index]).join();
+    }
+
+    /**
+     * Custo de enfileirar o log; a gravação em lote fica com o GuildLogSink
+     */
+    @Benchmark
+    public CompletableFuture<Boolean> logGuildAction() {
+        int guildId = randomGuildId();
+        return guildService.logGuildActionAsync(guildId, "Guild", randomMember().toString(), "Member",
+            GuildLog.LogType.MEMBER_JOINED, "Benchmark", "Detalhes");
+    }
+
+    @Benchmark
+    public Boolean createAndDeleteGuild() {
+        int sequence = created.incrementAndGet();
+        String name = "Bench" + sequence;
+        UUID leader = GuildFixture.playerUuid("BenchLeader" + sequence);
+        guildService.createGuildAsync(name, "B" + sequence, "Temporária", leader, "BenchLeader" + sequence).join();
+        Guild guild = guildService.getGuildByNameAsync(name).join();
+        return guild != null && guildService.deleteGuildAsync(guild.getId(), leader).join();
+    }
+}
@@ -0,0 +1,96 @@
+package com.guild.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.bukkit.entity.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.guild.core.placeholder.GuildPlaceholderExpansion;
+import com.guild.core.utils.PlaceholderTemplate;
+import com.guild.core.utils.PlaceholderUtils;
+import com.guild.models.Guild;
+
+/**
+ * Resolução de placeholders: expansão do PlaceholderAPI (com e sem cache) e templates das mensagens
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PlaceholderBenchmark {
+
+    private static final String[] PARAMS = { "name", "tag", "role", "membercount", "online", "level", "roleprefix" };
+    private static final String MESSAGE = "&6[{guild_tag}] &f{guild_name} &7- Líder: {leader_name} &7({member_count} membros, {player_name})";
+
+    @Param({ "50" })
+    public int players;
+
+    private PluginHarness harness;
+    private GuildPlaceholderExpansion expansion;
+    private Player[] online;
+    private Guild[] guilds;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        harness = PluginHarness.start();
+        GuildFixture fixture = GuildFixture.populate(harness.getGuildService(), players, 3);
+        online = new Player[players];
+        List<Guild> loaded = new ArrayList<>();
+        for (int i = 0; i < players; i++) {
+            online[i] = harness.joinPlayer("Leader" + i).getPlayer();
+            loaded.add(harness.getGuildService().getGuildByIdAsync(fixture.getGuildIds()[i]).join());
+        }
+        guilds = loaded.toArray(new Guild[0]);
+        expansion = new GuildPlaceholderExpansion(harness.getPlugin(), harness.getGuildService());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        harness.close();
+    }
+
+    @Benchmark
+    public String expansionCached() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return expansion.onPlaceholderRequest(online[random.nextInt(online.length)], PARAMS[random.nextInt(PARAMS.length)]);
+    }
+
+    /**
+     * Pior caso: cache do jogador descartado antes de cada consulta
+     */
+    @Benchmark
+    public String expansionUncached() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Player player = online[random.nextInt(online.length)];
+        harness.getPlugin().getPlaceholderManager().invalidatePlayer(player.getUniqueId());
+        return expansion.onPlaceholderRequest(player, PARAMS[random.nextInt(PARAMS.length)]);
+    }
+
+    @Benchmark
+    public String replaceGuildPlaceholders() {
+        int index = ThreadLocalRandom.current().nextInt(guilds.length);
+        return PlaceholderUtils.replaceGuildPlaceholders(MESSAGE, guilds[index], online[index], 3);
+    }
+
+    @Benchmark
+    public PlaceholderTemplate compileTemplate() {
+        return PlaceholderTemplate.compile(MESSAGE);
+    }
+}
@@ -0,0 +1,177 @@
+package com.guild.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Comparator;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.stream.Stream;
+
+import org.bukkit.event.player.AsyncPlayerPreLoginEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerLoginEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.plugin.InvalidDescriptionException;
+import org.bukkit.plugin.PluginDescriptionFile;
+import org.bukkit.plugin.java.JavaPluginLoader;
+
+import com.guild.benchmark.fake.FakePlayer;
+import com.guild.benchmark.fake.FakeServer;
+import com.guild.services.GuildService;
+
+/**
+ * Inicializa o plugin completo sobre o {@link FakeServer}, com banco em uma pasta temporária
+ *
+ * Sem configuração de banco informada, usa o database.yml padrão (SQLite em arquivo). Para medir
+ * contra um MySQL local, passe um database.yml próprio em {@link #start(Path)}.
+ */
+public final class PluginHarness implements AutoCloseable {
+
+    private static final long STARTUP_TIMEOUT_SECONDS = 30;
+
+    private final FakeServer server;
+    private final Path dataFolder;
+    private final BenchmarkPlugin plugin;
+
+    private PluginHarness(FakeServer server, Path dataFolder, BenchmarkPlugin plugin) {
+        this.server = server;
+        this.dataFolder = dataFolder;
+        this.plugin = plugin;
+    }
+
+    /**
+     * Iniciar com SQLite em uma pasta temporária
+     */
+    public static PluginHarness start() throws Exception {
+        return start(null);
+    }
+
+    /**
+     * Iniciar usando o database.yml informado (null para o padrão)
+     */
+    @SuppressWarnings("deprecation")
+    public static PluginHarness start(Path databaseConfig) throws Exception {
+        FakeServer server = FakeServer.install();
+        Path dataFolder = Files.createTempDirectory("guild-benchmark");
+        if (databaseConfig != null) {
+            Files.copy(databaseConfig, dataFolder.resolve("database.yml"), StandardCopyOption.REPLACE_EXISTING);
+        }
+
+        BenchmarkPlugin plugin = new BenchmarkPlugin(new JavaPluginLoader(server.getServer()), loadDescription(),
+            dataFolder.toFile(), new File(dataFolder.toFile(), "WBCGuildSystem.jar"));
+        // Logs por operação (ex: abertura de GUI) distorcem a medição
+        plugin.getLogger().setLevel(Level.WARNING);
+        server.setPlugin(plugin);
+        plugin.enable();
+
+        // Aguardar o carregamento assíncrono do grafo de relações
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(STARTUP_TIMEOUT_SECONDS);
+        while (!plugin.getGuildService().getRelationGraph().isLoaded()) {
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException("O grafo de relações não carregou em " + STARTUP_TIMEOUT_SECONDS + "s");
+            }
+            Thread.sleep(10);
+        }
+        return new PluginHarness(server, dataFolder, plugin);
+    }
+
+    private static PluginDescriptionFile loadDescription() throws IOException, InvalidDescriptionException {
+        try (InputStream input = GuildService.class.getResourceAsStream("/plugin.yml")) {
+            if (input == null) {
+                throw new IOException("plugin.yml não encontrado no classpath");
+            }
+            return new PluginDescriptionFile(input);
+        }
+    }
+
+    public FakeServer getServer() {
+        return server;
+    }
+
+    public BenchmarkPlugin getPlugin() {
+        return plugin;
+    }
+
+    public GuildService getGuildService() {
+        return plugin.getGuildService();
+    }
+
+    public Path getDataFolder() {
+        return dataFolder;
+    }
+
+    /**
+     * Conectar um jogador virtual (sem disparar PlayerJoinEvent)
+     */
+    public FakePlayer addPlayer(String name) {
+        return server.addPlayer(GuildFixture.playerUuid(name), name);
+    }
+
+    /**
+     * Conectar um jogador disparando os eventos de entrada na ordem do servidor:
+     * pré-entrada na thread atual (assíncrona), login e entrada na thread principal
+     */
+    @SuppressWarnings("deprecation")
+    public FakePlayer joinPlayer(String name) throws Exception {
+        UUID uuid = GuildFixture.playerUuid(name);
+        InetAddress address = InetAddress.getLoopbackAddress();
+        server.callEvent(new AsyncPlayerPreLoginEvent(name, address, uuid));
+        FakePlayer player = server.addPlayer(uuid, name);
+        runOnMainThread(() -> {
+            server.callEvent(new PlayerLoginEvent(player.getPlayer(), "localhost", address));
+            server.callEvent(new PlayerJoinEvent(player.getPlayer(), name + " entrou no jogo"));
+        });
+        return player;
+    }
+
+    /**
+     * Desconectar o jogador disparando PlayerQuitEvent na thread principal
+     */
+    public void quitPlayer(FakePlayer player) throws Exception {
+        runOnMainThread(() -> server.callEvent(new PlayerQuitEvent(player.getPlayer(), player.getName() + " saiu do jogo")));
+        server.removePlayer(player.getUniqueId());
+    }
+
+    /**
+     * Executar na thread principal e aguardar o término (repassa a exceção da tarefa)
+     */
+    public void runOnMainThread(Runnable task) throws Exception {
+        Throwable[] failure = new Throwable[1];
+        server.getScheduler().runOnMainThread(() -> {
+            try {
+                task.run();
+            } catch (Throwable t) {
+                failure[0] = t;
+            }
+        }).get();
+        if (failure[0] instanceof Exception) {
+            throw (Exception) failure[0];
+        }
+        if (failure[0] != null) {
+            throw new IllegalStateException(failure[0]);
+        }
+    }
+
+    /**
+     * Desativar o plugin, desconectar os jogadores e apagar a pasta temporária
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            plugin.disable();
+        } finally {
+            for (FakePlayer player : server.getPlayers()) {
+                server.removePlayer(player.getUniqueId());
+            }
+            try (Stream<Path> files = Files.walk(dataFolder)) {
+                files.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+            }
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.guild.benchmark.fake;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.InventoryHolder;
+import org.bukkit.inventory.ItemStack;
+
+/**
+ * Substituto de inventário baseado em array, usado pelas GUIs do plugin
+ */
+public final class FakeInventory implements InvocationHandler {
+
+    private final InventoryHolder holder;
+    private final String title;
+    private final ItemStack[] contents;
+
+    private FakeInventory(InventoryHolder holder, int size, String title) {
+        this.holder = holder;
+        this.title = title;
+        this.contents = new ItemStack[size];
+    }
+
+    public static Inventory create(InventoryHolder holder, int size, String title) {
+        return StandIns.proxy(Inventory.class, new FakeInventory(holder, size, title));
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) {
+        Object result = StandIns.objectMethod(proxy, method, args, "FakeInventory[" + title + "]");
+        if (result != null) {
+            return result;
+        }
+        switch (method.getName()) {
+            case "getSize":
+                return contents.length;
+            case "getHolder":
+                return holder;
+            case "setItem":
+                contents[(Integer) args[0]] = (ItemStack) args[1];
+                return null;
+            case "getItem":
+                return contents[(Integer) args[0]];
+            case "getContents":
+            case "getStorageContents":
+                return contents.clone();
+            case "setContents":
+            case "setStorageContents":
+                ItemStack[] items = (ItemStack[]) args[0];
+                for (int i = 0; i < contents.length; i++) {
+                    contents[i] = i < items.length ? items[i] : null;
+                }
+                return null;
+            case "clear":
+                if (args == null || args.length == 0) {
+                    Arrays.fill(contents, null);
+                } else {
+                    contents[(Integer) args[0]] = null;
+                }
+                return null;
+            case "firstEmpty":
+                for (int i = 0; i < contents.length; i++) {
+                    if (contents[i] == null) {
+                        return i;
+                    }
+                }
+                return -1;
+            case "isEmpty":
+                for (ItemStack item : contents) {
+                    if (item != null) {
+                        return false;
+                    }
+                }
+                return true;
+            default:
+                return StandIns.defaultValue(method.getReturnType());
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.guild.benchmark.fake;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemFactory;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+
+/**
+ * Substituto do ItemFactory: cria os metas de {@link FakeItemMeta} e os aceita para qualquer material
+ */
+public final class FakeItemFactory implements InvocationHandler {
+
+    private final ItemFactory factory = StandIns.proxy(ItemFactory.class, this);
+
+    public ItemFactory getFactory() {
+        return factory;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) {
+        Object result = StandIns.objectMethod(proxy, method, args, "FakeItemFactory");
+        if (result != null) {
+            return result;
+        }
+        switch (method.getName()) {
+            case "getItemMeta":
+                return FakeItemMeta.forMaterial((Material) args[0]);
+            case "isApplicable":
+                return true;
+            case "equals":
+                // ItemFactory.equals(meta1, meta2): meta vazio equivale a nenhum meta
+                ItemMeta first = (ItemMeta) args[0];
+                ItemMeta second = (ItemMeta) args[1];
+                if (FakeItemMeta.isEmpty(first) && FakeItemMeta.isEmpty(second)) {
+                    return true;
+                }
+                return first != null && first.equals(second);
+            case "asMetaFor":
+                return args[0];
+            case "updateMaterial":
+                return args[1] instanceof ItemStack ? ((ItemStack) args[1]).getType() : args[1];
+            default:
+                return StandIns.defaultValue(method.getReturnType());
+        }
+    }
+}
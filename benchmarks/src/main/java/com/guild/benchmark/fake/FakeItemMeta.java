@@ -0,0 +1,172 @@
+package com.guild.benchmark.fake;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.bukkit.Material;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.block.banner.Pattern;
+import org.bukkit.inventory.ItemFlag;
+import org.bukkit.inventory.meta.BannerMeta;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.inventory.meta.SkullMeta;
+
+/**
+ * Substituto de ItemMeta, BannerMeta e SkullMeta com o estado usado pelas GUIs
+ *
+ * Guarda nome, lore, flags, padrões de banner e dono da cabeça. A serialização gera apenas um
+ * mapa descritivo: metas com estado não podem ser lidos de volta por BukkitObjectInputStream.
+ */
+public final class FakeItemMeta implements InvocationHandler {
+
+    private final Class<? extends ItemMeta> type;
+    private String displayName;
+    private List<String> lore;
+    private final Set<ItemFlag> flags = EnumSet.noneOf(ItemFlag.class);
+    private final List<Pattern> patterns = new ArrayList<>();
+    private OfflinePlayer owningPlayer;
+
+    private FakeItemMeta(Class<? extends ItemMeta> type) {
+        this.type = type;
+    }
+
+    /**
+     * Criar meta adequado ao material (banner, cabeça de jogador ou genérico)
+     */
+    public static ItemMeta forMaterial(Material material) {
+        String name = material.name();
+        if (name.endsWith("_BANNER")) {
+            return create(BannerMeta.class);
+        }
+        if (material == Material.PLAYER_HEAD) {
+            return create(SkullMeta.class);
+        }
+        return create(ItemMeta.class);
+    }
+
+    /**
+     * Verificar se o meta não guarda nenhum estado (equivalente a não ter meta)
+     */
+    public static boolean isEmpty(ItemMeta meta) {
+        if (meta == null) {
+            return true;
+        }
+        FakeItemMeta state = state(meta);
+        return state != null && state.displayName == null && state.lore == null && state.flags.isEmpty()
+            && state.patterns.isEmpty() && state.owningPlayer == null;
+    }
+
+    private static ItemMeta create(Class<? extends ItemMeta> type) {
+        return StandIns.proxy(type, new FakeItemMeta(type));
+    }
+
+    private static FakeItemMeta state(ItemMeta meta) {
+        if (!java.lang.reflect.Proxy.isProxyClass(meta.getClass())) {
+            return null;
+        }
+        InvocationHandler handler = java.lang.reflect.Proxy.getInvocationHandler(meta);
+        return handler instanceof FakeItemMeta ? (FakeItemMeta) handler : null;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) {
+        Object result = StandIns.objectMethod(proxy, method, args, "FakeItemMeta" + serialize());
+        if (result != null) {
+            return result;
+        }
+        switch (method.getName()) {
+            case "getDisplayName":
+                return displayName != null ? displayName : "";
+            case "hasDisplayName":
+                return displayName != null;
+            case "setDisplayName":
+                displayName = (String) args[0];
+                return null;
+            case "getLore":
+                return lore != null ? new ArrayList<>(lore) : null;
+            case "hasLore":
+                return lore != null;
+            case "setLore":
+                lore = args[0] != null ? new ArrayList<>(castList(args[0])) : null;
+                return null;
+            case "addItemFlags":
+                flags.addAll(Arrays.asList((ItemFlag[]) args[0]));
+                return null;
+            case "removeItemFlags":
+                flags.removeAll(Arrays.asList((ItemFlag[]) args[0]));
+                return null;
+            case "getItemFlags":
+                return EnumSet.copyOf(flags.isEmpty() ? EnumSet.noneOf(ItemFlag.class) : flags);
+            case "hasItemFlag":
+                return flags.contains((ItemFlag) args[0]);
+            case "getPatterns":
+                return new ArrayList<>(patterns);
+            case "setPatterns":
+                patterns.clear();
+                patterns.addAll(castList(args[0]));
+                return null;
+            case "addPattern":
+                patterns.add((Pattern) args[0]);
+                return null;
+            case "getPattern":
+                return patterns.get((Integer) args[0]);
+            case "removePattern":
+                return patterns.remove((int) (Integer) args[0]);
+            case "setPattern":
+                patterns.set((Integer) args[0], (Pattern) args[1]);
+                return null;
+            case "numberOfPatterns":
+                return patterns.size();
+            case "setOwningPlayer":
+                owningPlayer = (OfflinePlayer) args[0];
+                return true;
+            case "getOwningPlayer":
+                return owningPlayer;
+            case "hasOwner":
+                return owningPlayer != null;
+            case "clone":
+                return copy();
+            case "serialize":
+                return serialize();
+            default:
+                return StandIns.defaultValue(method.getReturnType());
+        }
+    }
+
+    private ItemMeta copy() {
+        FakeItemMeta copy = new FakeItemMeta(type);
+        copy.displayName = displayName;
+        copy.lore = lore != null ? new ArrayList<>(lore) : null;
+        copy.flags.addAll(flags);
+        copy.patterns.addAll(patterns);
+        copy.owningPlayer = owningPlayer;
+        return StandIns.proxy(type, copy);
+    }
+
+    private Map<String, Object> serialize() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("meta-type", type.getSimpleName());
+        if (displayName != null) {
+            map.put("display-name", displayName);
+        }
+        if (lore != null) {
+            map.put("lore", new ArrayList<>(lore));
+        }
+        if (!patterns.isEmpty()) {
+            map.put("patterns", new ArrayList<>(patterns));
+        }
+        return map;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> castList(Object value) {
+        return (List<T>) value;
+    }
+}
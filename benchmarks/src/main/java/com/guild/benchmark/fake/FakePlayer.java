@@ -0,0 +1,134 @@
+package com.guild.benchmark.fake;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.Inventory;
+
+/**
+ * Jogador virtual: guarda identidade, nomes e o inventário aberto e conta as mensagens recebidas
+ */
+public final class FakePlayer implements InvocationHandler {
+
+    private final FakeServer server;
+    private final UUID uuid;
+    private final String name;
+    private final Player player;
+    private final LongAdder messages = new LongAdder();
+    private volatile String displayName;
+    private volatile String listName;
+    private volatile String lastMessage;
+    private volatile Inventory openInventory;
+    private volatile boolean online = true;
+    private volatile boolean op = true;
+
+    FakePlayer(FakeServer server, UUID uuid, String name) {
+        this.server = server;
+        this.uuid = uuid;
+        this.name = name;
+        this.displayName = name;
+        this.listName = name;
+        this.player = StandIns.proxy(Player.class, this);
+    }
+
+    public Player getPlayer() {
+        return player;
+    }
+
+    public UUID getUniqueId() {
+        return uuid;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getMessageCount() {
+        return messages.sum();
+    }
+
+    public String getLastMessage() {
+        return lastMessage;
+    }
+
+    /**
+     * Inventário aberto pela última GUI (null se fechado)
+     */
+    public Inventory getOpenInventory() {
+        return openInventory;
+    }
+
+    public void setOp(boolean op) {
+        this.op = op;
+    }
+
+    void setOnline(boolean online) {
+        this.online = online;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) {
+        Object result = StandIns.objectMethod(proxy, method, args, "FakePlayer{" + name + "}");
+        if (result != null) {
+            return result;
+        }
+        switch (method.getName()) {
+            case "getUniqueId":
+                return uuid;
+            case "getName":
+                return name;
+            case "getDisplayName":
+                return displayName;
+            case "setDisplayName":
+                displayName = args[0] != null ? (String) args[0] : name;
+                return null;
+            case "getPlayerListName":
+                return listName;
+            case "setPlayerListName":
+                listName = args[0] != null ? (String) args[0] : name;
+                return null;
+            case "sendMessage":
+            case "sendRawMessage":
+                if (args[0] instanceof String[]) {
+                    String[] lines = (String[]) args[0];
+                    messages.add(lines.length);
+                    if (lines.length > 0) {
+                        lastMessage = lines[lines.length - 1];
+                    }
+                } else if (args[args.length - 1] instanceof String) {
+                    messages.increment();
+                    lastMessage = (String) args[args.length - 1];
+                }
+                return null;
+            case "hasPermission":
+                return op;
+            case "isPermissionSet":
+            case "isOp":
+                return op;
+            case "isOnline":
+            case "isValid":
+                return online;
+            case "hasPlayedBefore":
+                return true;
+            case "getPlayer":
+                return online ? proxy : null;
+            case "openInventory":
+                if (args[0] instanceof Inventory) {
+                    openInventory = (Inventory) args[0];
+                }
+                return null;
+            case "closeInventory":
+                openInventory = null;
+                return null;
+            case "performCommand":
+                return server.dispatchCommand(player, (String) args[0]);
+            case "getServer":
+                return server.getServer();
+            default:
+                return StandIns.defaultValue(method.getReturnType());
+        }
+    }
+}
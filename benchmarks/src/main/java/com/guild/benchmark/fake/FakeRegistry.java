@@ -0,0 +1,96 @@
+package com.guild.benchmark.fake;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.bukkit.Keyed;
+import org.bukkit.NamespacedKey;
+import org.bukkit.Registry;
+
+/**
+ * Substituto dos registros do Bukkit
+ *
+ * Tipos de interface (ex: PatternType) recebem, para qualquer chave, uma constante criada sob
+ * demanda e reaproveitada; name() devolve a chave em maiúsculas, como as antigas enums.
+ * Demais tipos ficam com um registro vazio.
+ */
+public final class FakeRegistry implements InvocationHandler {
+
+    private final Class<?> type;
+    private final Map<NamespacedKey, Object> entries = new ConcurrentHashMap<>();
+    private final AtomicInteger ordinals = new AtomicInteger();
+
+    private FakeRegistry(Class<?> type) {
+        this.type = type;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T extends Keyed> Registry<T> create(Class<T> type) {
+        return StandIns.proxy(Registry.class, new FakeRegistry(type));
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) {
+        Object result = StandIns.objectMethod(proxy, method, args, "FakeRegistry[" + type.getSimpleName() + "]");
+        if (result != null) {
+            return result;
+        }
+        switch (method.getName()) {
+            case "get":
+            case "getOrThrow":
+                return args[0] instanceof NamespacedKey ? entry((NamespacedKey) args[0]) : null;
+            case "match":
+                NamespacedKey key = NamespacedKey.fromString(((String) args[0]).toLowerCase(Locale.ROOT));
+                return key != null ? entry(key) : null;
+            case "iterator":
+                return Collections.unmodifiableCollection(entries.values()).iterator();
+            case "stream":
+                return Stream.of(entries.values().toArray());
+            default:
+                return StandIns.defaultValue(method.getReturnType());
+        }
+    }
+
+    private Object entry(NamespacedKey key) {
+        if (!type.isInterface()) {
+            return null;
+        }
+        return entries.computeIfAbsent(key, this::constant);
+    }
+
+    private Object constant(NamespacedKey key) {
+        int ordinal = ordinals.getAndIncrement();
+        String name = key.getKey().toUpperCase(Locale.ROOT);
+        return StandIns.proxy(type, (proxy, method, args) -> {
+            Object result = StandIns.objectMethod(proxy, method, args, name);
+            if (result != null) {
+                return result;
+            }
+            switch (method.getName()) {
+                case "getKey":
+                case "getKeyOrThrow":
+                case "getKeyOrNull":
+                    return key;
+                case "isRegistered":
+                    return true;
+                case "name":
+                    return name;
+                case "ordinal":
+                    return ordinal;
+                case "compareTo":
+                    return Integer.compare(ordinal, (Integer) args[0].getClass().getMethod("ordinal").invoke(args[0]));
+                case "getTranslationKey":
+                case "translationKey":
+                    return key.toString();
+                default:
+                    return StandIns.defaultValue(method.getReturnType());
+            }
+        });
+    }
+}
@@ -0,0 +1,257 @@
+package com.guild.benchmark.fake;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.bukkit.scheduler.BukkitTask;
+
+/**
+ * Substituto do agendador do Bukkit
+ *
+ * Tarefas síncronas rodam em uma única thread ("Server thread"), que faz o papel da thread
+ * principal; o tempo gasto nela é acumulado para medir o custo do plugin por tick. Um tick
+ * equivale a 50 ms.
+ */
+public class FakeScheduler implements InvocationHandler {
+
+    public static final long TICK_MILLIS = 50;
+
+    private final Logger logger;
+    private final ScheduledThreadPoolExecutor mainThread;
+    private final ScheduledExecutorService asyncTimer;
+    private final ExecutorService asyncPool;
+    private final Map<Integer, Future<?>> tasks = new ConcurrentHashMap<>();
+    private final AtomicInteger taskIds = new AtomicInteger();
+    private final LongAdder mainThreadNanos = new LongAdder();
+    private final LongAdder mainThreadTasks = new LongAdder();
+    private final AtomicLong maxMainThreadNanos = new AtomicLong();
+    private final BukkitScheduler scheduler;
+    private volatile Thread primaryThread;
+
+    public FakeScheduler(Logger logger) {
+        this.logger = logger;
+        this.mainThread = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "Server thread");
+            thread.setDaemon(true);
+            primaryThread = thread;
+            return thread;
+        });
+        this.asyncTimer = Executors.newSingleThreadScheduledExecutor(runnable -> daemon(runnable, "Fake-Async-Timer"));
+        this.asyncPool = Executors.newCachedThreadPool(runnable -> daemon(runnable, "Fake-Async-Worker"));
+        this.scheduler = StandIns.proxy(BukkitScheduler.class, this);
+        // Cria a thread principal já na inicialização
+        runOnMainThread(() -> { });
+    }
+
+    public BukkitScheduler getScheduler() {
+        return scheduler;
+    }
+
+    public boolean isPrimaryThread() {
+        return Thread.currentThread() == primaryThread;
+    }
+
+    /**
+     * Executar tarefa na thread principal (sem passar pelo plugin)
+     */
+    public Future<?> runOnMainThread(Runnable task) {
+        return mainThread.submit(measured(task));
+    }
+
+    public long getMainThreadNanos() {
+        return mainThreadNanos.sum();
+    }
+
+    public long getMainThreadTasks() {
+        return mainThreadTasks.sum();
+    }
+
+    public long getMaxMainThreadNanos() {
+        return maxMainThreadNanos.get();
+    }
+
+    /**
+     * Tarefas da thread principal ainda não executadas
+     */
+    public int getPendingMainThreadTasks() {
+        return mainThread.getQueue().size();
+    }
+
+    public void resetStats() {
+        mainThreadNanos.reset();
+        mainThreadTasks.reset();
+        maxMainThreadNanos.set(0);
+    }
+
+    public void shutdown() {
+        mainThread.shutdownNow();
+        asyncTimer.shutdownNow();
+        asyncPool.shutdownNow();
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) {
+        Object result = StandIns.objectMethod(proxy, method, args, "FakeScheduler");
+        if (result != null) {
+            return result;
+        }
+        String name = method.getName();
+        if (name.startsWith("runTask") || name.startsWith("schedule")) {
+            return schedule(name, args);
+        }
+        if ("cancelTask".equals(name)) {
+            cancel((Integer) args[0]);
+            return null;
+        }
+        if ("isQueued".equals(name) || "isCurrentlyRunning".equals(name)) {
+            Future<?> future = tasks.get((Integer) args[0]);
+            return future != null && !future.isDone();
+        }
+        if ("cancelTasks".equals(name)) {
+            for (Integer taskId : new ArrayList<>(tasks.keySet())) {
+                cancel(taskId);
+            }
+            return null;
+        }
+        return StandIns.defaultValue(method.getReturnType());
+    }
+
+    private Object schedule(String name, Object[] args) {
+        Plugin owner = null;
+        Object body = null;
+        List<Long> times = new ArrayList<>(2);
+        for (Object arg : args) {
+            if (arg instanceof Plugin) {
+                owner = (Plugin) arg;
+            } else if (arg instanceof Runnable || arg instanceof Consumer) {
+                body = arg;
+            } else if (arg instanceof Long) {
+                times.add((Long) arg);
+            }
+        }
+        boolean async = name.contains("Async");
+        int taskId = taskIds.incrementAndGet();
+        AtomicBoolean cancelled = new AtomicBoolean(false);
+        BukkitTask task = createTask(taskId, owner, !async, cancelled);
+        Runnable work = toRunnable(body, task);
+
+        long delay = times.isEmpty() ? 0 : Math.max(0, times.get(0)) * TICK_MILLIS;
+        long period = times.size() > 1 ? times.get(1) * TICK_MILLIS : -1;
+        Runnable runnable = period > 0 ? work : () -> {
+            // Tarefas únicas deixam de ser rastreadas ao terminar
+            try {
+                work.run();
+            } finally {
+                tasks.remove(taskId);
+            }
+        };
+        if (!async) {
+            runnable = measured(runnable);
+        }
+        Future<?> future;
+        if (period > 0) {
+            ScheduledExecutorService executor = async ? asyncTimer : mainThread;
+            Runnable repeating = async ? offload(runnable) : runnable;
+            future = executor.scheduleAtFixedRate(repeating, delay, period, TimeUnit.MILLISECONDS);
+        } else if (async) {
+            Runnable once = runnable;
+            future = delay > 0
+                ? asyncTimer.schedule(offload(once), delay, TimeUnit.MILLISECONDS)
+                : asyncPool.submit(once);
+        } else {
+            future = mainThread.schedule(runnable, delay, TimeUnit.MILLISECONDS);
+        }
+        tasks.put(taskId, future);
+        if (future.isDone()) {
+            tasks.remove(taskId);
+        }
+        // BukkitTask para runTask*, ID numérico para schedule*
+        return name.startsWith("runTask") ? task : taskId;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Runnable toRunnable(Object body, BukkitTask task) {
+        if (body instanceof Runnable) {
+            return (Runnable) body;
+        }
+        Consumer<BukkitTask> consumer = (Consumer<BukkitTask>) body;
+        return () -> consumer.accept(task);
+    }
+
+    private Runnable offload(Runnable runnable) {
+        return () -> asyncPool.execute(runnable);
+    }
+
+    private Runnable measured(Runnable task) {
+        return () -> {
+            long start = System.nanoTime();
+            try {
+                task.run();
+            } catch (Throwable t) {
+                logger.log(Level.SEVERE, "Erro em tarefa agendada", t);
+            } finally {
+                long elapsed = System.nanoTime() - start;
+                mainThreadNanos.add(elapsed);
+                mainThreadTasks.increment();
+                maxMainThreadNanos.accumulateAndGet(elapsed, Math::max);
+            }
+        };
+    }
+
+    private void cancel(int taskId) {
+        Future<?> future = tasks.remove(taskId);
+        if (future != null) {
+            future.cancel(false);
+        }
+    }
+
+    private BukkitTask createTask(int taskId, Plugin owner, boolean sync, AtomicBoolean cancelled) {
+        return StandIns.proxy(BukkitTask.class, (proxy, method, args) -> {
+            Object result = StandIns.objectMethod(proxy, method, args, "BukkitTask#" + taskId);
+            if (result != null) {
+                return result;
+            }
+            switch (method.getName()) {
+                case "getTaskId":
+                    return taskId;
+                case "getOwner":
+                    return owner;
+                case "isSync":
+                    return sync;
+                case "isCancelled":
+                    return cancelled.get();
+                case "cancel":
+                    cancelled.set(true);
+                    cancel(taskId);
+                    return null;
+                default:
+                    return StandIns.defaultValue(method.getReturnType());
+            }
+        });
+    }
+
+    private static Thread daemon(Runnable runnable, String name) {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+}
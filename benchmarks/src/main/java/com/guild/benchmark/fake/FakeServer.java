@@ -0,0 +1,359 @@
+package com.guild.benchmark.fake;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Keyed;
+import org.bukkit.Material;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.Server;
+import org.bukkit.UnsafeValues;
+import org.bukkit.command.Command;
+import org.bukkit.command.CommandSender;
+import org.bukkit.command.ConsoleCommandSender;
+import org.bukkit.command.PluginCommand;
+import org.bukkit.command.PluginCommandYamlParser;
+import org.bukkit.entity.Player;
+import org.bukkit.event.Cancellable;
+import org.bukkit.event.Event;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.event.inventory.InventoryType;
+import org.bukkit.inventory.InventoryHolder;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.PluginManager;
+
+/**
+ * Servidor Bukkit falso para executar o plugin fora do servidor
+ *
+ * Responde apenas ao que o plugin usa: agendador ({@link FakeScheduler}), jogadores virtuais,
+ * comandos do plugin.yml, ouvintes de eventos, inventários e itens. Só pode haver uma instância,
+ * pois {@link Bukkit#setServer} não aceita redefinição.
+ */
+public final class FakeServer implements InvocationHandler {
+
+    public static final String BUKKIT_VERSION = "1.21.8-R0.1-SNAPSHOT";
+    private static final int DATA_VERSION = 4440;
+
+    private static FakeServer installed;
+
+    private final Logger logger = Logger.getLogger("FakeServer");
+    private final FakeScheduler scheduler = new FakeScheduler(logger);
+    private final FakeItemFactory itemFactory = new FakeItemFactory();
+    private final Server server = StandIns.proxy(Server.class, this);
+    private final PluginManager pluginManager = StandIns.proxy(PluginManager.class, this::invokePluginManager);
+    private final UnsafeValues unsafe = StandIns.proxy(UnsafeValues.class, FakeServer::invokeUnsafe);
+    private final ConsoleCommandSender console = StandIns.proxy(ConsoleCommandSender.class, this::invokeConsole);
+    private final Map<UUID, FakePlayer> players = new ConcurrentHashMap<>();
+    private final Map<String, FakePlayer> playersByName = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Object> registries = new ConcurrentHashMap<>();
+    private final Map<String, Command> commands = new ConcurrentHashMap<>();
+    private volatile List<RegisteredHandler> handlers = List.of();
+    private volatile Plugin plugin;
+
+    private FakeServer() {
+    }
+
+    /**
+     * Instalar o servidor falso como servidor do Bukkit (uma única vez por JVM)
+     */
+    public static synchronized FakeServer install() {
+        if (installed == null) {
+            installed = new FakeServer();
+            Bukkit.setServer(installed.server);
+        }
+        return installed;
+    }
+
+    public Server getServer() {
+        return server;
+    }
+
+    public FakeScheduler getScheduler() {
+        return scheduler;
+    }
+
+    public Logger getLogger() {
+        return logger;
+    }
+
+    /**
+     * Registrar o plugin carregado e os comandos do seu plugin.yml
+     */
+    public void setPlugin(Plugin plugin) {
+        this.plugin = plugin;
+        commands.clear();
+        handlers = List.of();
+        for (Command command : PluginCommandYamlParser.parse(plugin)) {
+            commands.put(command.getName().toLowerCase(Locale.ROOT), command);
+            for (String alias : command.getAliases()) {
+                commands.putIfAbsent(alias.toLowerCase(Locale.ROOT), command);
+            }
+        }
+    }
+
+    /**
+     * Conectar um jogador virtual (não dispara eventos; use {@link #callEvent})
+     */
+    public FakePlayer addPlayer(UUID uuid, String name) {
+        FakePlayer player = new FakePlayer(this, uuid, name);
+        players.put(uuid, player);
+        playersByName.put(name.toLowerCase(Locale.ROOT), player);
+        return player;
+    }
+
+    public void removePlayer(UUID uuid) {
+        FakePlayer player = players.remove(uuid);
+        if (player != null) {
+            playersByName.remove(player.getName().toLowerCase(Locale.ROOT));
+            player.setOnline(false);
+        }
+    }
+
+    public Collection<FakePlayer> getPlayers() {
+        return players.values();
+    }
+
+    /**
+     * Executar comando do plugin como o remetente informado (sem barra inicial)
+     */
+    public boolean dispatchCommand(CommandSender sender, String line) {
+        String[] parts = line.trim().split(" +");
+        String label = parts[0].startsWith("/") ? parts[0].substring(1) : parts[0];
+        Command command = commands.get(label.toLowerCase(Locale.ROOT));
+        if (command == null) {
+            return false;
+        }
+        return command.execute(sender, label, Arrays.copyOfRange(parts, 1, parts.length));
+    }
+
+    /**
+     * Entregar evento aos ouvintes registrados, na ordem de prioridade do Bukkit
+     */
+    public <T extends Event> T callEvent(T event) {
+        for (RegisteredHandler handler : handlers) {
+            if (!handler.eventType.isInstance(event)) {
+                continue;
+            }
+            if (handler.ignoreCancelled && event instanceof Cancellable && ((Cancellable) event).isCancelled()) {
+                continue;
+            }
+            try {
+                handler.method.invoke(handler.listener, event);
+            } catch (InvocationTargetException e) {
+                throw new IllegalStateException("Erro no ouvinte " + handler.method, e.getCause());
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        return event;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) {
+        Object result = StandIns.objectMethod(proxy, method, args, "FakeServer");
+        if (result != null) {
+            return result;
+        }
+        switch (method.getName()) {
+            case "getLogger":
+                return logger;
+            case "getName":
+                return "FakeServer";
+            case "getVersion":
+                return "FakeServer (MC: 1.21.8)";
+            case "getBukkitVersion":
+                return BUKKIT_VERSION;
+            case "getScheduler":
+                return scheduler.getScheduler();
+            case "getPluginManager":
+                return pluginManager;
+            case "isPrimaryThread":
+                return scheduler.isPrimaryThread();
+            case "getOnlinePlayers":
+                List<Player> online = new ArrayList<>(players.size());
+                for (FakePlayer player : players.values()) {
+                    online.add(player.getPlayer());
+                }
+                return online;
+            case "getMaxPlayers":
+                return 1000;
+            case "getOnlineMode":
+                return true;
+            case "getPlayer":
+            case "getPlayerExact":
+                FakePlayer found = args[0] instanceof UUID ? players.get(args[0])
+                    : playersByName.get(((String) args[0]).toLowerCase(Locale.ROOT));
+                return found != null ? found.getPlayer() : null;
+            case "getOfflinePlayer":
+                return offlinePlayer(args[0]);
+            case "getPluginCommand":
+                Command command = commands.get(((String) args[0]).toLowerCase(Locale.ROOT));
+                return command instanceof PluginCommand ? command : null;
+            case "dispatchCommand":
+                return dispatchCommand((CommandSender) args[0], (String) args[1]);
+            case "createInventory":
+                return createInventory(args);
+            case "getItemFactory":
+                return itemFactory.getFactory();
+            case "getUnsafe":
+                return unsafe;
+            case "getRegistry":
+                return registry((Class<?>) args[0]);
+            case "getConsoleSender":
+                return console;
+            case "broadcastMessage":
+                for (FakePlayer player : players.values()) {
+                    player.getPlayer().sendMessage((String) args[0]);
+                }
+                return players.size();
+            default:
+                return StandIns.defaultValue(method.getReturnType());
+        }
+    }
+
+    private Object createInventory(Object[] args) {
+        InventoryHolder holder = (InventoryHolder) args[0];
+        String title = args.length > 2 ? (String) args[2] : "Inventário";
+        if (args[1] instanceof InventoryType) {
+            return FakeInventory.create(holder, ((InventoryType) args[1]).getDefaultSize(), title);
+        }
+        return FakeInventory.create(holder, (Integer) args[1], title);
+    }
+
+    private OfflinePlayer offlinePlayer(Object id) {
+        FakePlayer player = id instanceof UUID ? players.get(id) : playersByName.get(((String) id).toLowerCase(Locale.ROOT));
+        if (player != null) {
+            return player.getPlayer();
+        }
+        UUID uuid = id instanceof UUID ? (UUID) id : UUID.nameUUIDFromBytes(("OfflinePlayer:" + id).getBytes());
+        String name = id instanceof String ? (String) id : null;
+        return StandIns.proxy(OfflinePlayer.class, (proxy, method, args) -> {
+            Object result = StandIns.objectMethod(proxy, method, args, "OfflinePlayer{" + uuid + "}");
+            if (result != null) {
+                return result;
+            }
+            switch (method.getName()) {
+                case "getUniqueId":
+                    return uuid;
+                case "getName":
+                    return name;
+                default:
+                    return StandIns.defaultValue(method.getReturnType());
+            }
+        });
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private Object registry(Class<?> type) {
+        return registries.computeIfAbsent(type, key -> FakeRegistry.create((Class) key.asSubclass(Keyed.class)));
+    }
+
+    private Object invokePluginManager(Object proxy, Method method, Object[] args) {
+        Object result = StandIns.objectMethod(proxy, method, args, "FakePluginManager");
+        if (result != null) {
+            return result;
+        }
+        switch (method.getName()) {
+            case "registerEvents":
+                registerEvents((Listener) args[0]);
+                return null;
+            case "getPlugin":
+                return plugin != null && plugin.getName().equalsIgnoreCase((String) args[0]) ? plugin : null;
+            case "isPluginEnabled":
+                Plugin target = args[0] instanceof Plugin ? (Plugin) args[0]
+                    : (plugin != null && plugin.getName().equalsIgnoreCase((String) args[0]) ? plugin : null);
+                return target != null && target.isEnabled();
+            case "getPlugins":
+                return plugin != null ? new Plugin[] { plugin } : new Plugin[0];
+            case "callEvent":
+                callEvent((Event) args[0]);
+                return null;
+            case "disablePlugin":
+                // Falha na inicialização: interromper o benchmark em vez de seguir com o plugin pela metade
+                throw new IllegalStateException("O plugin pediu para ser desativado; verifique o log acima");
+            default:
+                return StandIns.defaultValue(method.getReturnType());
+        }
+    }
+
+    private synchronized void registerEvents(Listener listener) {
+        List<RegisteredHandler> registered = new ArrayList<>(handlers);
+        for (Method method : listener.getClass().getMethods()) {
+            EventHandler annotation = method.getAnnotation(EventHandler.class);
+            if (annotation == null || method.getParameterCount() != 1
+                || !Event.class.isAssignableFrom(method.getParameterTypes()[0])) {
+                continue;
+            }
+            method.setAccessible(true);
+            registered.add(new RegisteredHandler(listener, method, annotation));
+        }
+        registered.sort(Comparator.comparingInt(handler -> handler.priority));
+        handlers = List.copyOf(registered);
+    }
+
+    private static Object invokeUnsafe(Object proxy, Method method, Object[] args) {
+        Object result = StandIns.objectMethod(proxy, method, args, "FakeUnsafeValues");
+        if (result != null) {
+            return result;
+        }
+        switch (method.getName()) {
+            case "getDataVersion":
+                return DATA_VERSION;
+            case "getMaterial":
+                return Material.getMaterial((String) args[0]);
+            case "fromLegacy":
+            case "toLegacy":
+                return method.getReturnType().isInstance(args[0]) ? args[0] : StandIns.defaultValue(method.getReturnType());
+            default:
+                return StandIns.defaultValue(method.getReturnType());
+        }
+    }
+
+    private Object invokeConsole(Object proxy, Method method, Object[] args) {
+        Object result = StandIns.objectMethod(proxy, method, args, "CONSOLE");
+        if (result != null) {
+            return result;
+        }
+        switch (method.getName()) {
+            case "getName":
+                return "CONSOLE";
+            case "hasPermission":
+            case "isOp":
+                return true;
+            case "getServer":
+                return server;
+            default:
+                // Mensagens do console são descartadas para não poluir a medição
+                return StandIns.defaultValue(method.getReturnType());
+        }
+    }
+
+    private static final class RegisteredHandler {
+        private final Listener listener;
+        private final Method method;
+        private final Class<?> eventType;
+        private final boolean ignoreCancelled;
+        private final int priority;
+
+        private RegisteredHandler(Listener listener, Method method, EventHandler annotation) {
+            this.listener = listener;
+            this.method = method;
+            this.eventType = method.getParameterTypes()[0];
+            this.ignoreCancelled = annotation.ignoreCancelled();
+            this.priority = annotation.priority().getSlot();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.guild.benchmark.fake;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Utilitários dos substitutos (stand-ins) da API do Bukkit
+ *
+ * As interfaces do Bukkit têm centenas de métodos; os substitutos são proxies dinâmicos que
+ * tratam apenas o que o plugin usa e respondem o valor neutro do tipo de retorno ao resto.
+ */
+public final class StandIns {
+
+    private StandIns() {
+    }
+
+    /**
+     * Criar proxy da interface com o tratador informado
+     */
+    public static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(StandIns.class.getClassLoader(), new Class<?>[] { type }, handler));
+    }
+
+    /**
+     * Responder equals/hashCode/toString por identidade; null se o método não for desses
+     */
+    public static Object objectMethod(Object proxy, Method method, Object[] args, String description) {
+        switch (method.getName()) {
+            case "equals":
+                return args != null && args.length == 1 ? proxy == args[0] : null;
+            case "hashCode":
+                return method.getParameterCount() == 0 ? System.identityHashCode(proxy) : null;
+            case "toString":
+                return method.getParameterCount() == 0 ? description : null;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Valor neutro para o tipo de retorno (false, 0, coleção vazia ou null)
+     */
+    public static Object defaultValue(Class<?> type) {
+        if (type == boolean.class) {
+            return false;
+        }
+        if (type == int.class) {
+            return 0;
+        }
+        if (type == long.class) {
+            return 0L;
+        }
+        if (type == double.class) {
+            return 0.0D;
+        }
+        if (type == float.class) {
+            return 0.0F;
+        }
+        if (type == short.class) {
+            return (short) 0;
+        }
+        if (type == byte.class) {
+            return (byte) 0;
+        }
+        if (type == char.class) {
+            return '\0';
+        }
+        if (type == java.util.List.class || type == java.util.Collection.class) {
+            return Collections.emptyList();
+        }
+        if (type == java.util.Set.class) {
+            return Collections.emptySet();
+        }
+        if (type == java.util.Map.class) {
+            return Collections.emptyMap();
+        }
+        if (type == Optional.class) {
+            return Optional.empty();
+        }
+        if (type == Stream.class) {
+            return Stream.empty();
+        }
+        return null;
+    }
+}
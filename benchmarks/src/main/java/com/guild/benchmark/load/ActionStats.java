@@ -0,0 +1,67 @@
+package com.guild.benchmark.load;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import com.guild.core.database.LatencyHistogram;
+
+/**
+ * Contadores e latências de um tipo de ação simulada
+ *
+ * A latência é medida a partir do momento em que a ação foi agendada, incluindo a espera em
+ * fila; assim a saturação aparece nos percentis em vez de reduzir a taxa de chegada.
+ */
+public final class ActionStats {
+
+    private final String name;
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+
+    public ActionStats(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Registrar ação concluída; rejected indica recusa pela regra de negócio (ex: guilda cheia)
+     */
+    public void record(long scheduledNanos, boolean accepted) {
+        latency.record(System.nanoTime() - scheduledNanos);
+        completed.increment();
+        if (!accepted) {
+            rejected.increment();
+        }
+    }
+
+    public void recordError(long scheduledNanos) {
+        latency.record(System.nanoTime() - scheduledNanos);
+        errors.increment();
+    }
+
+    public LatencyHistogram getLatency() {
+        return latency;
+    }
+
+    public long getCompleted() {
+        return completed.sum();
+    }
+
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    public void reset() {
+        latency.reset();
+        completed.reset();
+        rejected.reset();
+        errors.reset();
+    }
+}
@@ -0,0 +1,468 @@
+package com.guild.benchmark.load;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.bukkit.entity.Player;
+import org.bukkit.event.player.AsyncPlayerChatEvent;
+
+import com.guild.benchmark.GuildFixture;
+import com.guild.benchmark.PluginHarness;
+import com.guild.benchmark.fake.FakePlayer;
+import com.guild.benchmark.fake.FakeScheduler;
+import com.guild.benchmark.fake.FakeServer;
+import com.guild.core.chat.ChatChannel;
+import com.guild.core.database.DatabaseExecutor;
+import com.guild.core.database.LatencyHistogram;
+import com.guild.core.database.QueryMetrics;
+import com.guild.core.placeholder.GuildPlaceholderExpansion;
+import com.guild.core.session.PlayerSession;
+import com.guild.models.Guild;
+import com.guild.models.GuildMember;
+import com.guild.services.GuildService;
+
+/**
+ * Simulação de carga do plugin inteiro com jogadores virtuais
+ *
+ * Os jogadores entram ao longo da rampa e, depois dela, conversam, abrem a GUI principal,
+ * criam/entram/saem de guildas, resolvem placeholders e reconectam nas taxas configuradas.
+ * A cada tick (50 ms) o agendador da simulação dispara as ações devidas: as assíncronas em um
+ * pool de workers, as de thread principal no {@link FakeScheduler}. Ao final são exibidos
+ * vazão e percentis por ação, tempo da thread principal e saturação do banco.
+ *
+ * Uso: java -cp target/benchmarks.jar com.guild.benchmark.load.LoadSimulation players=1000 duration=120
+ */
+public final class LoadSimulation {
+
+    private static final long TICKS_PER_SECOND = 1000 / FakeScheduler.TICK_MILLIS;
+    private static final long REJOIN_DELAY_SECONDS = 5;
+    private static final double CREATE_GUILD_CHANCE = 0.1;
+    private static final String[] PLACEHOLDERS = { "name", "tag", "role", "membercount", "online", "level" };
+    private static final String[] MESSAGES = { "oi", "alguém para a dungeon?", "vendo diamantes", "gg", "onde fica o spawn?" };
+
+    private final SimulationOptions options;
+    private final PluginHarness harness;
+    private final FakeServer server;
+    private final GuildService guildService;
+    private final GuildPlaceholderExpansion expansion;
+    private final AtomicReferenceArray<FakePlayer> slots;
+    private final AtomicInteger online = new AtomicInteger();
+    private final List<Integer> guildIds = new CopyOnWriteArrayList<>();
+    private final AtomicInteger createdGuilds = new AtomicInteger();
+    private final ExecutorService workers;
+    private final ScheduledExecutorService driver;
+
+    private final ActionStats join = new ActionStats("entrada");
+    private final ActionStats quit = new ActionStats("saída");
+    private final ActionStats chat = new ActionStats("chat");
+    private final ActionStats gui = new ActionStats("gui");
+    private final ActionStats guildCreate = new ActionStats("criar guilda");
+    private final ActionStats guildJoin = new ActionStats("entrar guilda");
+    private final ActionStats guildLeave = new ActionStats("sair guilda");
+    private final ActionStats placeholder = new ActionStats("placeholder");
+    private final List<ActionStats> actions = Arrays.asList(join, quit, chat, gui, guildCreate, guildJoin, guildLeave, placeholder);
+
+    // Acumuladores de taxa; usados apenas pela thread do agendador da simulação
+    private double joinBudget;
+    private double chatBudget;
+    private double guiBudget;
+    private double guildBudget;
+    private double placeholderBudget;
+    private double churnBudget;
+    private int nextJoin;
+
+    private volatile boolean measuring;
+    private final AtomicInteger maxMainPending = new AtomicInteger();
+    private final AtomicInteger maxDatabasePending = new AtomicInteger();
+    private final AtomicInteger maxEventsPending = new AtomicInteger();
+
+    private LoadSimulation(SimulationOptions options, PluginHarness harness) {
+        this.options = options;
+        this.harness = harness;
+        this.server = harness.getServer();
+        this.guildService = harness.getGuildService();
+        this.expansion = new GuildPlaceholderExpansion(harness.getPlugin(), guildService);
+        this.slots = new AtomicReferenceArray<>(options.getPlayers());
+        this.workers = Executors.newFixedThreadPool(options.getWorkers(), runnable -> daemon(runnable, "Load-Worker"));
+        this.driver = Executors.newSingleThreadScheduledExecutor(runnable -> daemon(runnable, "Load-Driver"));
+    }
+
+    public static void main(String[] args) throws Exception {
+        SimulationOptions options = SimulationOptions.parse(args);
+        System.out.println("Simulação de carga: " + options);
+        try (PluginHarness harness = PluginHarness.start(options.getDatabaseConfig())) {
+            new LoadSimulation(options, harness).run();
+        }
+        // Executores do plugin podem manter a JVM viva
+        System.exit(0);
+    }
+
+    private void run() throws Exception {
+        prepareGuilds();
+
+        long rampStart = System.nanoTime();
+        driver.scheduleAtFixedRate(this::tick, 0, FakeScheduler.TICK_MILLIS, TimeUnit.MILLISECONDS);
+        long rampLimit = TimeUnit.SECONDS.toNanos(options.getRampUpSeconds() + 60L);
+        Progress progress = new Progress();
+        while (online.get() < options.getPlayers()) {
+            if (System.nanoTime() - rampStart > rampLimit) {
+                System.out.println("Rampa não concluiu: " + online.get() + "/" + options.getPlayers() + " jogadores online");
+                break;
+            }
+            progress.maybePrint("rampa");
+            Thread.sleep(100);
+        }
+        System.out.printf("Rampa concluída em %.1fs%n", (System.nanoTime() - rampStart) / 1e9);
+
+        resetStats();
+        measuring = true;
+        long start = System.nanoTime();
+        long end = start + TimeUnit.SECONDS.toNanos(options.getDurationSeconds());
+        progress = new Progress();
+        while (System.nanoTime() < end) {
+            progress.maybePrint("medição");
+            Thread.sleep(100);
+        }
+        long elapsed = System.nanoTime() - start;
+        measuring = false;
+        driver.shutdownNow();
+        workers.shutdown();
+        workers.awaitTermination(30, TimeUnit.SECONDS);
+        printReport(elapsed);
+    }
+
+    /**
+     * Criar as guildas iniciais e colocar parte dos jogadores nelas
+     */
+    private void prepareGuilds() {
+        System.out.println("Criando " + options.getGuilds() + " guildas...");
+        GuildFixture fixture = GuildFixture.populate(guildService, options.getGuilds(), 1);
+        for (int guildId : fixture.getGuildIds()) {
+            guildIds.add(guildId);
+        }
+        int members = (int) (options.getPlayers() * options.getInitialMembers());
+        List<CompletableFuture<Boolean>> joins = new ArrayList<>(members);
+        for (int i = 0; i < members && !guildIds.isEmpty(); i++) {
+            String name = playerName(i);
+            joins.add(guildService.addGuildMemberAsync(guildIds.get(i % guildIds.size()), GuildFixture.playerUuid(name),
+                name, GuildMember.Role.MEMBER));
+        }
+        CompletableFuture.allOf(joins.toArray(new CompletableFuture[0])).join();
+    }
+
+    private static String playerName(int slot) {
+        return "Player" + slot;
+    }
+
+    /**
+     * Um tick da simulação: dispara as ações devidas e amostra as filas
+     */
+    private void tick() {
+        try {
+            long now = System.nanoTime();
+            int players = options.getPlayers();
+            if (nextJoin < players) {
+                int rampTicks = (int) (options.getRampUpSeconds() * TICKS_PER_SECOND);
+                joinBudget += rampTicks > 0 ? (double) players / rampTicks : players;
+                while (joinBudget >= 1 && nextJoin < players) {
+                    joinBudget--;
+                    int slot = nextJoin++;
+                    workers.execute(() -> join(slot, now));
+                }
+            }
+
+            double perTick = online.get() / (60.0 * TICKS_PER_SECOND);
+            chatBudget += options.getChatRate() * perTick;
+            guiBudget += options.getGuiRate() * perTick;
+            guildBudget += options.getGuildRate() * perTick;
+            placeholderBudget += options.getPlaceholderRate() * perTick;
+            if (measuring) {
+                churnBudget += options.getChurnRate() * perTick;
+            }
+
+            for (; chatBudget >= 1; chatBudget--) {
+                workers.execute(() -> chat(now));
+            }
+            for (; guiBudget >= 1; guiBudget--) {
+                openGui(now);
+            }
+            for (; guildBudget >= 1; guildBudget--) {
+                workers.execute(() -> guildAction(now));
+            }
+            for (; churnBudget >= 1; churnBudget--) {
+                workers.execute(() -> reconnect(now));
+            }
+            int placeholders = (int) placeholderBudget;
+            if (placeholders > 0) {
+                placeholderBudget -= placeholders;
+                server.getScheduler().runOnMainThread(() -> resolvePlaceholders(placeholders));
+            }
+
+            maxMainPending.accumulateAndGet(server.getScheduler().getPendingMainThreadTasks(), Math::max);
+            DatabaseExecutor executor = harness.getPlugin().getDatabaseManager().getExecutor();
+            if (executor != null) {
+                maxDatabasePending.accumulateAndGet(executor.getPendingTasks(), Math::max);
+            }
+            maxEventsPending.accumulateAndGet(harness.getPlugin().getEventBus().getPendingCount(), Math::max);
+        } catch (Throwable t) {
+            // Uma exceção cancelaria o agendamento periódico
+            t.printStackTrace();
+        }
+    }
+
+    private FakePlayer randomPlayer() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int attempt = 0; attempt < 4; attempt++) {
+            FakePlayer player = slots.get(random.nextInt(slots.length()));
+            if (player != null) {
+                return player;
+            }
+        }
+        return null;
+    }
+
+    private void join(int slot, long scheduled) {
+        try {
+            FakePlayer player = harness.joinPlayer(playerName(slot));
+            PlayerSession session = harness.getPlugin().getSessionManager().getSession(player.getUniqueId());
+            if (session != null && session.hasGuild() && ThreadLocalRandom.current().nextDouble() < options.getGuildChat()) {
+                harness.getPlugin().getChatManager().setChannel(player.getUniqueId(), ChatChannel.GUILD);
+            }
+            slots.set(slot, player);
+            online.incrementAndGet();
+            join.record(scheduled, true);
+        } catch (Exception e) {
+            join.recordError(scheduled);
+        }
+    }
+
+    /**
+     * Desconectar um jogador e reconectá-lo alguns segundos depois
+     */
+    private void reconnect(long scheduled) {
+        int slot = ThreadLocalRandom.current().nextInt(slots.length());
+        FakePlayer player = slots.get(slot);
+        if (player == null || !slots.compareAndSet(slot, player, null)) {
+            return;
+        }
+        online.decrementAndGet();
+        try {
+            harness.quitPlayer(player);
+            quit.record(scheduled, true);
+        } catch (Exception e) {
+            quit.recordError(scheduled);
+        }
+        driver.schedule(() -> {
+            long rejoin = System.nanoTime();
+            workers.execute(() -> join(slot, rejoin));
+        }, REJOIN_DELAY_SECONDS, TimeUnit.SECONDS);
+    }
+
+    private void chat(long scheduled) {
+        FakePlayer player = randomPlayer();
+        if (player == null) {
+            return;
+        }
+        try {
+            Set<Player> recipients = new HashSet<>(server.getServer().getOnlinePlayers());
+            String message = MESSAGES[ThreadLocalRandom.current().nextInt(MESSAGES.length)];
+            server.callEvent(new AsyncPlayerChatEvent(true, player.getPlayer(), message, recipients));
+            chat.record(scheduled, true);
+        } catch (Exception e) {
+            chat.recordError(scheduled);
+        }
+    }
+
+    /**
+     * Abrir a GUI principal pelo comando /guild, na thread principal
+     */
+    private void openGui(long scheduled) {
+        FakePlayer player = randomPlayer();
+        if (player == null) {
+            return;
+        }
+        server.getScheduler().runOnMainThread(() -> {
+            try {
+                gui.record(scheduled, server.dispatchCommand(player.getPlayer(), "guild"));
+            } catch (Exception e) {
+                gui.recordError(scheduled);
+            }
+        });
+    }
+
+    /**
+     * Sem guilda: criar (às vezes) ou entrar em uma; membro comum: sair. Líderes ficam.
+     */
+    private void guildAction(long scheduled) {
+        FakePlayer player = randomPlayer();
+        if (player == null) {
+            return;
+        }
+        UUID uuid = player.getUniqueId();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        ActionStats stats = null;
+        try {
+            GuildMember member = guildService.getGuildMemberAsync(uuid).join();
+            if (member == null && (guildIds.isEmpty() || random.nextDouble() < CREATE_GUILD_CHANCE)) {
+                stats = guildCreate;
+                int sequence = createdGuilds.incrementAndGet();
+                String name = "Sim" + sequence;
+                boolean created = guildService.createGuildAsync(name, "S" + sequence, "Guilda simulada", uuid, player.getName()).join();
+                if (created) {
+                    Guild guild = guildService.getGuildByNameAsync(name).join();
+                    if (guild != null) {
+                        guildIds.add(guild.getId());
+                    }
+                }
+                guildCreate.record(scheduled, created);
+            } else if (member == null) {
+                stats = guildJoin;
+                int guildId = guildIds.get(random.nextInt(guildIds.size()));
+                guildJoin.record(scheduled, guildService.addGuildMemberAsync(guildId, uuid, player.getName(), GuildMember.Role.MEMBER).join());
+            } else if (member.getRole() != GuildMember.Role.LEADER) {
+                stats = guildLeave;
+                guildLeave.record(scheduled, guildService.removeGuildMemberAsync(uuid, uuid).join());
+            }
+        } catch (Exception e) {
+            (stats != null ? stats : guildJoin).recordError(scheduled);
+        }
+    }
+
+    /**
+     * Resolver placeholders na thread principal (como um plugin de scoreboard)
+     *
+     * Mede apenas a resolução; a espera na fila aparece nas métricas da thread principal.
+     */
+    private void resolvePlaceholders(int count) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < count; i++) {
+            FakePlayer player = randomPlayer();
+            if (player == null) {
+                continue;
+            }
+            long start = System.nanoTime();
+            try {
+                expansion.onPlaceholderRequest(player.getPlayer(), PLACEHOLDERS[random.nextInt(PLACEHOLDERS.length)]);
+                placeholder.record(start, true);
+            } catch (Exception e) {
+                placeholder.recordError(start);
+            }
+        }
+    }
+
+    private void resetStats() {
+        // A entrada mantém as medições da rampa, que é quando ela acontece
+        for (ActionStats stats : actions) {
+            if (stats != join) {
+                stats.reset();
+            }
+        }
+        server.getScheduler().resetStats();
+        QueryMetrics metrics = harness.getPlugin().getDatabaseManager().getMetrics();
+        if (metrics != null) {
+            metrics.reset();
+        }
+        maxMainPending.set(0);
+        maxDatabasePending.set(0);
+        maxEventsPending.set(0);
+    }
+
+    private long totalCompleted() {
+        long total = 0;
+        for (ActionStats stats : actions) {
+            total += stats.getCompleted();
+        }
+        return total;
+    }
+
+    private void printReport(long elapsedNanos) {
+        double seconds = elapsedNanos / 1e9;
+        System.out.printf("%n=== Resultado: %.0fs medidos, %d jogadores online ===%n", seconds, online.get());
+        System.out.printf("%-14s %9s %9s %9s %7s %9s %9s %9s %9s%n",
+            "Ação", "Total", "Por s", "Recusadas", "Erros", "p50 ms", "p95 ms", "p99 ms", "Máx ms");
+        for (ActionStats stats : actions) {
+            LatencyHistogram latency = stats.getLatency();
+            // A entrada foi medida durante a rampa, fora da janela medida
+            String rate = stats == join ? "-" : String.format("%.1f", stats.getCompleted() / seconds);
+            System.out.printf("%-14s %9d %9s %9d %7d %9.2f %9.2f %9.2f %9.2f%n",
+                stats.getName(), stats.getCompleted(), rate, stats.getRejected(), stats.getErrors(),
+                latency.getPercentileMillis(50), latency.getPercentileMillis(95),
+                latency.getPercentileMillis(99), latency.getMaxMillis());
+        }
+        System.out.println("(entrada: medida durante a rampa; placeholder: apenas o tempo de resolução)");
+
+        FakeScheduler scheduler = server.getScheduler();
+        double ticks = seconds * TICKS_PER_SECOND;
+        double msPerTick = scheduler.getMainThreadNanos() / 1e6 / ticks;
+        System.out.printf("%nThread principal: %.2f ms/tick (%.1f%% do tick), %d tarefas, maior tarefa %.2f ms, fila máxima %d%n",
+            msPerTick, msPerTick * 100 / FakeScheduler.TICK_MILLIS, scheduler.getMainThreadTasks(),
+            scheduler.getMaxMainThreadNanos() / 1e6, maxMainPending.get());
+
+        DatabaseExecutor executor = harness.getPlugin().getDatabaseManager().getExecutor();
+        System.out.printf("Executor do banco: %s threads, fila máxima %d%n",
+            executor != null ? String.valueOf(executor.getThreads()) : "?", maxDatabasePending.get());
+        System.out.printf("EventBus: fila máxima %d%n", maxEventsPending.get());
+
+        QueryMetrics metrics = harness.getPlugin().getDatabaseManager().getMetrics();
+        if (metrics != null && metrics.isEnabled()) {
+            LatencyHistogram poolWait = metrics.getPoolWait();
+            System.out.printf("Pool de conexões: espera p50=%.2f ms p99=%.2f ms máx=%.2f ms, falhas %d%n",
+                poolWait.getPercentileMillis(50), poolWait.getPercentileMillis(99), poolWait.getMaxMillis(),
+                metrics.getPoolErrors());
+            System.out.println("Consultas com maior tempo total:");
+            for (Map.Entry<String, QueryMetrics.QueryStats> entry : metrics.getTopQueries(5)) {
+                System.out.println("  " + entry.getKey() + " " + entry.getValue().format());
+            }
+        } else {
+            System.out.println("Pool de conexões: métricas desativadas (metrics.enabled no database.yml)");
+        }
+    }
+
+    private static Thread daemon(Runnable runnable, String name) {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    /**
+     * Linha de progresso periódica com a vazão desde a linha anterior
+     */
+    private final class Progress {
+        private final long start = System.nanoTime();
+        private long lastPrint = start;
+        private long lastCompleted = totalCompleted();
+        private long lastMainNanos = server.getScheduler().getMainThreadNanos();
+
+        void maybePrint(String phase) {
+            long now = System.nanoTime();
+            long interval = TimeUnit.SECONDS.toNanos(options.getReportIntervalSeconds());
+            if (interval <= 0 || now - lastPrint < interval) {
+                return;
+            }
+            double seconds = (now - lastPrint) / 1e9;
+            long completed = totalCompleted();
+            long mainNanos = server.getScheduler().getMainThreadNanos();
+            System.out.printf("[%s %4.0fs] online=%d ações/s=%.0f thread principal=%.2f ms/tick fila principal=%d%n",
+                phase, (now - start) / 1e9, online.get(), (completed - lastCompleted) / seconds,
+                (mainNanos - lastMainNanos) / 1e6 / (seconds * TICKS_PER_SECOND),
+                server.getScheduler().getPendingMainThreadTasks());
+            lastPrint = now;
+            lastCompleted = completed;
+            lastMainNanos = mainNanos;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.guild.benchmark.load;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Parâmetros da simulação de carga, lidos de argumentos no formato chave=valor
+ *
+ * As taxas são por jogador online, por minuto.
+ */
+public final class SimulationOptions {
+
+    private static final Map<String, String> DEFAULTS = new HashMap<>();
+
+    static {
+        DEFAULTS.put("players", "1000");
+        DEFAULTS.put("ramp-up", "30");
+        DEFAULTS.put("duration", "60");
+        DEFAULTS.put("guilds", "100");
+        DEFAULTS.put("initial-members", "0.5");
+        DEFAULTS.put("guild-chat", "0.3");
+        DEFAULTS.put("chat-rate", "2");
+        DEFAULTS.put("gui-rate", "0.5");
+        DEFAULTS.put("guild-rate", "0.2");
+        DEFAULTS.put("placeholder-rate", "300");
+        DEFAULTS.put("churn-rate", "0.1");
+        DEFAULTS.put("workers", "16");
+        DEFAULTS.put("report-interval", "10");
+        DEFAULTS.put("database", "");
+    }
+
+    private final Map<String, String> values;
+
+    private SimulationOptions(Map<String, String> values) {
+        this.values = values;
+    }
+
+    /**
+     * Ler argumentos chave=valor; chaves desconhecidas são rejeitadas
+     */
+    public static SimulationOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>(DEFAULTS);
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            String key = separator > 0 ? arg.substring(0, separator) : arg;
+            if (separator <= 0 || !DEFAULTS.containsKey(key)) {
+                throw new IllegalArgumentException("Argumento inválido: " + arg + " (use chave=valor; chaves: " + DEFAULTS.keySet() + ")");
+            }
+            values.put(key, arg.substring(separator + 1));
+        }
+        return new SimulationOptions(values);
+    }
+
+    /** Jogadores virtuais conectados ao fim da rampa */
+    public int getPlayers() {
+        return Integer.parseInt(values.get("players"));
+    }
+
+    /** Duração da rampa de entrada (segundos) */
+    public int getRampUpSeconds() {
+        return Integer.parseInt(values.get("ramp-up"));
+    }
+
+    /** Duração da fase medida, depois da rampa (segundos) */
+    public int getDurationSeconds() {
+        return Integer.parseInt(values.get("duration"));
+    }
+
+    /** Guildas criadas antes da simulação */
+    public int getGuilds() {
+        return Integer.parseInt(values.get("guilds"));
+    }
+
+    /** Fração dos jogadores que já começa em uma guilda */
+    public double getInitialMembers() {
+        return Double.parseDouble(values.get("initial-members"));
+    }
+
+    /** Fração dos membros que conversa no canal da guilda */
+    public double getGuildChat() {
+        return Double.parseDouble(values.get("guild-chat"));
+    }
+
+    public double getChatRate() {
+        return Double.parseDouble(values.get("chat-rate"));
+    }
+
+    public double getGuiRate() {
+        return Double.parseDouble(values.get("gui-rate"));
+    }
+
+    /** Criar, entrar ou sair de guilda */
+    public double getGuildRate() {
+        return Double.parseDouble(values.get("guild-rate"));
+    }
+
+    public double getPlaceholderRate() {
+        return Double.parseDouble(values.get("placeholder-rate"));
+    }
+
+    /** Saída e reentrada de jogadores durante a fase medida */
+    public double getChurnRate() {
+        return Double.parseDouble(values.get("churn-rate"));
+    }
+
+    /** Threads que simulam as ações assíncronas dos jogadores */
+    public int getWorkers() {
+        return Integer.parseInt(values.get("workers"));
+    }
+
+    public int getReportIntervalSeconds() {
+        return Integer.parseInt(values.get("report-interval"));
+    }
+
+    /** database.yml alternativo (ex: MySQL local); null para SQLite temporário */
+    public Path getDatabaseConfig() {
+        String path = values.get("database");
+        return path.isEmpty() ? null : Paths.get(path);
+    }
+
+    @Override
+    public String toString() {
+        return new TreeMap<>(values).toString();
+    }
+}
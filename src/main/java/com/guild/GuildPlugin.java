@@ -1,21 +1,30 @@
 package com.guild;
 
 import com.guild.core.ServiceContainer;
+import com.guild.core.chat.GuildChatManager;
+import com.guild.core.combat.FriendlyFireManager;
 import com.guild.core.config.ConfigManager;
 import com.guild.core.database.DatabaseManager;
 import com.guild.core.events.EventBus;
 import com.guild.core.gui.GUIManager;
+import com.guild.core.leaderboard.GuildLeaderboard;
 import com.guild.core.placeholder.PlaceholderManager;
 import com.guild.core.permissions.PermissionManager;
+import com.guild.core.session.PlayerSessionManager;
 import com.guild.commands.GuildCommand;
 import com.guild.commands.GuildAdminCommand;
 import com.guild.listeners.PlayerListener;
 import com.guild.listeners.GuildListener;
 import com.guild.services.GuildService;
+import com.guild.core.utils.CompatibleScheduler;
+import com.guild.core.utils.MainThreadDispatcher;
 import com.guild.core.utils.ServerUtils;
 import com.guild.core.utils.TestUtils;
+import org.bukkit.plugin.PluginDescriptionFile;
 import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.plugin.java.JavaPluginLoader;
 
+import java.io.File;
 import java.util.logging.Logger;
 
 public class GuildPlugin extends JavaPlugin {
@@ -29,6 +38,22 @@ public class GuildPlugin extends JavaPlugin {
     private PlaceholderManager placeholderManager;
     private PermissionManager permissionManager;
     private GuildService guildService;
+    private PlayerSessionManager sessionManager;
+    private GuildChatManager chatManager;
+    private FriendlyFireManager friendlyFireManager;
+    private GuildLeaderboard leaderboard;
+    private MainThreadDispatcher mainThreadDispatcher;
+    
+    public GuildPlugin() {
+        super();
+    }
+    
+    /**
+     * Construtor para execução fora do servidor (módulo de benchmarks)
+     */
+    protected GuildPlugin(JavaPluginLoader loader, PluginDescriptionFile description, File dataFolder, File file) {
+        super(loader, description, dataFolder, file);
+    }
     
     @Override
     public void onEnable() {
@@ -46,6 +71,9 @@ public class GuildPlugin extends JavaPlugin {
             return;
         }
         
+        // Resolver agendadores do servidor uma única vez
+        CompatibleScheduler.initialize(logger);
+        
         // Executar testes de compatibilidade (usando o logger do plugin)
         TestUtils.testCompatibility(logger);
         TestUtils.testSchedulerCompatibility(logger);
@@ -62,8 +90,12 @@ public class GuildPlugin extends JavaPlugin {
             databaseManager = new DatabaseManager(this);
             serviceContainer.register(DatabaseManager.class, databaseManager);
             
+            // Inicializar o despachante de tarefas da thread principal
+            mainThreadDispatcher = new MainThreadDispatcher(this,
+                configManager.getMainConfig().getLong("scheduler.main-thread-budget-ms", 5));
+            
             // Inicializar o barramento de eventos
-            eventBus = new EventBus();
+            eventBus = new EventBus(logger, configManager.getMainConfig().getInt("events.async-threads", 2));
             serviceContainer.register(EventBus.class, eventBus);
             
             // Inicializar o gerenciador de GUI
@@ -82,8 +114,27 @@ public class GuildPlugin extends JavaPlugin {
             guildService = new GuildService(this);
             serviceContainer.register(GuildService.class, guildService);
             
+            // Inicializar o ranking de guildas (mantido pelos eventos de guilda)
+            leaderboard = new GuildLeaderboard(logger);
+            leaderboard.subscribeEvents(eventBus);
+            serviceContainer.register(GuildLeaderboard.class, leaderboard);
+            
+            // Inicializar o gerenciador de sessões de jogadores
+            sessionManager = new PlayerSessionManager(this);
+            sessionManager.subscribeEvents(eventBus);
+            serviceContainer.register(PlayerSessionManager.class, sessionManager);
+            
+            // Inicializar o chat da guilda
+            chatManager = new GuildChatManager(this);
+            serviceContainer.register(GuildChatManager.class, chatManager);
+            
+            // Inicializar a proteção de combate entre guildas
+            friendlyFireManager = new FriendlyFireManager(this);
+            serviceContainer.register(FriendlyFireManager.class, friendlyFireManager);
+            
             // Definir a referência do GuildService no PlaceholderManager
             placeholderManager.setGuildService(guildService);
+            placeholderManager.subscribeEvents(eventBus);
             
             // Registrar comandos
             registerCommands();
@@ -115,11 +166,31 @@ public class GuildPlugin extends JavaPlugin {
                 guiManager.closeAllGUIs();
             }
             
+            // Descartar atualizações de GUI pendentes
+            if (mainThreadDispatcher != null) {
+                mainThreadDispatcher.shutdown();
+            }
+            
             // Desligar serviços
             if (serviceContainer != null) {
                 serviceContainer.shutdown();
             }
             
+            // Entregar eventos pendentes
+            if (eventBus != null) {
+                eventBus.shutdown();
+            }
+            
+            // Gravar logs de guilda pendentes antes de fechar o banco de dados
+            if (guildService != null) {
+                guildService.shutdown();
+            }
+            
+            // Aguardar tarefas pendentes e fechar conexão com o banco de dados
+            if (databaseManager != null) {
+                databaseManager.close();
+            }
+            
             logger.info("Plugin de guilda desligado");
             
         } catch (Exception e) {
@@ -147,6 +218,17 @@ public class GuildPlugin extends JavaPlugin {
         // Iniciar conexão com o banco de dados
         databaseManager.initialize();
         
+        // Carregar o ranking de guildas uma única vez; as contagens de membros são ressincronizadas periodicamente
+        leaderboard.load(guildService);
+        CompatibleScheduler.runTaskTimer(this, () -> leaderboard.resyncMemberCounts(guildService),
+            GuildLeaderboard.RESYNC_PERIOD_TICKS, GuildLeaderboard.RESYNC_PERIOD_TICKS);
+        
+        // Carregar o grafo de relações entre guildas (até concluir, as consultas vão ao banco)
+        guildService.loadRelationGraphAsync();
+        
+        // Carregar sessões dos jogadores já online (ex: após /reload)
+        sessionManager.loadOnlinePlayers();
+        
         // Registrar placeholders
         placeholderManager.registerPlaceholders();
         
@@ -189,4 +271,24 @@ public class GuildPlugin extends JavaPlugin {
     public GuildService getGuildService() {
         return guildService;
     }
+    
+    public MainThreadDispatcher getMainThreadDispatcher() {
+        return mainThreadDispatcher;
+    }
+    
+    public GuildLeaderboard getLeaderboard() {
+        return leaderboard;
+    }
+    
+    public GuildChatManager getChatManager() {
+        return chatManager;
+    }
+    
+    public FriendlyFireManager getFriendlyFireManager() {
+        return friendlyFireManager;
+    }
+    
+    public PlayerSessionManager getSessionManager() {
+        return sessionManager;
+    }
 }
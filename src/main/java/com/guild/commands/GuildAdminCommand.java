@@ -1,5 +1,7 @@
 package com.guild.commands;
 import com.guild.GuildPlugin;
+import com.guild.core.database.LatencyHistogram;
+import com.guild.core.database.QueryMetrics;
 import com.guild.core.utils.ColorUtils;
 import com.guild.gui.AdminGuildGUI;
 import com.guild.gui.RelationManagementGUI;
@@ -14,6 +16,7 @@ import org.bukkit.entity.Player;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 public class GuildAdminCommand implements CommandExecutor, TabCompleter {
@@ -61,6 +64,9 @@ public class GuildAdminCommand implements CommandExecutor, TabCompleter {
             case "reload":
                 handleReload(sender);
                 break;
+            case "perf":
+                handlePerf(sender, args);
+                break;
             case "test":
                 handleTest(sender, args);
                 break;
@@ -80,7 +86,7 @@ public class GuildAdminCommand implements CommandExecutor, TabCompleter {
             return completions;
         }
         if (args.length == 1) {
-            completions.addAll(Arrays.asList("list", "info", "delete", "freeze", "unfreeze", "transfer", "relation", "reload", "help"));
+            completions.addAll(Arrays.asList("list", "info", "delete", "freeze", "unfreeze", "transfer", "relation", "reload", "perf", "help"));
         } else if (args.length == 2) {
             switch (args[0].toLowerCase()) {
                 case "info":
@@ -97,6 +103,9 @@ public class GuildAdminCommand implements CommandExecutor, TabCompleter {
                 case "relation":
                     completions.addAll(Arrays.asList("list", "create", "delete", "gui"));
                     break;
+                case "perf":
+                    completions.add("reset");
+                    break;
             }
         } else if (args.length == 3) {
             switch (args[0].toLowerCase()) {
@@ -420,6 +429,11 @@ public class GuildAdminCommand implements CommandExecutor, TabCompleter {
         try {
             plugin.getConfigManager().reloadAllConfigs();
             plugin.getPermissionManager().reloadFromConfig();
+            plugin.getPlaceholderManager().reloadFromConfig();
+            plugin.getChatManager().reloadFromConfig();
+            plugin.getFriendlyFireManager().reloadFromConfig();
+            plugin.getMainThreadDispatcher().setBudgetMillis(
+                plugin.getConfigManager().getMainConfig().getLong("scheduler.main-thread-budget-ms", 5));
             sender.sendMessage(ColorUtils.colorize("&aConfiguração recarregada!"));
         } catch (Exception e) {
             sender.sendMessage(ColorUtils.colorize("&cFalha ao recarregar configuração: " + e.getMessage()));
@@ -491,6 +505,32 @@ public class GuildAdminCommand implements CommandExecutor, TabCompleter {
                 break;
         }
     }
+    private void handlePerf(CommandSender sender, String[] args) {
+        QueryMetrics metrics = plugin.getDatabaseManager().getMetrics();
+        if (metrics == null || !metrics.isEnabled()) {
+            sender.sendMessage(ColorUtils.colorize("&cMétricas do banco de dados desativadas (metrics.enabled no database.yml)."));
+            return;
+        }
+        if (args.length > 1 && "reset".equalsIgnoreCase(args[1])) {
+            metrics.reset();
+            sender.sendMessage(ColorUtils.colorize("&aMétricas do banco de dados zeradas."));
+            return;
+        }
+        LatencyHistogram poolWait = metrics.getPoolWait();
+        sender.sendMessage(ColorUtils.colorize("&6=== Desempenho do Banco de Dados ==="));
+        sender.sendMessage(ColorUtils.colorize(String.format("&eEspera por conexão: &7n=%d p50=%.1fms p95=%.1fms p99=%.1fms erros=%d",
+            poolWait.getCount(), poolWait.getPercentileMillis(50), poolWait.getPercentileMillis(95),
+            poolWait.getPercentileMillis(99), metrics.getPoolErrors())));
+        sender.sendMessage(ColorUtils.colorize("&eFilas: &7banco " + plugin.getDatabaseManager().getExecutor().getPendingTasks()
+            + " | eventos " + plugin.getEventBus().getPendingCount()
+            + " | thread principal " + plugin.getMainThreadDispatcher().getPendingCount()));
+        sender.sendMessage(ColorUtils.colorize("&eConsultas (maior tempo total):"));
+        for (Map.Entry<String, QueryMetrics.QueryStats> entry : metrics.getTopQueries(10)) {
+            String sql = entry.getKey().length() > 80 ? entry.getKey().substring(0, 77) + "..." : entry.getKey();
+            sender.sendMessage(ColorUtils.colorize("&f" + sql));
+            sender.sendMessage(ColorUtils.colorize("  &7" + entry.getValue().format()));
+        }
+    }
     private void handleHelp(CommandSender sender) {
         sender.sendMessage(ColorUtils.colorize("&6=== Comandos de Administrador da Guilda ==="));
         sender.sendMessage(ColorUtils.colorize("&e/guildadmin &7- Abrir GUI de administrador"));
@@ -503,6 +543,7 @@ public class GuildAdminCommand implements CommandExecutor, TabCompleter {
         sender.sendMessage(ColorUtils.colorize("&e/guildadmin economy <Guilda> <Operação> <Quantia> &7- Gerenciar economia"));
         sender.sendMessage(ColorUtils.colorize("&e/guildadmin relation <Operação> &7- Gerenciar relações"));
         sender.sendMessage(ColorUtils.colorize("&e/guildadmin reload &7- Recarregar configuração"));
+        sender.sendMessage(ColorUtils.colorize("&e/guildadmin perf [reset] &7- Ver desempenho do banco de dados"));
         sender.sendMessage(ColorUtils.colorize("&e/guildadmin help &7- Mostrar ajuda"));
     }
 }
\ No newline at end of file
@@ -12,8 +12,12 @@ import org.bukkit.command.TabCompleter;
 import org.bukkit.entity.Player;
 
 import com.guild.GuildPlugin;
+import com.guild.core.chat.ChatChannel;
+import com.guild.core.chat.GuildChatManager;
+import com.guild.core.session.PlayerSession;
 import com.guild.core.utils.ColorUtils;
 import com.guild.core.utils.CompatibleScheduler;
+import com.guild.gui.GuildTopGUI;
 import com.guild.gui.MainGuildGUI;
 import com.guild.models.Guild;
 import com.guild.models.GuildMember;
@@ -81,6 +85,12 @@ public class GuildCommand implements CommandExecutor, TabCompleter {
             case "time":
                 handleTime(player);
                 break;
+            case "chat":
+                handleChat(player, args);
+                break;
+            case "top":
+                plugin.getGuiManager().openGUI(player, new GuildTopGUI(plugin));
+                break;
             case "help":
                 handleHelp(player);
                 break;
@@ -95,7 +105,7 @@ public class GuildCommand implements CommandExecutor, TabCompleter {
         List<String> completions = new ArrayList<>();
         if (args.length == 1) {
             List<String> subCommands = Arrays.asList(
-                "create", "info", "members", "invite", "kick", "promote", "demote", "accept", "decline", "leave", "delete", "relation", "logs", "placeholder", "time", "help"
+                "create", "info", "members", "invite", "kick", "promote", "demote", "accept", "decline", "leave", "delete", "relation", "logs", "placeholder", "time", "chat", "top", "help"
             );
             for (String subCommand : subCommands) {
                 if (subCommand.toLowerCase().startsWith(args[0].toLowerCase())) {
@@ -113,6 +123,14 @@ public class GuildCommand implements CommandExecutor, TabCompleter {
                         }
                     }
                     break;
+                case "chat":
+                    List<String> channels = Arrays.asList("guild", "officer", "ally", "global");
+                    for (String channel : channels) {
+                        if (channel.startsWith(args[1].toLowerCase())) {
+                            completions.add(channel);
+                        }
+                    }
+                    break;
                 case "invite":
                 case "kick":
                 case "promote":
@@ -762,6 +780,10 @@ public class GuildCommand implements CommandExecutor, TabCompleter {
         player.sendMessage(ColorUtils.colorize(delete));
         String help = plugin.getConfigManager().getMessagesConfig().getString("help.help", "&e/guild help &7- Mostrar esta mensagem de ajuda");
         player.sendMessage(ColorUtils.colorize(help));
+        String chat = plugin.getConfigManager().getMessagesConfig().getString("help.chat", "&e/guild chat [guild|officer|ally|global] &7- Alternar canal de chat");
+        player.sendMessage(ColorUtils.colorize(chat));
+        String top = plugin.getConfigManager().getMessagesConfig().getString("help.top", "&e/guild top &7- Ver ranking de guildas");
+        player.sendMessage(ColorUtils.colorize(top));
         String relation = "&e/guild relation &7- Gerenciar relações da guilda";
         player.sendMessage(ColorUtils.colorize(relation));
         String economy = "&e/guild economy &7- Gerenciar economia da guilda";
@@ -1034,4 +1056,36 @@ public class GuildCommand implements CommandExecutor, TabCompleter {
         player.sendMessage(ColorUtils.colorize("&eTempo Real: &f" + realNow));
         player.sendMessage(ColorUtils.colorize("&eTempo de Jogo: &f" + gameTime + " &7(" + ticksStr + " ticks)"));
     }
+    
+    private void handleChat(Player player, String[] args) {
+        GuildChatManager chatManager = plugin.getChatManager();
+        if (chatManager == null || !chatManager.isEnabled()) {
+            String message = plugin.getConfigManager().getMessagesConfig().getString("chat.disabled", "&cO chat da guilda está desativado!");
+            player.sendMessage(ColorUtils.colorize(message));
+            return;
+        }
+        ChatChannel current = chatManager.getChannel(player.getUniqueId());
+        ChatChannel target;
+        if (args.length < 2) {
+            // Sem argumento: alterna entre o chat da guilda e o global
+            target = current == ChatChannel.GLOBAL ? ChatChannel.GUILD : ChatChannel.GLOBAL;
+        } else {
+            target = ChatChannel.fromName(args[1]);
+            if (target == null) {
+                String message = plugin.getConfigManager().getMessagesConfig().getString("chat.usage", "&eUso: /guild chat [guild|officer|ally|global]");
+                player.sendMessage(ColorUtils.colorize(message));
+                return;
+            }
+        }
+        PlayerSession session = plugin.getSessionManager().getSession(player.getUniqueId());
+        if (!chatManager.canUse(session, target)) {
+            String key = session != null && session.hasGuild() ? "chat.officer-only" : "info.no-guild";
+            String fallback = session != null && session.hasGuild() ? "&cApenas oficiais e o líder podem usar o chat de oficiais!" : "&cVocê ainda não entrou em nenhuma guilda!";
+            player.sendMessage(ColorUtils.colorize(plugin.getConfigManager().getMessagesConfig().getString(key, fallback)));
+            return;
+        }
+        chatManager.setChannel(player.getUniqueId(), target);
+        String message = plugin.getConfigManager().getMessagesConfig().getString("chat.channel-changed", "&aCanal de chat alterado para: &e{channel}");
+        player.sendMessage(ColorUtils.colorize(message.replace("{channel}", target.getDisplayName())));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,79 @@
+package com.guild.core.cache;
+
+/**
+ * Tabela imutável de relações ativas por par de guildas (endereçamento aberto long → byte)
+ *
+ * Usada no caminho de dano entre jogadores: a consulta não aloca (sem boxing da chave).
+ * O {@link RelationGraph} reconstrói a tabela a cada escrita, que é rara, e a publica
+ * por referência volátil; leituras nunca veem uma tabela parcialmente montada.
+ */
+final class ActiveRelationTable {
+
+    static final ActiveRelationTable EMPTY = new ActiveRelationTable(new long[2], new byte[2]);
+
+    // Chave 0 marca posição vazia (IDs de guilda começam em 1)
+    private final long[] keys;
+    // Ordinal do tipo de relação + 1
+    private final byte[] types;
+    private final int mask;
+
+    private ActiveRelationTable(long[] keys, byte[] types) {
+        this.keys = keys;
+        this.types = types;
+        this.mask = keys.length - 1;
+    }
+
+    /**
+     * Chave do par, independente da ordem
+     */
+    static long unorderedKey(int guildA, int guildB) {
+        int low = Math.min(guildA, guildB);
+        int high = Math.max(guildA, guildB);
+        return ((long) low << 32) | (high & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Montar tabela a partir de chaves e ordinais paralelos
+     */
+    static ActiveRelationTable build(long[] pairKeys, int[] ordinals, int size) {
+        if (size == 0) {
+            return EMPTY;
+        }
+        // Carga máxima de 50%
+        int capacity = Integer.highestOneBit(Math.max(2, size * 2 - 1)) << 1;
+        long[] keys = new long[capacity];
+        byte[] types = new byte[capacity];
+        int mask = capacity - 1;
+        for (int i = 0; i < size; i++) {
+            int slot = slot(pairKeys[i], mask);
+            while (keys[slot] != 0 && keys[slot] != pairKeys[i]) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = pairKeys[i];
+            types[slot] = (byte) (ordinals[i] + 1);
+        }
+        return new ActiveRelationTable(keys, types);
+    }
+
+    /**
+     * Obter ordinal do tipo de relação ativa entre as guildas (-1 se não houver)
+     */
+    int typeOrdinal(int guildA, int guildB) {
+        long key = unorderedKey(guildA, guildB);
+        int slot = slot(key, mask);
+        while (true) {
+            long current = keys[slot];
+            if (current == key) {
+                return types[slot] - 1;
+            }
+            if (current == 0) {
+                return -1;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private static int slot(long key, int mask) {
+        return (int) ((key * 0x9E3779B97F4A7C15L) >>> 32) & mask;
+    }
+}
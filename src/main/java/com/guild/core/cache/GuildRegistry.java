@@ -0,0 +1,227 @@
+package com.guild.core.cache;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import com.guild.models.Guild;
+import com.guild.models.GuildMember;
+
+/**
+ * Registro em memória de guildas e membros (write-through)
+ *
+ * O GuildService grava aqui toda alteração feita no banco de dados, de modo que as
+ * leituras são servidas da memória e só consultam o SQL quando há falta no cache.
+ */
+public class GuildRegistry {
+
+    private final Map<Integer, Guild> guildsById = new ConcurrentHashMap<>();
+    private final Map<String, Integer> guildIdsByName = new ConcurrentHashMap<>();
+    private final Map<String, Integer> guildIdsByTag = new ConcurrentHashMap<>();
+    private final Map<UUID, GuildMember> membersByPlayer = new ConcurrentHashMap<>();
+    private final Set<UUID> playersWithoutGuild = ConcurrentHashMap.newKeySet();
+
+    // Incrementado a cada escrita; leituras do SQL só são armazenadas se nada mudou no meio tempo
+    private final AtomicLong version = new AtomicLong();
+    private volatile boolean enabled = true;
+
+    /**
+     * Versão atual do registro (capturar antes de consultar o SQL)
+     */
+    public long version() {
+        return version.get();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        if (!enabled) {
+            clear();
+        }
+    }
+
+    // ==================== Guildas ====================
+
+    public Guild getGuildById(int guildId) {
+        return guildsById.get(guildId);
+    }
+
+    public Guild getGuildByName(String name) {
+        if (name == null) return null;
+        Integer guildId = guildIdsByName.get(name);
+        return guildId != null ? guildsById.get(guildId) : null;
+    }
+
+    public Guild getGuildByTag(String tag) {
+        if (tag == null) return null;
+        Integer guildId = guildIdsByTag.get(tag);
+        return guildId != null ? guildsById.get(guildId) : null;
+    }
+
+    /**
+     * Armazenar guilda lida do SQL, ignorando se houve escrita desde a versão informada
+     */
+    public Guild cacheGuild(Guild guild, long readVersion) {
+        if (guild == null || !enabled) return guild;
+        synchronized (this) {
+            if (version.get() != readVersion) {
+                Guild current = guildsById.get(guild.getId());
+                return current != null ? current : guild;
+            }
+            Guild current = guildsById.get(guild.getId());
+            if (current != null) {
+                // Manter a instância já compartilhada
+                return current;
+            }
+            index(guild);
+            return guild;
+        }
+    }
+
+    /**
+     * Gravar guilda (write-through após INSERT/UPDATE bem-sucedido)
+     */
+    public synchronized void putGuild(Guild guild) {
+        if (guild == null) return;
+        version.incrementAndGet();
+        if (!enabled) return;
+        unindex(guildsById.get(guild.getId()));
+        index(guild);
+    }
+
+    /**
+     * Aplicar alteração na guilda em cache, reindexando nome e tag
+     */
+    public synchronized void updateGuild(int guildId, Consumer<Guild> change) {
+        version.incrementAndGet();
+        Guild guild = guildsById.get(guildId);
+        if (guild == null) return;
+        unindex(guild);
+        change.accept(guild);
+        index(guild);
+    }
+
+    /**
+     * Remover guilda e todos os seus membros do cache
+     */
+    public synchronized void removeGuild(int guildId) {
+        version.incrementAndGet();
+        unindex(guildsById.remove(guildId));
+        membersByPlayer.values().removeIf(member -> {
+            if (member.getGuildId() == guildId) {
+                playersWithoutGuild.add(member.getPlayerUuid());
+                return true;
+            }
+            return false;
+        });
+    }
+
+    private void index(Guild guild) {
+        guildsById.put(guild.getId(), guild);
+        if (guild.getName() != null) {
+            guildIdsByName.put(guild.getName(), guild.getId());
+        }
+        if (guild.getTag() != null) {
+            guildIdsByTag.put(guild.getTag(), guild.getId());
+        }
+    }
+
+    private void unindex(Guild guild) {
+        if (guild == null) return;
+        if (guild.getName() != null) {
+            guildIdsByName.remove(guild.getName(), guild.getId());
+        }
+        if (guild.getTag() != null) {
+            guildIdsByTag.remove(guild.getTag(), guild.getId());
+        }
+    }
+
+    // ==================== Membros ====================
+
+    public GuildMember getMember(UUID playerUuid) {
+        return membersByPlayer.get(playerUuid);
+    }
+
+    /**
+     * Verificar se o jogador é sabidamente sem guilda (evita consultas repetidas)
+     */
+    public boolean isKnownWithoutGuild(UUID playerUuid) {
+        return playersWithoutGuild.contains(playerUuid);
+    }
+
+    /**
+     * Armazenar resultado de consulta de membro (null = jogador sem guilda)
+     */
+    public synchronized void cacheMember(UUID playerUuid, GuildMember member, long readVersion) {
+        if (!enabled || version.get() != readVersion) return;
+        if (member != null) {
+            membersByPlayer.put(playerUuid, member);
+            playersWithoutGuild.remove(playerUuid);
+        } else {
+            membersByPlayer.remove(playerUuid);
+            playersWithoutGuild.add(playerUuid);
+        }
+    }
+
+    /**
+     * Gravar membro (write-through após INSERT/UPDATE bem-sucedido)
+     */
+    public synchronized void putMember(GuildMember member) {
+        version.incrementAndGet();
+        if (!enabled || member == null) return;
+        membersByPlayer.put(member.getPlayerUuid(), member);
+        playersWithoutGuild.remove(member.getPlayerUuid());
+    }
+
+    /**
+     * Aplicar alteração no membro em cache
+     */
+    public synchronized void updateMember(UUID playerUuid, Consumer<GuildMember> change) {
+        version.incrementAndGet();
+        GuildMember member = membersByPlayer.get(playerUuid);
+        if (member != null) {
+            change.accept(member);
+        }
+    }
+
+    /**
+     * Remover membro (write-through após DELETE bem-sucedido)
+     */
+    public synchronized void removeMember(UUID playerUuid) {
+        version.incrementAndGet();
+        membersByPlayer.remove(playerUuid);
+        if (enabled) {
+            playersWithoutGuild.add(playerUuid);
+        }
+    }
+
+    /**
+     * Esquecer dados negativos do jogador (ex: ao sair do servidor)
+     */
+    public void forgetPlayer(UUID playerUuid) {
+        playersWithoutGuild.remove(playerUuid);
+    }
+
+    public synchronized void clear() {
+        version.incrementAndGet();
+        guildsById.clear();
+        guildIdsByName.clear();
+        guildIdsByTag.clear();
+        membersByPlayer.clear();
+        playersWithoutGuild.clear();
+    }
+
+    public int getGuildCount() {
+        return guildsById.size();
+    }
+
+    public int getMemberCount() {
+        return membersByPlayer.size();
+    }
+}
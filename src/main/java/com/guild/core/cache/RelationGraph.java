@@ -0,0 +1,294 @@
+package com.guild.core.cache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.guild.models.GuildRelation;
+
+/**
+ * Grafo em memória das relações entre guildas (write-through)
+ *
+ * Carregado uma única vez do banco e atualizado pelo GuildService a cada criação,
+ * alteração ou exclusão de relação. Cada linha é indexada pelo par ordenado
+ * (guild1_id, guild2_id), a mesma chave UNIQUE da tabela, numa chave long; a consulta
+ * entre duas guildas verifica os dois sentidos em O(1).
+ *
+ * Se existirem linhas nos dois sentidos (A→B e B→A), ambas ficam no grafo e a consulta
+ * do par devolve a mais recente (maior ID). A antiga consulta SQL com OR devolvia uma
+ * linha qualquer; o fallback ao banco agora segue a mesma regra.
+ *
+ * As relações ativas também ficam numa {@link ActiveRelationTable}, reconstruída a cada
+ * escrita, para consultas sem alocação no caminho de combate.
+ */
+public class RelationGraph {
+
+    private static final Comparator<GuildRelation> NEWEST_FIRST = Comparator.comparing(
+        GuildRelation::getCreatedAt, Comparator.nullsLast(Comparator.reverseOrder()));
+
+    private final Map<Long, GuildRelation> relationsByPair = new ConcurrentHashMap<>();
+    private final Map<Integer, GuildRelation> relationsById = new ConcurrentHashMap<>();
+    private final Map<Integer, Set<Integer>> adjacency = new ConcurrentHashMap<>();
+    private volatile ActiveRelationTable activeTable = ActiveRelationTable.EMPTY;
+
+    // Incrementado a cada escrita; a carga inicial é descartada se algo mudou no meio tempo
+    private final AtomicLong version = new AtomicLong();
+    private volatile boolean loaded = false;
+
+    /**
+     * Chave do par ordenado (guild1_id nos 32 bits altos, guild2_id nos baixos)
+     */
+    public static long pairKey(int guild1Id, int guild2Id) {
+        return ((long) guild1Id << 32) | (guild2Id & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Verificar se o grafo foi carregado (antes disso as leituras devem ir ao banco)
+     */
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * Versão atual do grafo (capturar antes de ler as relações do SQL)
+     */
+    public long version() {
+        return version.get();
+    }
+
+    /**
+     * Substituir o conteúdo pelas relações lidas do SQL (em ordem crescente de ID)
+     *
+     * @return false se houve escrita desde a versão informada (a carga deve ser refeita)
+     */
+    public synchronized boolean load(Collection<GuildRelation> relations, long readVersion) {
+        if (version.get() != readVersion) {
+            return false;
+        }
+        relationsByPair.clear();
+        relationsById.clear();
+        adjacency.clear();
+        for (GuildRelation relation : relations) {
+            index(relation);
+        }
+        rebuildActiveTable();
+        loaded = true;
+        return true;
+    }
+
+    /**
+     * Desativar o grafo (leituras voltam ao banco)
+     */
+    public synchronized void clear() {
+        version.incrementAndGet();
+        loaded = false;
+        relationsByPair.clear();
+        relationsById.clear();
+        adjacency.clear();
+        activeTable = ActiveRelationTable.EMPTY;
+    }
+
+    // ==================== Consultas ====================
+
+    /**
+     * Obter relação entre duas guildas em qualquer sentido (null se não houver)
+     *
+     * Com linhas nos dois sentidos, devolve a mais recente (maior ID).
+     */
+    public GuildRelation relationBetween(int guildA, int guildB) {
+        GuildRelation forward = relationsByPair.get(pairKey(guildA, guildB));
+        GuildRelation reverse = relationsByPair.get(pairKey(guildB, guildA));
+        if (forward == null) return reverse;
+        if (reverse == null) return forward;
+        return forward.getId() >= reverse.getId() ? forward : reverse;
+    }
+
+    /**
+     * Obter ordinal do tipo da relação ativa entre as guildas, sem alocar (-1 se não houver)
+     *
+     * Mesma regra de {@link #relationBetween}: vale a linha mais recente do par.
+     */
+    public int activeRelationType(int guildA, int guildB) {
+        return activeTable.typeOrdinal(guildA, guildB);
+    }
+
+    /**
+     * Obter relação pelo ID
+     */
+    public GuildRelation getRelation(int relationId) {
+        return relationsById.get(relationId);
+    }
+
+    /**
+     * Obter todas as relações da guilda (inclusive pendentes), mais recentes primeiro
+     */
+    public List<GuildRelation> relationsOf(int guildId) {
+        Set<Integer> others = adjacency.get(guildId);
+        if (others == null || others.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<GuildRelation> relations = new ArrayList<>(others.size());
+        for (int other : others) {
+            // Todas as linhas, nos dois sentidos, como a consulta SQL equivalente
+            GuildRelation outgoing = relationsByPair.get(pairKey(guildId, other));
+            if (outgoing != null) {
+                relations.add(outgoing);
+            }
+            GuildRelation incoming = relationsByPair.get(pairKey(other, guildId));
+            if (incoming != null) {
+                relations.add(incoming);
+            }
+        }
+        relations.sort(NEWEST_FIRST);
+        return relations;
+    }
+
+    /**
+     * Obter relações ativas da guilda do tipo informado
+     */
+    public List<GuildRelation> activeRelationsOf(int guildId, GuildRelation.RelationType type) {
+        Set<Integer> others = adjacency.get(guildId);
+        if (others == null || others.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<GuildRelation> relations = new ArrayList<>();
+        for (int other : others) {
+            GuildRelation relation = relationBetween(guildId, other);
+            if (isActive(relation, type)) {
+                relations.add(relation);
+            }
+        }
+        return relations;
+    }
+
+    public List<GuildRelation> alliesOf(int guildId) {
+        return activeRelationsOf(guildId, GuildRelation.RelationType.ALLY);
+    }
+
+    public List<GuildRelation> enemiesOf(int guildId) {
+        return activeRelationsOf(guildId, GuildRelation.RelationType.ENEMY);
+    }
+
+    public List<GuildRelation> atWarWith(int guildId) {
+        return activeRelationsOf(guildId, GuildRelation.RelationType.WAR);
+    }
+
+    /**
+     * Verificar se as duas guildas têm relação ativa do tipo informado
+     */
+    public boolean hasActiveRelation(int guildA, int guildB, GuildRelation.RelationType type) {
+        return isActive(relationBetween(guildA, guildB), type);
+    }
+
+    public boolean areAllies(int guildA, int guildB) {
+        return hasActiveRelation(guildA, guildB, GuildRelation.RelationType.ALLY);
+    }
+
+    public boolean areAtWar(int guildA, int guildB) {
+        return hasActiveRelation(guildA, guildB, GuildRelation.RelationType.WAR);
+    }
+
+    public int size() {
+        return relationsById.size();
+    }
+
+    // ==================== Escrita ====================
+
+    /**
+     * Gravar relação (write-through após INSERT/UPDATE bem-sucedido)
+     */
+    public synchronized void putRelation(GuildRelation relation) {
+        if (relation == null) return;
+        version.incrementAndGet();
+        if (!loaded) return;
+        unindex(relationsById.get(relation.getId()));
+        // Uma linha por par ordenado (UNIQUE na tabela); o sentido inverso é mantido
+        unindex(relationsByPair.get(pairKey(relation.getGuild1Id(), relation.getGuild2Id())));
+        index(relation);
+        rebuildActiveTable();
+    }
+
+    /**
+     * Remover relação pelo ID
+     */
+    public synchronized void removeRelation(int relationId) {
+        version.incrementAndGet();
+        unindex(relationsById.get(relationId));
+        rebuildActiveTable();
+    }
+
+    /**
+     * Remover todas as relações da guilda (guilda excluída)
+     */
+    public synchronized void removeGuild(int guildId) {
+        version.incrementAndGet();
+        Set<Integer> others = adjacency.get(guildId);
+        if (others == null) return;
+        for (int other : new ArrayList<>(others)) {
+            unindex(relationsByPair.get(pairKey(guildId, other)));
+            unindex(relationsByPair.get(pairKey(other, guildId)));
+        }
+        adjacency.remove(guildId);
+        rebuildActiveTable();
+    }
+
+    private static boolean isActive(GuildRelation relation, GuildRelation.RelationType type) {
+        return relation != null && relation.getType() == type
+            && relation.getStatus() == GuildRelation.RelationStatus.ACTIVE;
+    }
+
+    private void rebuildActiveTable() {
+        int capacity = relationsById.size();
+        long[] keys = new long[capacity];
+        int[] ordinals = new int[capacity];
+        int size = 0;
+        for (GuildRelation relation : relationsById.values()) {
+            // Só a linha mais recente de cada par, e apenas uma vez
+            if (size == capacity) break;
+            if (relation != relationBetween(relation.getGuild1Id(), relation.getGuild2Id())
+                    || relation.getStatus() != GuildRelation.RelationStatus.ACTIVE) {
+                continue;
+            }
+            keys[size] = ActiveRelationTable.unorderedKey(relation.getGuild1Id(), relation.getGuild2Id());
+            ordinals[size] = relation.getType().ordinal();
+            size++;
+        }
+        activeTable = ActiveRelationTable.build(keys, ordinals, size);
+    }
+
+    private void index(GuildRelation relation) {
+        relationsById.put(relation.getId(), relation);
+        relationsByPair.put(pairKey(relation.getGuild1Id(), relation.getGuild2Id()), relation);
+        adjacency.computeIfAbsent(relation.getGuild1Id(), id -> ConcurrentHashMap.newKeySet()).add(relation.getGuild2Id());
+        adjacency.computeIfAbsent(relation.getGuild2Id(), id -> ConcurrentHashMap.newKeySet()).add(relation.getGuild1Id());
+    }
+
+    private void unindex(GuildRelation relation) {
+        if (relation == null) return;
+        relationsById.remove(relation.getId(), relation);
+        int guild1Id = relation.getGuild1Id();
+        int guild2Id = relation.getGuild2Id();
+        // A aresta só sai quando não resta linha em nenhum dos sentidos
+        if (relationsByPair.remove(pairKey(guild1Id, guild2Id), relation)
+                && !relationsByPair.containsKey(pairKey(guild2Id, guild1Id))) {
+            removeEdge(guild1Id, guild2Id);
+            removeEdge(guild2Id, guild1Id);
+        }
+    }
+
+    private void removeEdge(int from, int to) {
+        Set<Integer> others = adjacency.get(from);
+        if (others != null) {
+            others.remove(to);
+            if (others.isEmpty()) {
+                adjacency.remove(from, others);
+            }
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.guild.core.chat;
+
+/**
+ * Canais de chat da guilda
+ */
+public enum ChatChannel {
+    GLOBAL("Global"),
+    GUILD("Guilda"),
+    OFFICER("Oficiais"),
+    ALLY("Aliados");
+
+    private final String displayName;
+
+    ChatChannel(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    /**
+     * Converter nome digitado no comando (null se inválido)
+     */
+    public static ChatChannel fromName(String name) {
+        switch (name.toLowerCase()) {
+            case "global":
+            case "off":
+                return GLOBAL;
+            case "guild":
+            case "guilda":
+            case "g":
+                return GUILD;
+            case "officer":
+            case "oficial":
+            case "o":
+                return OFFICER;
+            case "ally":
+            case "aliado":
+            case "a":
+                return ALLY;
+            default:
+                return null;
+        }
+    }
+}
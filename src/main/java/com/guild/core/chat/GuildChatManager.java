@@ -0,0 +1,156 @@
+package com.guild.core.chat;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.bukkit.Bukkit;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.entity.Player;
+
+import com.guild.GuildPlugin;
+import com.guild.core.session.GuildPresenceIndex;
+import com.guild.core.session.PlayerSession;
+import com.guild.core.session.PlayerSessionManager;
+import com.guild.core.utils.ColorUtils;
+import com.guild.models.GuildMember;
+import com.guild.models.GuildRelation;
+
+/**
+ * Gerenciador do chat da guilda (guilda, oficiais e aliados)
+ *
+ * Cada jogador escolhe um canal com /guild chat. A mensagem é formatada uma única vez por
+ * envio e entregue aos membros online a partir do {@link GuildPresenceIndex}, sem percorrer
+ * todos os jogadores do servidor nem consultar o banco de dados.
+ */
+public class GuildChatManager {
+
+    private final GuildPlugin plugin;
+    private final Map<UUID, ChatChannel> channels = new ConcurrentHashMap<>();
+    // Formatos já colorizados, recarregados com a configuração
+    private volatile Map<ChatChannel, String> formats = new EnumMap<>(ChatChannel.class);
+    private volatile boolean enabled = true;
+    private volatile boolean logToConsole = true;
+
+    public GuildChatManager(GuildPlugin plugin) {
+        this.plugin = plugin;
+        reloadFromConfig();
+    }
+
+    /**
+     * Recarregar configuração do chat (guild-chat.*)
+     */
+    public void reloadFromConfig() {
+        FileConfiguration config = plugin.getConfigManager().getMainConfig();
+        Map<ChatChannel, String> loaded = new EnumMap<>(ChatChannel.class);
+        loaded.put(ChatChannel.GUILD, ColorUtils.colorize(config.getString("guild-chat.formats.guild", "&a[Guilda] &f{player}&7: &f{message}")));
+        loaded.put(ChatChannel.OFFICER, ColorUtils.colorize(config.getString("guild-chat.formats.officer", "&b[Oficiais] &f{player}&7: &f{message}")));
+        loaded.put(ChatChannel.ALLY, ColorUtils.colorize(config.getString("guild-chat.formats.ally", "&d[Aliados] &7[{guild_tag}] &f{player}&7: &f{message}")));
+        this.formats = loaded;
+        this.enabled = config.getBoolean("guild-chat.enabled", true);
+        this.logToConsole = config.getBoolean("guild-chat.log-to-console", true);
+        if (!enabled) {
+            channels.clear();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Obter canal atual do jogador
+     */
+    public ChatChannel getChannel(UUID playerUuid) {
+        return channels.getOrDefault(playerUuid, ChatChannel.GLOBAL);
+    }
+
+    public void setChannel(UUID playerUuid, ChatChannel channel) {
+        if (channel == null || channel == ChatChannel.GLOBAL) {
+            channels.remove(playerUuid);
+        } else {
+            channels.put(playerUuid, channel);
+        }
+    }
+
+    /**
+     * Descartar canal do jogador (saída do servidor)
+     */
+    public void removePlayer(UUID playerUuid) {
+        channels.remove(playerUuid);
+    }
+
+    /**
+     * Verificar se o jogador pode usar o canal com a sessão atual
+     */
+    public boolean canUse(PlayerSession session, ChatChannel channel) {
+        if (channel == ChatChannel.GLOBAL) {
+            return true;
+        }
+        if (session == null || !session.hasGuild()) {
+            return false;
+        }
+        return channel != ChatChannel.OFFICER || isOfficer(session.getRole());
+    }
+
+    /**
+     * Enviar mensagem ao canal (pode ser chamado da thread assíncrona do chat)
+     *
+     * @return quantidade de destinatários online
+     */
+    public int send(Player sender, PlayerSession session, ChatChannel channel, String message) {
+        String format = formats.get(channel);
+        if (format == null || !canUse(session, channel)) {
+            return 0;
+        }
+
+        // Formatado uma única vez; a mensagem é substituída por último para não expandir placeholders digitados
+        String tag = session.getGuild().getTag();
+        String formatted = format
+            .replace("{guild_tag}", tag != null ? tag : "")
+            .replace("{guild}", session.getGuild().getName())
+            .replace("{player}", sender.getName())
+            .replace("{message}", message);
+
+        PlayerSessionManager sessionManager = plugin.getSessionManager();
+        GuildPresenceIndex presence = sessionManager.getPresenceIndex();
+        int delivered = deliver(sessionManager, presence.getOnlineMembers(session.getGuildId()), channel, formatted);
+        if (channel == ChatChannel.ALLY) {
+            for (GuildRelation relation : session.getActiveRelations()) {
+                if (relation.getType() == GuildRelation.RelationType.ALLY) {
+                    int allyGuildId = relation.getOtherGuildId(session.getGuildId());
+                    delivered += deliver(sessionManager, presence.getOnlineMembers(allyGuildId), channel, formatted);
+                }
+            }
+        }
+
+        if (logToConsole) {
+            Bukkit.getConsoleSender().sendMessage(formatted);
+        }
+        return delivered;
+    }
+
+    private int deliver(PlayerSessionManager sessionManager, Set<UUID> recipients, ChatChannel channel, String formatted) {
+        int delivered = 0;
+        for (UUID recipientUuid : recipients) {
+            if (channel == ChatChannel.OFFICER) {
+                PlayerSession recipientSession = sessionManager.getSession(recipientUuid);
+                if (recipientSession == null || !isOfficer(recipientSession.getRole())) {
+                    continue;
+                }
+            }
+            Player recipient = Bukkit.getPlayer(recipientUuid);
+            if (recipient != null) {
+                recipient.sendMessage(formatted);
+                delivered++;
+            }
+        }
+        return delivered;
+    }
+
+    private static boolean isOfficer(GuildMember.Role role) {
+        return role == GuildMember.Role.LEADER || role == GuildMember.Role.OFFICER;
+    }
+}
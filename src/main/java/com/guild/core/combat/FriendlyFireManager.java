@@ -0,0 +1,100 @@
+package com.guild.core.combat;
+
+import java.util.UUID;
+
+import org.bukkit.configuration.file.FileConfiguration;
+
+import com.guild.GuildPlugin;
+import com.guild.core.cache.RelationGraph;
+import com.guild.core.session.PlayerSession;
+import com.guild.models.GuildRelation;
+
+/**
+ * Proteção de combate entre membros da mesma guilda e guildas relacionadas
+ *
+ * Chamado a cada dano entre jogadores, portanto lê apenas as sessões em memória (ID da
+ * guilda como int) e a tabela de relações ativas do {@link RelationGraph}, que não aloca;
+ * nunca consulta o banco de dados. Os multiplicadores ficam em um array indexado pelo
+ * tipo de relação.
+ */
+public class FriendlyFireManager {
+
+    private static final GuildRelation.RelationType[] TYPES = GuildRelation.RelationType.values();
+
+    private final GuildPlugin plugin;
+    private volatile boolean enabled = true;
+    private volatile double sameGuildMultiplier = 0.0;
+    // Multiplicador por tipo de relação ativa (índice = ordinal)
+    private volatile double[] relationMultipliers = new double[TYPES.length];
+    private volatile double noRelationMultiplier = 1.0;
+
+    public FriendlyFireManager(GuildPlugin plugin) {
+        this.plugin = plugin;
+        reloadFromConfig();
+    }
+
+    /**
+     * Recarregar configuração de combate (combat.*)
+     */
+    public void reloadFromConfig() {
+        FileConfiguration config = plugin.getConfigManager().getMainConfig();
+        double[] loaded = new double[TYPES.length];
+        for (GuildRelation.RelationType type : TYPES) {
+            double fallback = type == GuildRelation.RelationType.ALLY ? 0.0 : 1.0;
+            loaded[type.ordinal()] = readMultiplier(config, type.name().toLowerCase(), fallback);
+        }
+        this.relationMultipliers = loaded;
+        this.sameGuildMultiplier = readMultiplier(config, "same-guild", 0.0);
+        this.noRelationMultiplier = readMultiplier(config, "none", 1.0);
+        this.enabled = config.getBoolean("combat.enabled", true);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Obter multiplicador de dano entre os jogadores (0 = dano cancelado, 1 = dano normal)
+     */
+    public double getDamageMultiplier(UUID attackerUuid, UUID victimUuid) {
+        if (!enabled) {
+            return 1.0;
+        }
+        PlayerSession attacker = plugin.getSessionManager().getSession(attackerUuid);
+        if (attacker == null || !attacker.hasGuild()) {
+            return 1.0;
+        }
+        PlayerSession victim = plugin.getSessionManager().getSession(victimUuid);
+        if (victim == null || !victim.hasGuild()) {
+            return 1.0;
+        }
+
+        int attackerGuild = attacker.getGuildId();
+        int victimGuild = victim.getGuildId();
+        if (attackerGuild == victimGuild) {
+            return sameGuildMultiplier;
+        }
+
+        int type = findActiveRelationType(attacker, attackerGuild, victimGuild);
+        return type < 0 ? noRelationMultiplier : relationMultipliers[type];
+    }
+
+    private int findActiveRelationType(PlayerSession attacker, int attackerGuild, int victimGuild) {
+        RelationGraph graph = plugin.getGuildService().getRelationGraph();
+        if (graph.isLoaded()) {
+            return graph.activeRelationType(attackerGuild, victimGuild);
+        }
+        // Grafo indisponível (cache desativado): relações ativas já carregadas na sessão
+        for (GuildRelation relation : attacker.getActiveRelations()) {
+            if (relation.getOtherGuildId(attackerGuild) == victimGuild
+                    && relation.getStatus() == GuildRelation.RelationStatus.ACTIVE) {
+                return relation.getType().ordinal();
+            }
+        }
+        return -1;
+    }
+
+    private static double readMultiplier(FileConfiguration config, String key, double fallback) {
+        return Math.max(0.0, config.getDouble("combat.damage-multipliers." + key, fallback));
+    }
+}
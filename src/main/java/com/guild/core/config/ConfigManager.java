@@ -71,6 +71,8 @@ public class ConfigManager {
         configs.clear();
         configFiles.clear();
         loadConfigs();
+        // Templates de placeholders compilados dependem dos textos da configuração
+        com.guild.core.utils.PlaceholderUtils.invalidateCache();
         logger.info("Recarregando todos os arquivos de configuração");
     }
     public String getString(String fileName, String path, String defaultValue) {
@@ -0,0 +1,182 @@
+package com.guild.core.database;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+/**
+ * Executor dedicado às operações de banco de dados
+ *
+ * Substitui o ForkJoinPool.commonPool() (compartilhado com todo o servidor) por um pool
+ * limitado ao tamanho do pool do Hikari, com fila de tamanho fixo e threads nomeadas.
+ * No Java 21+ pode usar threads virtuais, mantendo o mesmo limite de concorrência.
+ */
+public class DatabaseExecutor implements Executor {
+
+    private static final ThreadLocal<Boolean> DATABASE_THREAD = ThreadLocal.withInitial(() -> false);
+
+    private final Logger logger;
+    private final ExecutorService delegate;
+    private final Semaphore permits;
+    private final AtomicInteger pending = new AtomicInteger();
+    private final int maxPending;
+    private final int threads;
+    private final boolean virtualThreads;
+
+    public DatabaseExecutor(Logger logger, int threads, int queueSize, boolean useVirtualThreads) {
+        this.logger = logger;
+        this.threads = Math.max(1, threads);
+        this.maxPending = this.threads + Math.max(0, queueSize);
+
+        ExecutorService virtualExecutor = useVirtualThreads ? createVirtualThreadExecutor() : null;
+        if (virtualExecutor != null) {
+            this.delegate = virtualExecutor;
+            this.permits = new Semaphore(this.threads);
+            this.virtualThreads = true;
+        } else {
+            if (useVirtualThreads) {
+                logger.warning("Threads virtuais requerem Java 21+, usando pool de threads comum");
+            }
+            ThreadPoolExecutor pool = new ThreadPoolExecutor(this.threads, this.threads, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueSize)), new NamedThreadFactory("Guild-DB-"),
+                new ThreadPoolExecutor.AbortPolicy());
+            pool.allowCoreThreadTimeOut(true);
+            this.delegate = pool;
+            this.permits = null;
+            this.virtualThreads = false;
+        }
+    }
+
+    /**
+     * Verificar se a thread atual é uma thread do executor de banco de dados
+     */
+    public static boolean isDatabaseThread() {
+        return DATABASE_THREAD.get();
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        if (pending.incrementAndGet() > maxPending) {
+            pending.decrementAndGet();
+            throw new RejectedExecutionException("Fila do banco de dados cheia (" + maxPending + " tarefas pendentes)");
+        }
+        try {
+            delegate.execute(() -> {
+                boolean acquired = false;
+                DATABASE_THREAD.set(true);
+                try {
+                    if (permits != null) {
+                        permits.acquire();
+                        acquired = true;
+                    }
+                    command.run();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    if (acquired) {
+                        permits.release();
+                    }
+                    DATABASE_THREAD.set(false);
+                    pending.decrementAndGet();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            pending.decrementAndGet();
+            throw e;
+        }
+    }
+
+    /**
+     * Executar tarefa no executor de banco de dados
+     *
+     * Se chamado de uma thread do próprio executor (ex: wrapper síncrono dentro de outra
+     * tarefa), executa diretamente para não bloquear o pool esperando por si mesmo.
+     */
+    public <T> CompletableFuture<T> supplyAsync(Supplier<T> supplier) {
+        if (isDatabaseThread()) {
+            try {
+                return CompletableFuture.completedFuture(supplier.get());
+            } catch (Throwable t) {
+                return CompletableFuture.failedFuture(t);
+            }
+        }
+        try {
+            return CompletableFuture.supplyAsync(supplier, this);
+        } catch (RejectedExecutionException e) {
+            logger.warning("Tarefa de banco de dados rejeitada: " + e.getMessage());
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Executar tarefa sem retorno no executor de banco de dados
+     */
+    public CompletableFuture<Void> runAsync(Runnable runnable) {
+        return supplyAsync(() -> {
+            runnable.run();
+            return null;
+        });
+    }
+
+    public int getPendingTasks() {
+        return pending.get();
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    /**
+     * Encerrar executor aguardando as tarefas pendentes
+     */
+    public void shutdown(long timeout, TimeUnit unit) {
+        delegate.shutdown();
+        try {
+            if (!delegate.awaitTermination(timeout, unit)) {
+                logger.warning("Tarefas de banco de dados não concluídas a tempo: " + delegate.shutdownNow().size() + " descartadas");
+            }
+        } catch (InterruptedException e) {
+            delegate.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private ExecutorService createVirtualThreadExecutor() {
+        try {
+            // Resolvido por reflexão para manter compatibilidade com Java 17
+            return (ExecutorService) java.util.concurrent.Executors.class
+                .getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static final class NamedThreadFactory implements ThreadFactory {
+        private final String prefix;
+        private final AtomicInteger counter = new AtomicInteger(1);
+
+        private NamedThreadFactory(String prefix) {
+            this.prefix = prefix;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, prefix + counter.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
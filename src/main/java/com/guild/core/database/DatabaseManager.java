@@ -5,11 +5,15 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
 import org.bukkit.configuration.file.FileConfiguration;
 
 import com.guild.GuildPlugin;
+import com.guild.core.database.migration.SchemaMigrations;
+import com.guild.core.database.migration.SchemaMigrator;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
 
@@ -19,6 +23,8 @@ public class DatabaseManager {
     private final Logger logger;
     private HikariDataSource dataSource;
     private DatabaseType databaseType;
+    private DatabaseExecutor executor;
+    private QueryMetrics metrics;
     
     public DatabaseManager(GuildPlugin plugin) {
         this.plugin = plugin;
@@ -30,14 +36,21 @@ public class DatabaseManager {
         String type = config.getString("type", config.getString("database.type", "sqlite")).toLowerCase();
         
         try {
+            // Antes do pool: a espera por conexão é medida pelo próprio Hikari
+            initializeMetrics(config);
+            
             if ("mysql".equals(type)) {
                 initializeMySQL(config);
             } else {
                 initializeSQLite(config);
             }
             
+            initializeExecutor(config);
+            
             createTables();
             
+            runMigrations();
+            
             logger.info("Conexão com banco de dados inicializada com sucesso: " + databaseType);
             
         } catch (Exception e) {
@@ -66,6 +79,7 @@ public class DatabaseManager {
         hikariConfig.setIdleTimeout(config.getLong("mysql.idle-timeout", config.getLong("database.mysql.idle-timeout", 600000)));
         hikariConfig.setMaxLifetime(config.getLong("mysql.max-lifetime", config.getLong("database.mysql.max-lifetime", 1800000)));
         
+        applyPoolMetrics(hikariConfig);
         dataSource = new HikariDataSource(hikariConfig);
     }
     
@@ -103,9 +117,32 @@ public class DatabaseManager {
         initSql.append("PRAGMA busy_timeout=").append(busyTimeoutMs).append(";");
         hikariConfig.setConnectionInitSql(initSql.toString());
         
+        applyPoolMetrics(hikariConfig);
         dataSource = new HikariDataSource(hikariConfig);
     }
     
+    private void initializeExecutor(FileConfiguration config) {
+        // Uma thread por conexão do pool: mais threads apenas esperariam por conexões
+        int threads = dataSource.getMaximumPoolSize();
+        int queueSize = config.getInt("executor.queue-size", 1000);
+        boolean virtualThreads = config.getBoolean("executor.virtual-threads", false);
+        executor = new DatabaseExecutor(logger, threads, queueSize, virtualThreads);
+        logger.info("Executor do banco de dados iniciado: " + executor.getThreads() + " threads"
+            + (executor.isVirtualThreads() ? " (virtuais)" : "") + ", fila de " + queueSize + " tarefas");
+    }
+    
+    private void initializeMetrics(FileConfiguration config) {
+        metrics = new QueryMetrics(logger, config.getBoolean("metrics.enabled", true),
+            config.getLong("metrics.slow-query-threshold-ms", 250));
+        metrics.startDump(config.getLong("metrics.dump-interval-minutes", 0));
+    }
+    
+    private void applyPoolMetrics(HikariConfig hikariConfig) {
+        if (metrics.isEnabled()) {
+            hikariConfig.setMetricsTrackerFactory(metrics.poolTrackerFactory(hikariConfig.getConnectionTimeout()));
+        }
+    }
+    
     private void createTables() {
         if (databaseType == DatabaseType.SQLITE) {
             createSQLiteTables();
@@ -113,18 +150,13 @@ public class DatabaseManager {
             createMySQLTables();
         }
         
-        CompletableFuture.runAsync(() -> {
-            try {
-                Thread.sleep(1000);
-                checkAndAddMissingColumns();
-            } catch (Exception e) {
-                logger.warning("Erro ao verificar colunas do banco de dados de forma assíncrona: " + e.getMessage());
-            }
-        });
-        
         logger.info("Tabelas criadas com sucesso");
     }
     
+    private void runMigrations() throws SQLException {
+        new SchemaMigrator(this, logger).migrate(SchemaMigrations.all());
+    }
+    
     private void createSQLiteTables() {
         executeUpdate("""
             CREATE TABLE IF NOT EXISTS guilds (
@@ -321,7 +353,8 @@ public class DatabaseManager {
         if (dataSource == null) {
             throw new SQLException("Conexão com banco de dados não inicializada");
         }
-        return dataSource.getConnection();
+        Connection connection = dataSource.getConnection();
+        return metrics != null ? metrics.wrap(connection) : connection;
     }
     
     public int executeUpdate(String sql, Object... params) {
@@ -341,7 +374,78 @@ public class DatabaseManager {
     }
     
     public CompletableFuture<Integer> executeUpdateAsync(String sql, Object... params) {
-        return CompletableFuture.supplyAsync(() -> executeUpdate(sql, params));
+        return supplyAsync(() -> executeUpdate(sql, params));
+    }
+    
+    /**
+     * Executar várias instruções em uma única conexão e transação
+     *
+     * A transação é confirmada se o trabalho terminar normalmente e desfeita se ele lançar
+     * exceção; a exceção é repassada ao chamador.
+     */
+    public <T> T inTransaction(TransactionWork<T> work) throws SQLException {
+        try (Connection conn = getConnection()) {
+            boolean autoCommit = conn.getAutoCommit();
+            conn.setAutoCommit(false);
+            try {
+                T result = work.execute(conn);
+                conn.commit();
+                return result;
+            } catch (SQLException | RuntimeException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(autoCommit);
+            }
+        }
+    }
+    
+    /**
+     * Verificar se a exceção é uma violação de restrição UNIQUE (nome ou tag duplicados, etc.)
+     */
+    public static boolean isUniqueViolation(SQLException e) {
+        // MySQL: ER_DUP_ENTRY
+        if (e.getErrorCode() == 1062) {
+            return true;
+        }
+        String message = e.getMessage() != null ? e.getMessage() : "";
+        // SQLite: SQLITE_CONSTRAINT, detalhado na mensagem
+        if (e.getErrorCode() == 19 || e.getErrorCode() == 2067) {
+            return message.contains("UNIQUE");
+        }
+        String sqlState = e.getSQLState();
+        return sqlState != null && sqlState.startsWith("23") && message.toLowerCase().contains("duplicate");
+    }
+    
+    /**
+     * Executar tarefa de banco de dados no executor dedicado
+     */
+    public <T> CompletableFuture<T> supplyAsync(Supplier<T> supplier) {
+        if (executor == null) {
+            return CompletableFuture.failedFuture(new IllegalStateException("Executor do banco de dados não inicializado"));
+        }
+        return executor.supplyAsync(supplier);
+    }
+    
+    /**
+     * Executar tarefa de banco de dados sem retorno no executor dedicado
+     */
+    public CompletableFuture<Void> runAsync(Runnable runnable) {
+        if (executor == null) {
+            return CompletableFuture.failedFuture(new IllegalStateException("Executor do banco de dados não inicializado"));
+        }
+        return executor.runAsync(runnable);
+    }
+    
+    public DatabaseExecutor getExecutor() {
+        return executor;
+    }
+    
+    /**
+     * Obter métricas das consultas (null antes da inicialização)
+     */
+    public QueryMetrics getMetrics() {
+        return metrics;
     }
     
     public ResultSet executeQuery(String sql, Object... params) {
@@ -362,6 +466,12 @@ public class DatabaseManager {
     }
     
     public void close() {
+        if (executor != null) {
+            executor.shutdown(10, TimeUnit.SECONDS);
+        }
+        if (metrics != null) {
+            metrics.shutdown();
+        }
         if (dataSource != null && !dataSource.isClosed()) {
             dataSource.close();
             logger.info("Conexão com banco de dados fechada");
@@ -372,39 +482,6 @@ public class DatabaseManager {
         return databaseType;
     }
     
-    private void checkAndAddMissingColumns() {
-        try {
-            if (databaseType == DatabaseType.SQLITE) {
-                checkAndAddSQLiteColumns();
-            } else {
-                checkAndAddMySQLColumns();
-            }
-            logger.info("Verificação de colunas do banco de dados concluída");
-        } catch (Exception e) {
-            logger.warning("Erro ao verificar colunas do banco de dados: " + e.getMessage());
-        }
-    }
-    
-    private void checkAndAddSQLiteColumns() {
-        try (Connection conn = getConnection()) {
-            conn.setAutoCommit(false); 
-            
-            conn.commit(); 
-        } catch (SQLException e) {
-            logger.warning("Erro ao verificar colunas SQLite: " + e.getMessage());
-        }
-    }
-    
-    private void checkAndAddMySQLColumns() {
-        try (Connection conn = getConnection()) {
-            conn.setAutoCommit(false); 
-            
-            conn.commit(); 
-        } catch (SQLException e) {
-            logger.warning("Erro ao verificar colunas MySQL: " + e.getMessage());
-        }
-    }
-    
     public enum DatabaseType {
         MYSQL, SQLITE
     }
@@ -0,0 +1,287 @@
+package com.guild.core.database;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.IntConsumer;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import com.guild.core.time.TimeProvider;
+import com.guild.models.GuildLog;
+
+/**
+ * Gravação em lote (write-behind) dos logs de auditoria das guildas
+ *
+ * As entradas são enfileiradas e gravadas em um único lote JDBC, em uma transação, a cada
+ * intervalo configurado ou quando a fila atinge o tamanho do lote. Quem registra o log nunca
+ * espera nem grava na própria thread (pode ser a thread principal): com a fila cheia, a
+ * entrada é entregue ao executor do banco e, se ele também estiver cheio, é descartada e
+ * contabilizada. Ao desligar, todas as entradas pendentes são gravadas.
+ */
+public class GuildLogSink {
+
+    private static final String INSERT_SQL = "INSERT INTO guild_logs (guild_id, guild_name, player_uuid, player_name, log_type, description, details, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final DatabaseManager databaseManager;
+    private final Logger logger;
+    private final BlockingQueue<PendingLog> queue;
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean(false);
+    private final ScheduledExecutorService scheduler;
+    private final AtomicLong dropped = new AtomicLong();
+    private final int batchSize;
+    private volatile boolean closed = false;
+    private volatile IntConsumer writeListener;
+
+    public GuildLogSink(DatabaseManager databaseManager, Logger logger, long flushIntervalMillis,
+                        int batchSize, int queueCapacity) {
+        this.databaseManager = databaseManager;
+        this.logger = logger;
+        this.batchSize = Math.max(1, batchSize);
+        this.queue = new LinkedBlockingQueue<>(Math.max(this.batchSize, queueCapacity));
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "Guild-LogSink");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = Math.max(50, flushIntervalMillis);
+        scheduler.scheduleWithFixedDelay(this::flushQuietly, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Definir ouvinte notificado (com o ID da guilda) a cada log gravado com sucesso
+     *
+     * O ouvinte é chamado com a trava de gravação adquirida, portanto é serializado com
+     * {@link #callFlushed(Supplier)}.
+     */
+    public void setWriteListener(IntConsumer writeListener) {
+        this.writeListener = writeListener;
+    }
+
+    /**
+     * Enfileirar log; o futuro é concluído quando a entrada for gravada
+     */
+    public CompletableFuture<Boolean> submit(GuildLog log) {
+        PendingLog pending = new PendingLog(log, TimeProvider.nowString());
+        if (closed) {
+            writeNow(pending);
+            return pending.future;
+        }
+
+        if (!queue.offer(pending)) {
+            overflow(pending);
+            return pending.future;
+        }
+
+        if (closed) {
+            // Desligamento iniciado durante o enfileiramento
+            flush();
+            return pending.future;
+        }
+
+        if (queue.size() >= batchSize && flushScheduled.compareAndSet(false, true)) {
+            try {
+                scheduler.execute(() -> {
+                    flushScheduled.set(false);
+                    flushQuietly();
+                });
+            } catch (RuntimeException e) {
+                flushScheduled.set(false);
+            }
+        }
+        return pending.future;
+    }
+
+    /**
+     * Gravar todas as entradas pendentes (bloqueante)
+     */
+    public void flush() {
+        // Sem pendências e sem lote em gravação: nada a esperar
+        if (queue.isEmpty() && !flushLock.isLocked()) {
+            return;
+        }
+        flushLock.lock();
+        try {
+            List<PendingLog> batch = new ArrayList<>(batchSize);
+            while (queue.drainTo(batch, batchSize) > 0) {
+                writeBatch(batch);
+                batch.clear();
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Gravar pendências e executar a leitura sem que nenhum lote seja gravado no meio
+     */
+    public <T> T callFlushed(Supplier<T> reader) {
+        flushLock.lock();
+        try {
+            flush();
+            return reader.get();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    public int getPendingCount() {
+        return queue.size();
+    }
+
+    /**
+     * Logs descartados por fila cheia desde a inicialização
+     */
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    /**
+     * Parar o agendamento e gravar tudo o que estiver pendente
+     */
+    public void close() {
+        closed = true;
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        int pending = queue.size();
+        flush();
+        if (pending > 0) {
+            logger.info("Logs de guilda pendentes gravados ao desligar: " + pending);
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (Exception e) {
+            logger.severe("Erro ao gravar lote de logs da guilda: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Fila cheia: gravar no executor do banco, sem bloquear quem registrou o log
+     */
+    private void overflow(PendingLog pending) {
+        DatabaseExecutor executor = databaseManager.getExecutor();
+        if (executor != null) {
+            try {
+                executor.execute(() -> writeNow(pending));
+                return;
+            } catch (RejectedExecutionException e) {
+                // Executor também saturado: descartar
+            }
+        }
+        long count = dropped.incrementAndGet();
+        if (count == 1 || count % 1000 == 0) {
+            logger.warning("Fila de logs da guilda cheia, logs descartados: " + count);
+        }
+        pending.future.complete(false);
+    }
+
+    private void writeNow(PendingLog pending) {
+        flushLock.lock();
+        try {
+            writeBatch(List.of(pending));
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void writeBatch(List<PendingLog> batch) {
+        try (Connection conn = databaseManager.getConnection()) {
+            boolean autoCommit = conn.getAutoCommit();
+            conn.setAutoCommit(false);
+            try (PreparedStatement stmt = conn.prepareStatement(INSERT_SQL)) {
+                for (PendingLog pending : batch) {
+                    bind(stmt, pending);
+                    stmt.addBatch();
+                }
+                stmt.executeBatch();
+                conn.commit();
+                for (PendingLog pending : batch) {
+                    written(pending);
+                }
+                return;
+            } catch (SQLException e) {
+                conn.rollback();
+                logger.warning("Falha ao gravar lote de " + batch.size() + " logs, gravando individualmente: " + e.getMessage());
+            } finally {
+                conn.setAutoCommit(autoCommit);
+            }
+            writeIndividually(conn, batch);
+        } catch (SQLException e) {
+            logger.severe("Erro ao registrar log da guilda: " + e.getMessage());
+            for (PendingLog pending : batch) {
+                pending.future.complete(false);
+            }
+        }
+    }
+
+    private void writeIndividually(Connection conn, List<PendingLog> batch) {
+        for (PendingLog pending : batch) {
+            try (PreparedStatement stmt = conn.prepareStatement(INSERT_SQL)) {
+                bind(stmt, pending);
+                if (stmt.executeUpdate() > 0) {
+                    written(pending);
+                } else {
+                    pending.future.complete(false);
+                }
+            } catch (SQLException e) {
+                logger.severe("Erro ao registrar log da guilda: " + e.getMessage());
+                pending.future.complete(false);
+            }
+        }
+    }
+
+    private void written(PendingLog pending) {
+        IntConsumer listener = writeListener;
+        if (listener != null) {
+            try {
+                listener.accept(pending.log.getGuildId());
+            } catch (Exception e) {
+                logger.warning("Erro no ouvinte de logs da guilda: " + e.getMessage());
+            }
+        }
+        pending.future.complete(true);
+    }
+
+    private void bind(PreparedStatement stmt, PendingLog pending) throws SQLException {
+        GuildLog log = pending.log;
+        stmt.setInt(1, log.getGuildId());
+        stmt.setString(2, log.getGuildName());
+        stmt.setString(3, log.getPlayerUuid());
+        stmt.setString(4, log.getPlayerName());
+        stmt.setString(5, log.getLogType().name());
+        stmt.setString(6, log.getDescription());
+        stmt.setString(7, log.getDetails());
+        stmt.setString(8, pending.createdAt);
+    }
+
+    private static final class PendingLog {
+        private final GuildLog log;
+        private final String createdAt;
+        private final CompletableFuture<Boolean> future = new CompletableFuture<>();
+
+        private PendingLog(GuildLog log, String createdAt) {
+            this.log = log;
+            this.createdAt = createdAt;
+        }
+    }
+}
@@ -0,0 +1,368 @@
+package com.guild.core.database;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLWarning;
+import java.sql.Statement;
+import java.util.function.ToLongFunction;
+
+import com.guild.core.profiling.GuildQueryEvent;
+
+/**
+ * Statement que mede cada execute* e repassa a medição ao {@link QueryMetrics}
+ *
+ * Delegação escrita à mão, sem proxy reflexivo. A latência é medida do início ao retorno
+ * do execute*; as linhas registradas são as afetadas (consultas registram 0, o ResultSet
+ * não é envolvido).
+ */
+class InstrumentedStatement<T extends Statement> implements Statement {
+
+    /**
+     * Chamada JDBC medida
+     */
+    @FunctionalInterface
+    interface SqlCall<R> {
+        R call() throws SQLException;
+    }
+
+    protected final T delegate;
+    protected final String query;
+    private final Connection connection;
+    private final QueryMetrics metrics;
+
+    /**
+     * @param query SQL da PreparedStatement (null em Statement simples, que recebe o SQL no execute*)
+     */
+    InstrumentedStatement(T delegate, Connection connection, QueryMetrics metrics, String query) {
+        this.delegate = delegate;
+        this.connection = connection;
+        this.metrics = metrics;
+        this.query = query;
+    }
+
+    /**
+     * Executar a chamada medindo latência, linhas afetadas (null = não se aplica) e falhas
+     */
+    final <R> R time(String sql, SqlCall<R> call, ToLongFunction<R> affectedRows) throws SQLException {
+        GuildQueryEvent event = new GuildQueryEvent();
+        event.begin();
+        long start = System.nanoTime();
+        R result;
+        try {
+            result = call.call();
+        } catch (SQLException | RuntimeException e) {
+            metrics.recordQuery(sql, System.nanoTime() - start, 0, true);
+            event.finish(metrics.nameOf(sql), 0, true);
+            throw e;
+        }
+        long rows = affectedRows != null ? Math.max(0, affectedRows.applyAsLong(result)) : 0;
+        metrics.recordQuery(sql, System.nanoTime() - start, rows, false);
+        event.finish(metrics.nameOf(sql), rows, false);
+        return result;
+    }
+
+    private String batchQuery() {
+        return query != null ? query : "?";
+    }
+
+    static long affectedRows(int[] counts) {
+        long rows = 0;
+        for (int count : counts) {
+            rows += Math.max(0, count);
+        }
+        return rows;
+    }
+
+    static long affectedRows(long[] counts) {
+        long rows = 0;
+        for (long count : counts) {
+            rows += Math.max(0, count);
+        }
+        return rows;
+    }
+
+    // ==================== Execuções medidas ====================
+
+    @Override
+    public ResultSet executeQuery(String sql) throws SQLException {
+        return time(sql, () -> delegate.executeQuery(sql), null);
+    }
+
+    @Override
+    public int executeUpdate(String sql) throws SQLException {
+        return time(sql, () -> delegate.executeUpdate(sql), Integer::longValue);
+    }
+
+    @Override
+    public boolean execute(String sql) throws SQLException {
+        return time(sql, () -> delegate.execute(sql), null);
+    }
+
+    @Override
+    public int[] executeBatch() throws SQLException {
+        return time(batchQuery(), () -> delegate.executeBatch(), InstrumentedStatement::affectedRows);
+    }
+
+    @Override
+    public int executeUpdate(String sql, int autoGeneratedKeys) throws SQLException {
+        return time(sql, () -> delegate.executeUpdate(sql, autoGeneratedKeys), Integer::longValue);
+    }
+
+    @Override
+    public int executeUpdate(String sql, int[] columnIndexes) throws SQLException {
+        return time(sql, () -> delegate.executeUpdate(sql, columnIndexes), Integer::longValue);
+    }
+
+    @Override
+    public int executeUpdate(String sql, String[] columnNames) throws SQLException {
+        return time(sql, () -> delegate.executeUpdate(sql, columnNames), Integer::longValue);
+    }
+
+    @Override
+    public boolean execute(String sql, int autoGeneratedKeys) throws SQLException {
+        return time(sql, () -> delegate.execute(sql, autoGeneratedKeys), null);
+    }
+
+    @Override
+    public boolean execute(String sql, int[] columnIndexes) throws SQLException {
+        return time(sql, () -> delegate.execute(sql, columnIndexes), null);
+    }
+
+    @Override
+    public boolean execute(String sql, String[] columnNames) throws SQLException {
+        return time(sql, () -> delegate.execute(sql, columnNames), null);
+    }
+
+    @Override
+    public long[] executeLargeBatch() throws SQLException {
+        return time(batchQuery(), () -> delegate.executeLargeBatch(), InstrumentedStatement::affectedRows);
+    }
+
+    @Override
+    public long executeLargeUpdate(String sql) throws SQLException {
+        return time(sql, () -> delegate.executeLargeUpdate(sql), Long::longValue);
+    }
+
+    @Override
+    public long executeLargeUpdate(String sql, int autoGeneratedKeys) throws SQLException {
+        return time(sql, () -> delegate.executeLargeUpdate(sql, autoGeneratedKeys), Long::longValue);
+    }
+
+    @Override
+    public long executeLargeUpdate(String sql, int[] columnIndexes) throws SQLException {
+        return time(sql, () -> delegate.executeLargeUpdate(sql, columnIndexes), Long::longValue);
+    }
+
+    @Override
+    public long executeLargeUpdate(String sql, String[] columnNames) throws SQLException {
+        return time(sql, () -> delegate.executeLargeUpdate(sql, columnNames), Long::longValue);
+    }
+
+    // ==================== Delegação ====================
+
+    @Override
+    public void close() throws SQLException {
+        delegate.close();
+    }
+
+    @Override
+    public int getMaxFieldSize() throws SQLException {
+        return delegate.getMaxFieldSize();
+    }
+
+    @Override
+    public void setMaxFieldSize(int max) throws SQLException {
+        delegate.setMaxFieldSize(max);
+    }
+
+    @Override
+    public int getMaxRows() throws SQLException {
+        return delegate.getMaxRows();
+    }
+
+    @Override
+    public void setMaxRows(int max) throws SQLException {
+        delegate.setMaxRows(max);
+    }
+
+    @Override
+    public void setEscapeProcessing(boolean enable) throws SQLException {
+        delegate.setEscapeProcessing(enable);
+    }
+
+    @Override
+    public int getQueryTimeout() throws SQLException {
+        return delegate.getQueryTimeout();
+    }
+
+    @Override
+    public void setQueryTimeout(int seconds) throws SQLException {
+        delegate.setQueryTimeout(seconds);
+    }
+
+    @Override
+    public void cancel() throws SQLException {
+        delegate.cancel();
+    }
+
+    @Override
+    public SQLWarning getWarnings() throws SQLException {
+        return delegate.getWarnings();
+    }
+
+    @Override
+    public void clearWarnings() throws SQLException {
+        delegate.clearWarnings();
+    }
+
+    @Override
+    public void setCursorName(String name) throws SQLException {
+        delegate.setCursorName(name);
+    }
+
+    @Override
+    public ResultSet getResultSet() throws SQLException {
+        return delegate.getResultSet();
+    }
+
+    @Override
+    public int getUpdateCount() throws SQLException {
+        return delegate.getUpdateCount();
+    }
+
+    @Override
+    public boolean getMoreResults() throws SQLException {
+        return delegate.getMoreResults();
+    }
+
+    @Override
+    public void setFetchDirection(int direction) throws SQLException {
+        delegate.setFetchDirection(direction);
+    }
+
+    @Override
+    public int getFetchDirection() throws SQLException {
+        return delegate.getFetchDirection();
+    }
+
+    @Override
+    public void setFetchSize(int rows) throws SQLException {
+        delegate.setFetchSize(rows);
+    }
+
+    @Override
+    public int getFetchSize() throws SQLException {
+        return delegate.getFetchSize();
+    }
+
+    @Override
+    public int getResultSetConcurrency() throws SQLException {
+        return delegate.getResultSetConcurrency();
+    }
+
+    @Override
+    public int getResultSetType() throws SQLException {
+        return delegate.getResultSetType();
+    }
+
+    @Override
+    public void addBatch(String sql) throws SQLException {
+        delegate.addBatch(sql);
+    }
+
+    @Override
+    public void clearBatch() throws SQLException {
+        delegate.clearBatch();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return connection;
+    }
+
+    @Override
+    public boolean getMoreResults(int current) throws SQLException {
+        return delegate.getMoreResults(current);
+    }
+
+    @Override
+    public ResultSet getGeneratedKeys() throws SQLException {
+        return delegate.getGeneratedKeys();
+    }
+
+    @Override
+    public int getResultSetHoldability() throws SQLException {
+        return delegate.getResultSetHoldability();
+    }
+
+    @Override
+    public boolean isClosed() throws SQLException {
+        return delegate.isClosed();
+    }
+
+    @Override
+    public void setPoolable(boolean poolable) throws SQLException {
+        delegate.setPoolable(poolable);
+    }
+
+    @Override
+    public boolean isPoolable() throws SQLException {
+        return delegate.isPoolable();
+    }
+
+    @Override
+    public void closeOnCompletion() throws SQLException {
+        delegate.closeOnCompletion();
+    }
+
+    @Override
+    public boolean isCloseOnCompletion() throws SQLException {
+        return delegate.isCloseOnCompletion();
+    }
+
+    @Override
+    public long getLargeUpdateCount() throws SQLException {
+        return delegate.getLargeUpdateCount();
+    }
+
+    @Override
+    public void setLargeMaxRows(long max) throws SQLException {
+        delegate.setLargeMaxRows(max);
+    }
+
+    @Override
+    public long getLargeMaxRows() throws SQLException {
+        return delegate.getLargeMaxRows();
+    }
+
+    @Override
+    public String enquoteLiteral(String val) throws SQLException {
+        return delegate.enquoteLiteral(val);
+    }
+
+    @Override
+    public String enquoteIdentifier(String identifier, boolean alwaysQuote) throws SQLException {
+        return delegate.enquoteIdentifier(identifier, alwaysQuote);
+    }
+
+    @Override
+    public boolean isSimpleIdentifier(String identifier) throws SQLException {
+        return delegate.isSimpleIdentifier(identifier);
+    }
+
+    @Override
+    public String enquoteNCharLiteral(String val) throws SQLException {
+        return delegate.enquoteNCharLiteral(val);
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        return iface.isInstance(delegate) ? iface.cast(delegate) : delegate.unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return iface.isInstance(delegate) || delegate.isWrapperFor(iface);
+    }
+}
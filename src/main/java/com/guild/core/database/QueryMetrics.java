@@ -0,0 +1,218 @@
+package com.guild.core.database;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+
+/**
+ * Métricas das consultas SQL e da espera por conexões do pool
+ *
+ * Cada instrução é identificada pelo próprio SQL normalizado (espaços colapsados e listas
+ * de parâmetros "?, ?, ..." reduzidas), com histograma de latência, linhas e erros.
+ * Consultas acima do limite configurado são registradas no log como consultas lentas.
+ */
+public class QueryMetrics {
+
+    // Limite de nomes distintos; SQL montado dinamicamente não deve crescer o mapa sem limite
+    private static final int MAX_QUERIES = 512;
+    private static final String OVERFLOW_NAME = "(outras consultas)";
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern PARAMETER_LIST = Pattern.compile("\\?(\\s*,\\s*\\?)+");
+
+    private final Logger logger;
+    private final Map<String, QueryStats> queries = new ConcurrentHashMap<>();
+    // SQL original -> nome normalizado, para não normalizar a cada execução
+    private final Map<String, String> names = new ConcurrentHashMap<>();
+    private final LatencyHistogram poolWait = new LatencyHistogram();
+    private final LongAdder poolErrors = new LongAdder();
+    private final boolean enabled;
+    private final long slowQueryNanos;
+    private ScheduledExecutorService dumpScheduler;
+
+    public QueryMetrics(Logger logger, boolean enabled, long slowQueryThresholdMillis) {
+        this.logger = logger;
+        this.enabled = enabled;
+        this.slowQueryNanos = slowQueryThresholdMillis > 0 ? TimeUnit.MILLISECONDS.toNanos(slowQueryThresholdMillis) : Long.MAX_VALUE;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Envolver conexão do pool para medir as instruções executadas nela
+     */
+    public Connection wrap(Connection connection) {
+        return enabled ? new InstrumentedConnection(connection, this) : connection;
+    }
+
+    /**
+     * Fábrica de rastreadores do Hikari: o próprio pool informa a espera por conexão
+     */
+    public MetricsTrackerFactory poolTrackerFactory(long connectionTimeoutMillis) {
+        long timeoutNanos = TimeUnit.MILLISECONDS.toNanos(connectionTimeoutMillis);
+        return (poolName, poolStats) -> new IMetricsTracker() {
+            @Override
+            public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+                recordPoolWait(elapsedAcquiredNanos, false);
+            }
+
+            @Override
+            public void recordConnectionTimeout() {
+                // Nenhuma conexão dentro do connection-timeout
+                recordPoolWait(timeoutNanos, true);
+            }
+        };
+    }
+
+    /**
+     * Registrar o tempo de espera por uma conexão do pool
+     */
+    public void recordPoolWait(long nanos, boolean failed) {
+        if (!enabled) {
+            return;
+        }
+        poolWait.record(nanos);
+        if (failed) {
+            poolErrors.increment();
+        }
+    }
+
+    /**
+     * Registrar execução de uma instrução (linhas = linhas afetadas)
+     */
+    public void recordQuery(String sql, long nanos, long rows, boolean failed) {
+        String name = nameOf(sql);
+        QueryStats stats = queries.get(name);
+        if (stats == null) {
+            if (queries.size() >= MAX_QUERIES) {
+                name = OVERFLOW_NAME;
+            }
+            stats = queries.computeIfAbsent(name, key -> new QueryStats());
+        }
+        stats.latency.record(nanos);
+        stats.rows.add(rows);
+        if (failed) {
+            stats.errors.increment();
+        }
+        if (nanos >= slowQueryNanos) {
+            logger.warning(String.format("Consulta lenta (%.1f ms): %s", nanos / 1_000_000.0, name));
+        }
+    }
+
+    public LatencyHistogram getPoolWait() {
+        return poolWait;
+    }
+
+    public long getPoolErrors() {
+        return poolErrors.sum();
+    }
+
+    /**
+     * Obter as consultas ordenadas pelo tempo total gasto (maior primeiro)
+     */
+    public List<Map.Entry<String, QueryStats>> getTopQueries(int limit) {
+        List<Map.Entry<String, QueryStats>> entries = new ArrayList<>(queries.entrySet());
+        entries.sort(Comparator.comparingDouble((Map.Entry<String, QueryStats> entry) -> entry.getValue().latency.getTotalMillis()).reversed());
+        return entries.size() > limit ? entries.subList(0, limit) : entries;
+    }
+
+    public void reset() {
+        queries.clear();
+        poolWait.reset();
+        poolErrors.reset();
+    }
+
+    /**
+     * Registrar periodicamente um resumo das métricas no log (0 desativa)
+     */
+    public void startDump(long intervalMinutes) {
+        if (!enabled || intervalMinutes <= 0) {
+            return;
+        }
+        dumpScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "Guild-QueryMetrics");
+            thread.setDaemon(true);
+            return thread;
+        });
+        dumpScheduler.scheduleAtFixedRate(this::dump, intervalMinutes, intervalMinutes, TimeUnit.MINUTES);
+    }
+
+    public void shutdown() {
+        if (dumpScheduler != null) {
+            dumpScheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * Escrever o resumo das métricas no log
+     */
+    public void dump() {
+        try {
+            logger.info(String.format("Métricas do banco: espera por conexão n=%d p50=%.1fms p95=%.1fms p99=%.1fms erros=%d",
+                poolWait.getCount(), poolWait.getPercentileMillis(50), poolWait.getPercentileMillis(95),
+                poolWait.getPercentileMillis(99), getPoolErrors()));
+            for (Map.Entry<String, QueryStats> entry : getTopQueries(10)) {
+                logger.info("  " + entry.getValue().format() + " | " + entry.getKey());
+            }
+        } catch (Exception e) {
+            logger.warning("Erro ao registrar métricas do banco: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Obter o nome normalizado da instrução
+     */
+    String nameOf(String sql) {
+        String name = names.get(sql);
+        if (name == null) {
+            name = PARAMETER_LIST.matcher(WHITESPACE.matcher(sql.trim()).replaceAll(" ")).replaceAll("?...");
+            if (names.size() < MAX_QUERIES * 4) {
+                names.put(sql, name);
+            }
+        }
+        return name;
+    }
+
+    /**
+     * Estatísticas acumuladas de uma instrução
+     */
+    public static final class QueryStats {
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final LongAdder rows = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+
+        public LatencyHistogram getLatency() {
+            return latency;
+        }
+
+        public long getRows() {
+            return rows.sum();
+        }
+
+        public long getErrors() {
+            return errors.sum();
+        }
+
+        /**
+         * Resumo em uma linha: execuções, percentis, linhas e erros
+         */
+        public String format() {
+            return String.format("n=%d p50=%.1fms p95=%.1fms p99=%.1fms max=%.1fms linhas=%d erros=%d",
+                latency.getCount(), latency.getPercentileMillis(50), latency.getPercentileMillis(95),
+                latency.getPercentileMillis(99), latency.getMaxMillis(), getRows(), getErrors());
+        }
+    }
+}
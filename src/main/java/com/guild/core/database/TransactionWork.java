@@ -0,0 +1,13 @@
+package com.guild.core.database;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Unidade de trabalho executada em uma única conexão, dentro de uma transação
+ */
+@FunctionalInterface
+public interface TransactionWork<T> {
+
+    T execute(Connection conn) throws SQLException;
+}
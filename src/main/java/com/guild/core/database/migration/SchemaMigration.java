@@ -0,0 +1,53 @@
+package com.guild.core.database.migration;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import com.guild.core.database.DatabaseManager.DatabaseType;
+
+/**
+ * Migração de esquema versionada com scripts por dialeto
+ */
+public final class SchemaMigration {
+
+    private final int version;
+    private final String description;
+    private final List<String> sqliteStatements;
+    private final List<String> mysqlStatements;
+
+    private SchemaMigration(int version, String description, List<String> sqliteStatements, List<String> mysqlStatements) {
+        this.version = version;
+        this.description = description;
+        this.sqliteStatements = sqliteStatements;
+        this.mysqlStatements = mysqlStatements;
+    }
+
+    /**
+     * Migração com scripts diferentes para SQLite e MySQL
+     */
+    public static SchemaMigration of(int version, String description, String[] sqlite, String[] mysql) {
+        return new SchemaMigration(version, description,
+            Collections.unmodifiableList(Arrays.asList(sqlite)),
+            Collections.unmodifiableList(Arrays.asList(mysql)));
+    }
+
+    /**
+     * Migração com o mesmo script para os dois dialetos
+     */
+    public static SchemaMigration of(int version, String description, String... statements) {
+        return of(version, description, statements, statements);
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public List<String> getStatements(DatabaseType type) {
+        return type == DatabaseType.MYSQL ? mysqlStatements : sqliteStatements;
+    }
+}
@@ -0,0 +1,63 @@
+package com.guild.core.database.migration;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Lista de migrações de esquema, em ordem de versão
+ *
+ * Para alterar o esquema, adicione uma nova migração ao final da lista com a próxima
+ * versão; migrações já publicadas não devem ser editadas.
+ */
+public final class SchemaMigrations {
+
+    private static final String[][] V1_INDEXES = {
+        // Busca de membro/guilda do jogador
+        {"idx_guild_members_player", "guild_members", "player_uuid"},
+        // Logs da guilda ordenados por data e limpeza de logs antigos
+        {"idx_guild_logs_guild_created", "guild_logs", "guild_id, created_at"},
+        {"idx_guild_logs_created", "guild_logs", "created_at"},
+        // Aplicações pendentes/histórico da guilda e aplicações do jogador
+        {"idx_guild_applications_guild_status", "guild_applications", "guild_id, status, created_at"},
+        {"idx_guild_applications_player", "guild_applications", "player_uuid, guild_id, status"},
+        // Convites pendentes e não expirados do jogador
+        {"idx_guild_invites_player_status", "guild_invites", "player_uuid, status, expires_at"},
+        // Relações em que a guilda é a segunda parte (guild1_id já é coberto pela UNIQUE)
+        {"idx_guild_relations_guild2", "guild_relations", "guild2_id"}
+    };
+
+    private static final String[][] V2_INDEXES = {
+        // Paginação de logs por cursor (WHERE guild_id = ? AND id < ? ORDER BY id DESC)
+        {"idx_guild_logs_guild_id", "guild_logs", "guild_id, id"}
+    };
+
+    private static final List<SchemaMigration> MIGRATIONS = Collections.unmodifiableList(Arrays.asList(
+        SchemaMigration.of(1, "Índices para consultas frequentes", sqliteIndexes(V1_INDEXES), mysqlIndexes(V1_INDEXES)),
+        SchemaMigration.of(2, "Índice para paginação de logs por cursor", sqliteIndexes(V2_INDEXES), mysqlIndexes(V2_INDEXES))
+    ));
+
+    private SchemaMigrations() {
+    }
+
+    public static List<SchemaMigration> all() {
+        return MIGRATIONS;
+    }
+
+    static String[] sqliteIndexes(String[][] indexes) {
+        String[] statements = new String[indexes.length];
+        for (int i = 0; i < indexes.length; i++) {
+            statements[i] = "CREATE INDEX IF NOT EXISTS " + indexes[i][0] + " ON " + indexes[i][1] + " (" + indexes[i][2] + ")";
+        }
+        return statements;
+    }
+
+    static String[] mysqlIndexes(String[][] indexes) {
+        // MySQL não suporta IF NOT EXISTS em índices; índice duplicado (1061) é ignorado pelo executor
+        String[] statements = new String[indexes.length];
+        for (int i = 0; i < indexes.length; i++) {
+            statements[i] = "CREATE INDEX " + indexes[i][0] + " ON " + indexes[i][1] + " (" + indexes[i][2] + ")";
+        }
+        return statements;
+    }
+}
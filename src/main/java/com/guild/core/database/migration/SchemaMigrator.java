@@ -0,0 +1,117 @@
+package com.guild.core.database.migration;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.logging.Logger;
+
+import com.guild.core.database.DatabaseManager;
+import com.guild.core.database.DatabaseManager.DatabaseType;
+import com.guild.core.time.TimeProvider;
+
+/**
+ * Executor de migrações de esquema
+ *
+ * Registra as versões aplicadas na tabela schema_version e aplica, em ordem, apenas as
+ * migrações ainda não executadas. Cada migração é aplicada em uma transação (no MySQL,
+ * comandos DDL confirmam implicitamente, por isso os scripts devem ser idempotentes).
+ */
+public class SchemaMigrator {
+
+    private static final int MYSQL_DUPLICATE_KEY_NAME = 1061;
+
+    private final DatabaseManager databaseManager;
+    private final Logger logger;
+
+    public SchemaMigrator(DatabaseManager databaseManager, Logger logger) {
+        this.databaseManager = databaseManager;
+        this.logger = logger;
+    }
+
+    /**
+     * Aplicar migrações pendentes
+     *
+     * @return número de migrações aplicadas
+     */
+    public int migrate(List<SchemaMigration> migrations) throws SQLException {
+        DatabaseType type = databaseManager.getDatabaseType();
+        try (Connection conn = databaseManager.getConnection()) {
+            createVersionTable(conn, type);
+            int current = getCurrentVersion(conn);
+            int applied = 0;
+
+            for (SchemaMigration migration : migrations) {
+                if (migration.getVersion() <= current) {
+                    continue;
+                }
+                apply(conn, type, migration);
+                current = migration.getVersion();
+                applied++;
+            }
+
+            if (applied > 0) {
+                logger.info("Migrações de banco de dados aplicadas: " + applied + " (versão atual: " + current + ")");
+            } else {
+                logger.info("Esquema do banco de dados atualizado (versão " + current + ")");
+            }
+            return applied;
+        }
+    }
+
+    private void createVersionTable(Connection conn, DatabaseType type) throws SQLException {
+        String sql = type == DatabaseType.MYSQL
+            ? "CREATE TABLE IF NOT EXISTS schema_version (version INT PRIMARY KEY, description VARCHAR(255) NOT NULL, applied_at VARCHAR(19) NOT NULL)"
+            : "CREATE TABLE IF NOT EXISTS schema_version (version INTEGER PRIMARY KEY, description TEXT NOT NULL, applied_at TEXT NOT NULL)";
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute(sql);
+        }
+    }
+
+    private int getCurrentVersion(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT MAX(version) FROM schema_version")) {
+            return rs.next() ? rs.getInt(1) : 0;
+        }
+    }
+
+    private void apply(Connection conn, DatabaseType type, SchemaMigration migration) throws SQLException {
+        logger.info("Aplicando migração V" + migration.getVersion() + ": " + migration.getDescription());
+        boolean autoCommit = conn.getAutoCommit();
+        conn.setAutoCommit(false);
+        try {
+            try (Statement stmt = conn.createStatement()) {
+                for (String sql : migration.getStatements(type)) {
+                    execute(stmt, type, sql);
+                }
+            }
+            try (PreparedStatement stmt = conn.prepareStatement(
+                    "INSERT INTO schema_version (version, description, applied_at) VALUES (?, ?, ?)")) {
+                stmt.setInt(1, migration.getVersion());
+                stmt.setString(2, migration.getDescription());
+                stmt.setString(3, TimeProvider.nowString());
+                stmt.executeUpdate();
+            }
+            conn.commit();
+        } catch (SQLException e) {
+            conn.rollback();
+            throw new SQLException("Falha na migração V" + migration.getVersion() + ": " + e.getMessage(), e);
+        } finally {
+            conn.setAutoCommit(autoCommit);
+        }
+    }
+
+    private void execute(Statement stmt, DatabaseType type, String sql) throws SQLException {
+        try {
+            stmt.execute(sql);
+        } catch (SQLException e) {
+            if (type == DatabaseType.MYSQL && e.getErrorCode() == MYSQL_DUPLICATE_KEY_NAME) {
+                // Índice já existe (criado manualmente ou migração interrompida)
+                return;
+            }
+            throw e;
+        }
+    }
+}
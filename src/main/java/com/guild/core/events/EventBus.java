@@ -1,59 +1,314 @@
 package com.guild.core.events;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
 import java.util.logging.Logger;
 
+/**
+ * Barramento de eventos do plugin
+ *
+ * Ouvintes registrados para um tipo recebem também os eventos de seus subtipos; a lista de
+ * ouvintes por classe de evento é resolvida uma vez e mantida em cache até o próximo registro.
+ * Eventos assíncronos são entregues por um pool compartilhado; eventos com a mesma chave
+ * (ex: {@link GuildEvent} da mesma guilda) são entregues em ordem de publicação.
+ */
 public class EventBus {
     
-    private final ConcurrentHashMap<Class<?>, CopyOnWriteArrayList<Consumer<?>>> listeners = new ConcurrentHashMap<>();
-    private final Logger logger = Logger.getLogger(EventBus.class.getName());
+    private static final int QUEUE_SIZE = 1000;
+    // Máximo de eventos de uma mesma chave entregues antes de devolver a thread ao pool
+    private static final int KEYED_BATCH_SIZE = 64;
+    private static final long SLOW_LISTENER_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
     
-    @SuppressWarnings("unchecked")
-    public <T> void subscribe(Class<T> eventType, Consumer<T> listener) {
-        listeners.computeIfAbsent(eventType, k -> new CopyOnWriteArrayList<>()).add(listener);
+    private final Logger logger;
+    private final ThreadPoolExecutor executor;
+    private final ConcurrentHashMap<Class<?>, CopyOnWriteArrayList<ListenerEntry>> listeners = new ConcurrentHashMap<>();
+    // Substituído a cada (des)registro, para que resoluções em andamento não gravem no cache novo
+    private volatile ConcurrentHashMap<Class<?>, List<ListenerEntry>> dispatchCache = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Object, KeyedQueue> keyedQueues = new ConcurrentHashMap<>();
+    // Eventos assíncronos ainda não entregues (fila do pool e filas por chave)
+    private final AtomicInteger pendingEvents = new AtomicInteger();
+    
+    public EventBus(Logger logger, int threads) {
+        this.logger = logger;
+        int poolSize = Math.max(1, threads);
+        AtomicInteger counter = new AtomicInteger(1);
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 60L, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(QUEUE_SIZE), runnable -> {
+                Thread thread = new Thread(runnable, "Guild-Events-" + counter.getAndIncrement());
+                thread.setDaemon(true);
+                return thread;
+            });
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+    
+    public <T> void subscribe(Class<T> eventType, Consumer<? super T> listener) {
+        listeners.computeIfAbsent(eventType, k -> new CopyOnWriteArrayList<>()).add(new ListenerEntry(eventType, listener));
+        dispatchCache = new ConcurrentHashMap<>();
         logger.info("Registrando ouvinte de evento: " + eventType.getSimpleName());
     }
     
-    @SuppressWarnings("unchecked")
-    public <T> void unsubscribe(Class<T> eventType, Consumer<T> listener) {
-        CopyOnWriteArrayList<Consumer<?>> eventListeners = listeners.get(eventType);
-        if (eventListeners != null) {
-            eventListeners.remove(listener);
+    public <T> void unsubscribe(Class<T> eventType, Consumer<? super T> listener) {
+        CopyOnWriteArrayList<ListenerEntry> eventListeners = listeners.get(eventType);
+        if (eventListeners != null && eventListeners.removeIf(entry -> entry.listener == listener)) {
+            dispatchCache = new ConcurrentHashMap<>();
             logger.info("Cancelando registro de ouvinte de evento: " + eventType.getSimpleName());
         }
     }
     
-    @SuppressWarnings("unchecked")
+    /**
+     * Entregar evento na thread atual a todos os ouvintes do tipo e de seus supertipos
+     */
     public <T> void publish(T event) {
-        CopyOnWriteArrayList<Consumer<?>> eventListeners = listeners.get(event.getClass());
-        if (eventListeners != null) {
-            for (Consumer<?> listener : eventListeners) {
-                try {
-                    ((Consumer<T>) listener).accept(event);
-                } catch (Exception e) {
-                    logger.severe("Falha na execução do ouvinte de evento: " + e.getMessage());
+        for (ListenerEntry entry : resolve(event.getClass())) {
+            entry.invoke(event);
+        }
+    }
+    
+    /**
+     * Entregar evento no pool de eventos; eventos de guilda são ordenados pelo ID da guilda
+     */
+    public <T> void publishAsync(T event) {
+        Object key = event instanceof GuildEvent ? ((GuildEvent) event).getGuildId() : null;
+        publishAsync(key, event);
+    }
+    
+    /**
+     * Entregar evento no pool de eventos, em ordem em relação aos demais eventos da mesma chave
+     */
+    public <T> void publishAsync(Object key, T event) {
+        if (resolve(event.getClass()).isEmpty()) {
+            return;
+        }
+        pendingEvents.incrementAndGet();
+        Runnable delivery = () -> {
+            pendingEvents.decrementAndGet();
+            publish(event);
+        };
+        if (key == null) {
+            submit(delivery);
+            return;
+        }
+        KeyedQueue[] toStart = new KeyedQueue[1];
+        keyedQueues.compute(key, (k, queue) -> {
+            if (queue == null) {
+                queue = new KeyedQueue(k);
+            }
+            queue.tasks.add(delivery);
+            if (!queue.running) {
+                queue.running = true;
+                toStart[0] = queue;
+            }
+            return queue;
+        });
+        if (toStart[0] != null) {
+            submit(toStart[0]);
+        }
+    }
+    
+    private void submit(Runnable task) {
+        if (!executor.isShutdown()) {
+            try {
+                executor.execute(task);
+                return;
+            } catch (RejectedExecutionException e) {
+                // Pool saturado ou desligando: entregar na thread atual
+            }
+        }
+        task.run();
+    }
+    
+    private List<ListenerEntry> resolve(Class<?> eventType) {
+        return dispatchCache.computeIfAbsent(eventType, type -> {
+            List<ListenerEntry> resolved = new ArrayList<>();
+            for (Class<?> candidate : collectTypes(type)) {
+                CopyOnWriteArrayList<ListenerEntry> eventListeners = listeners.get(candidate);
+                if (eventListeners != null) {
+                    resolved.addAll(eventListeners);
+                }
+            }
+            return resolved.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(resolved);
+        });
+    }
+    
+    /**
+     * Tipo do evento seguido de suas superclasses e interfaces, do mais específico ao mais geral
+     */
+    private static Set<Class<?>> collectTypes(Class<?> type) {
+        Set<Class<?>> types = new LinkedHashSet<>();
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            types.add(current);
+        }
+        List<Class<?>> pending = new ArrayList<>(types);
+        for (int i = 0; i < pending.size(); i++) {
+            for (Class<?> iface : pending.get(i).getInterfaces()) {
+                if (types.add(iface)) {
+                    pending.add(iface);
                 }
             }
         }
+        return types;
     }
     
-    public <T> void publishAsync(T event) {
-        new Thread(() -> publish(event)).start();
+    /**
+     * Encerrar o pool aguardando as entregas pendentes
+     */
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+                logger.warning("Eventos não entregues a tempo: " + executor.shutdownNow().size() + " descartados");
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
     }
     
     public void clear() {
         listeners.clear();
+        dispatchCache = new ConcurrentHashMap<>();
         logger.info("Limpando todos os ouvintes de eventos");
     }
     
     public int getListenerCount(Class<?> eventType) {
-        CopyOnWriteArrayList<Consumer<?>> eventListeners = listeners.get(eventType);
+        CopyOnWriteArrayList<ListenerEntry> eventListeners = listeners.get(eventType);
         return eventListeners != null ? eventListeners.size() : 0;
     }
     
     public int getTotalListenerCount() {
         return listeners.values().stream().mapToInt(CopyOnWriteArrayList::size).sum();
     }
+    
+    /**
+     * Eventos aguardando entrega, inclusive os que esperam na fila da própria guilda
+     */
+    public int getPendingCount() {
+        return pendingEvents.get();
+    }
+    
+    /**
+     * Obter tempos de execução de cada ouvinte registrado
+     */
+    public List<ListenerStats> getListenerStats() {
+        List<ListenerStats> stats = new ArrayList<>();
+        for (CopyOnWriteArrayList<ListenerEntry> eventListeners : listeners.values()) {
+            for (ListenerEntry entry : eventListeners) {
+                stats.add(new ListenerStats(entry.name, entry.invocations.sum(), entry.failures.sum(),
+                    entry.totalNanos.sum(), entry.maxNanos.get()));
+            }
+        }
+        return stats;
+    }
+    
+    /**
+     * Fila de entregas de uma chave; executada por no máximo uma thread por vez
+     */
+    private final class KeyedQueue implements Runnable {
+        private final Object key;
+        // Acessados apenas dentro de keyedQueues.compute*, que serializa por chave
+        private final Queue<Runnable> tasks = new ArrayDeque<>();
+        private boolean running;
+        
+        private KeyedQueue(Object key) {
+            this.key = key;
+        }
+        
+        @Override
+        public void run() {
+            for (int delivered = 0; delivered < KEYED_BATCH_SIZE; delivered++) {
+                Runnable[] next = new Runnable[1];
+                keyedQueues.computeIfPresent(key, (k, queue) -> {
+                    next[0] = queue.tasks.poll();
+                    if (next[0] == null) {
+                        queue.running = false;
+                        return null;
+                    }
+                    return queue;
+                });
+                if (next[0] == null) {
+                    return;
+                }
+                next[0].run();
+            }
+            // Ainda há entregas: voltar ao fim do pool para não monopolizar uma thread
+            submit(this);
+        }
+    }
+    
+    private final class ListenerEntry {
+        private final String name;
+        private final Consumer<Object> listener;
+        private final LongAdder invocations = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+        
+        @SuppressWarnings("unchecked")
+        private ListenerEntry(Class<?> eventType, Consumer<?> listener) {
+            this.name = eventType.getSimpleName() + " -> " + listener.getClass().getName();
+            this.listener = (Consumer<Object>) listener;
+        }
+        
+        private void invoke(Object event) {
+            long start = System.nanoTime();
+            try {
+                listener.accept(event);
+            } catch (Exception e) {
+                failures.increment();
+                logger.severe("Falha na execução do ouvinte de evento " + name + ": " + e.getMessage());
+            } finally {
+                long elapsed = System.nanoTime() - start;
+                invocations.increment();
+                totalNanos.add(elapsed);
+                maxNanos.accumulateAndGet(elapsed, Math::max);
+                if (elapsed > SLOW_LISTENER_NANOS) {
+                    logger.warning("Ouvinte de evento lento: " + name + " levou " + TimeUnit.NANOSECONDS.toMillis(elapsed) + "ms");
+                }
+            }
+        }
+    }
+    
+    /**
+     * Estatísticas de execução de um ouvinte
+     */
+    public static final class ListenerStats {
+        private final String name;
+        private final long invocations;
+        private final long failures;
+        private final long totalNanos;
+        private final long maxNanos;
+        
+        private ListenerStats(String name, long invocations, long failures, long totalNanos, long maxNanos) {
+            this.name = name;
+            this.invocations = invocations;
+            this.failures = failures;
+            this.totalNanos = totalNanos;
+            this.maxNanos = maxNanos;
+        }
+        
+        public String getName() { return name; }
+        public long getInvocations() { return invocations; }
+        public long getFailures() { return failures; }
+        public long getTotalNanos() { return totalNanos; }
+        public long getMaxNanos() { return maxNanos; }
+        
+        public long getAverageNanos() {
+            return invocations > 0 ? totalNanos / invocations : 0;
+        }
+    }
 }
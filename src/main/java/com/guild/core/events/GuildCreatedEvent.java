@@ -0,0 +1,38 @@
+package com.guild.core.events;
+
+import java.util.UUID;
+
+/**
+ * Guilda criada (o líder já é membro)
+ */
+public class GuildCreatedEvent extends GuildEvent {
+
+    private final String name;
+    private final String tag;
+    private final UUID leaderUuid;
+    private final String leaderName;
+
+    public GuildCreatedEvent(int guildId, String name, String tag, UUID leaderUuid, String leaderName) {
+        super(guildId);
+        this.name = name;
+        this.tag = tag;
+        this.leaderUuid = leaderUuid;
+        this.leaderName = leaderName;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getTag() {
+        return tag;
+    }
+
+    public UUID getLeaderUuid() {
+        return leaderUuid;
+    }
+
+    public String getLeaderName() {
+        return leaderName;
+    }
+}
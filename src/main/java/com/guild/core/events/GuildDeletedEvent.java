@@ -0,0 +1,18 @@
+package com.guild.core.events;
+
+/**
+ * Guilda dissolvida (membros, convites, solicitações e relações removidos)
+ */
+public class GuildDeletedEvent extends GuildEvent {
+
+    private final String name;
+
+    public GuildDeletedEvent(int guildId, String name) {
+        super(guildId);
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+}
@@ -0,0 +1,26 @@
+package com.guild.core.events;
+
+/**
+ * Evento de domínio de uma guilda
+ *
+ * Publicado pelo GuildService após a alteração ser gravada no banco de dados.
+ * Eventos da mesma guilda são entregues em ordem por {@link EventBus#publishAsync(Object)}.
+ */
+public abstract class GuildEvent {
+
+    private final int guildId;
+    private final long timestamp;
+
+    protected GuildEvent(int guildId) {
+        this.guildId = guildId;
+        this.timestamp = System.currentTimeMillis();
+    }
+
+    public int getGuildId() {
+        return guildId;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+}
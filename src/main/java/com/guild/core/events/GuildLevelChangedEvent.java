@@ -0,0 +1,18 @@
+package com.guild.core.events;
+
+/**
+ * Nível da guilda alterado
+ */
+public class GuildLevelChangedEvent extends GuildEvent {
+
+    private final int newLevel;
+
+    public GuildLevelChangedEvent(int guildId, int newLevel) {
+        super(guildId);
+        this.newLevel = newLevel;
+    }
+
+    public int getNewLevel() {
+        return newLevel;
+    }
+}
@@ -0,0 +1,40 @@
+package com.guild.core.events;
+
+/**
+ * Nome e/ou tag da guilda alterados
+ */
+public class GuildRenamedEvent extends GuildEvent {
+
+    private final String oldName;
+    private final String newName;
+    private final String oldTag;
+    private final String newTag;
+
+    public GuildRenamedEvent(int guildId, String oldName, String newName, String oldTag, String newTag) {
+        super(guildId);
+        this.oldName = oldName;
+        this.newName = newName;
+        this.oldTag = oldTag;
+        this.newTag = newTag;
+    }
+
+    public String getOldName() {
+        return oldName;
+    }
+
+    public String getNewName() {
+        return newName;
+    }
+
+    public String getOldTag() {
+        return oldTag;
+    }
+
+    public String getNewTag() {
+        return newTag;
+    }
+
+    public boolean isTagChanged() {
+        return newTag != null && !newTag.equals(oldTag);
+    }
+}
@@ -0,0 +1,34 @@
+package com.guild.core.events;
+
+import java.util.UUID;
+
+import com.guild.models.GuildMember;
+
+/**
+ * Jogador entrou na guilda
+ */
+public class MemberJoinedEvent extends GuildEvent {
+
+    private final UUID playerUuid;
+    private final String playerName;
+    private final GuildMember.Role role;
+
+    public MemberJoinedEvent(int guildId, UUID playerUuid, String playerName, GuildMember.Role role) {
+        super(guildId);
+        this.playerUuid = playerUuid;
+        this.playerName = playerName;
+        this.role = role;
+    }
+
+    public UUID getPlayerUuid() {
+        return playerUuid;
+    }
+
+    public String getPlayerName() {
+        return playerName;
+    }
+
+    public GuildMember.Role getRole() {
+        return role;
+    }
+}
@@ -0,0 +1,32 @@
+package com.guild.core.events;
+
+import java.util.UUID;
+
+/**
+ * Jogador saiu ou foi expulso da guilda
+ */
+public class MemberLeftEvent extends GuildEvent {
+
+    private final UUID playerUuid;
+    private final String playerName;
+    private final boolean kicked;
+
+    public MemberLeftEvent(int guildId, UUID playerUuid, String playerName, boolean kicked) {
+        super(guildId);
+        this.playerUuid = playerUuid;
+        this.playerName = playerName;
+        this.kicked = kicked;
+    }
+
+    public UUID getPlayerUuid() {
+        return playerUuid;
+    }
+
+    public String getPlayerName() {
+        return playerName;
+    }
+
+    public boolean isKicked() {
+        return kicked;
+    }
+}
@@ -0,0 +1,67 @@
+package com.guild.core.events;
+
+import com.guild.models.GuildRelation;
+
+/**
+ * Relação entre duas guildas criada, alterada ou removida
+ *
+ * Publicado com o ID da primeira guilda como chave de ordenação.
+ */
+public class RelationChangedEvent extends GuildEvent {
+
+    public enum Change {
+        CREATED, UPDATED, DELETED
+    }
+
+    private final int relationId;
+    private final int guild1Id;
+    private final int guild2Id;
+    private final Change change;
+    private final GuildRelation.RelationType type;
+    private final GuildRelation.RelationStatus status;
+
+    public RelationChangedEvent(int relationId, int guild1Id, int guild2Id, Change change,
+                                GuildRelation.RelationType type, GuildRelation.RelationStatus status) {
+        super(guild1Id);
+        this.relationId = relationId;
+        this.guild1Id = guild1Id;
+        this.guild2Id = guild2Id;
+        this.change = change;
+        this.type = type;
+        this.status = status;
+    }
+
+    public int getRelationId() {
+        return relationId;
+    }
+
+    public int getGuild1Id() {
+        return guild1Id;
+    }
+
+    public int getGuild2Id() {
+        return guild2Id;
+    }
+
+    public Change getChange() {
+        return change;
+    }
+
+    /**
+     * Tipo da relação (null se não alterado)
+     */
+    public GuildRelation.RelationType getType() {
+        return type;
+    }
+
+    /**
+     * Status da relação (null se não alterado ou removida)
+     */
+    public GuildRelation.RelationStatus getStatus() {
+        return status;
+    }
+
+    public boolean involves(int guildId) {
+        return guild1Id == guildId || guild2Id == guildId;
+    }
+}
@@ -0,0 +1,40 @@
+package com.guild.core.events;
+
+import java.util.UUID;
+
+import com.guild.models.GuildMember;
+
+/**
+ * Cargo de um membro alterado
+ */
+public class RoleChangedEvent extends GuildEvent {
+
+    private final UUID playerUuid;
+    private final String playerName;
+    private final GuildMember.Role oldRole;
+    private final GuildMember.Role newRole;
+
+    public RoleChangedEvent(int guildId, UUID playerUuid, String playerName, GuildMember.Role oldRole, GuildMember.Role newRole) {
+        super(guildId);
+        this.playerUuid = playerUuid;
+        this.playerName = playerName;
+        this.oldRole = oldRole;
+        this.newRole = newRole;
+    }
+
+    public UUID getPlayerUuid() {
+        return playerUuid;
+    }
+
+    public String getPlayerName() {
+        return playerName;
+    }
+
+    public GuildMember.Role getOldRole() {
+        return oldRole;
+    }
+
+    public GuildMember.Role getNewRole() {
+        return newRole;
+    }
+}
@@ -19,6 +19,7 @@ import java.util.UUID;
 import java.util.logging.Logger;
 import java.util.function.Function;
 
+import com.guild.core.profiling.GuildGuiRenderEvent;
 import com.guild.core.utils.CompatibleScheduler;
 
 public class GUIManager implements Listener {
@@ -40,12 +41,19 @@ public class GUIManager implements Listener {
     }
     
     public void openGUI(Player player, GUI gui) {
+        openGUI(player, gui, false);
+    }
+    
+    private void openGUI(Player player, GUI gui, boolean refresh) {
         if (!CompatibleScheduler.isPrimaryThread()) {
-            CompatibleScheduler.runTask(plugin, () -> openGUI(player, gui));
+            CompatibleScheduler.runTask(plugin, () -> openGUI(player, gui, refresh));
             return;
         }
         
         try {
+            GuildGuiRenderEvent renderEvent = new GuildGuiRenderEvent();
+            renderEvent.begin();
+            
             closeGUI(player);
             
             Inventory inventory = Bukkit.createInventory(null, gui.getSize(), gui.getTitle());
@@ -56,6 +64,8 @@ public class GUIManager implements Listener {
             
             openGuis.put(player.getUniqueId(), gui);
             
+            renderEvent.finish(gui.getClass(), gui.getSize(), refresh);
+            
             logger.info("Jogador " + player.getName() + " abriu a GUI: " + gui.getClass().getSimpleName());
         } catch (Exception e) {
             logger.severe("Erro ao abrir GUI: " + e.getMessage());
@@ -169,7 +179,7 @@ public class GUIManager implements Listener {
             if (gui != null) {
                 closeGUI(player);
                 
-                openGUI(player, gui);
+                openGUI(player, gui, true);
                 
                 logger.info("GUI do jogador " + player.getName() + " atualizada: " + gui.getClass().getSimpleName());
             }
@@ -0,0 +1,239 @@
+package com.guild.core.leaderboard;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.UnaryOperator;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import com.guild.core.events.EventBus;
+import com.guild.core.events.GuildCreatedEvent;
+import com.guild.core.events.GuildDeletedEvent;
+import com.guild.core.events.GuildLevelChangedEvent;
+import com.guild.core.events.GuildRenamedEvent;
+import com.guild.core.events.MemberJoinedEvent;
+import com.guild.core.events.MemberLeftEvent;
+import com.guild.models.Guild;
+import com.guild.services.GuildService;
+
+/**
+ * Ranking de guildas por quantidade de membros e por nível
+ *
+ * Carregado uma única vez do banco na inicialização e mantido incrementalmente pelos
+ * eventos de guilda (criação, exclusão, renomeação, entrada/saída de membros e nível).
+ * Consultas de posição leem apenas os conjuntos ordenados em memória.
+ *
+ * Eventos de uma guilda ainda sem entrada (durante a carga) são descartados; as contagens
+ * de membros são ressincronizadas logo após a carga e depois periodicamente.
+ */
+public class GuildLeaderboard {
+
+    /**
+     * Posições expostas em placeholders e na GUI
+     */
+    public static final int MAX_RANK = 10;
+
+    /**
+     * Intervalo da ressincronização das contagens de membros (5 minutos)
+     */
+    public static final long RESYNC_PERIOD_TICKS = 20L * 60 * 5;
+
+    public enum Metric {
+        MEMBERS,
+        LEVEL
+    }
+
+    private static final Comparator<Entry> BY_MEMBERS = Comparator
+        .comparingInt(Entry::getMemberCount).reversed()
+        .thenComparing(Comparator.comparingInt(Entry::getLevel).reversed())
+        .thenComparingInt(Entry::getGuildId);
+    private static final Comparator<Entry> BY_LEVEL = Comparator
+        .comparingInt(Entry::getLevel).reversed()
+        .thenComparing(Comparator.comparingInt(Entry::getMemberCount).reversed())
+        .thenComparingInt(Entry::getGuildId);
+
+    private final Logger logger;
+    private final Map<Integer, Entry> entries = new ConcurrentHashMap<>();
+    private final NavigableSet<Entry> byMembers = new ConcurrentSkipListSet<>(BY_MEMBERS);
+    private final NavigableSet<Entry> byLevel = new ConcurrentSkipListSet<>(BY_LEVEL);
+
+    public GuildLeaderboard(Logger logger) {
+        this.logger = logger;
+    }
+
+    /**
+     * Assinar eventos que alteram o ranking
+     */
+    public void subscribeEvents(EventBus eventBus) {
+        eventBus.subscribe(GuildCreatedEvent.class, event ->
+            update(event.getGuildId(), old -> old != null ? old : new Entry(event.getGuildId(), event.getName(), event.getTag(), 1, 0)));
+        eventBus.subscribe(GuildDeletedEvent.class, event -> update(event.getGuildId(), old -> null));
+        eventBus.subscribe(GuildRenamedEvent.class, event ->
+            update(event.getGuildId(), old -> old != null ? old.withNames(event.getNewName(), event.getNewTag()) : null));
+        eventBus.subscribe(GuildLevelChangedEvent.class, event ->
+            update(event.getGuildId(), old -> old != null ? old.withLevel(event.getNewLevel()) : null));
+        eventBus.subscribe(MemberJoinedEvent.class, event ->
+            update(event.getGuildId(), old -> old != null ? old.withMemberCount(old.getMemberCount() + 1) : null));
+        eventBus.subscribe(MemberLeftEvent.class, event ->
+            update(event.getGuildId(), old -> old != null ? old.withMemberCount(Math.max(0, old.getMemberCount() - 1)) : null));
+    }
+
+    /**
+     * Carregar o ranking do banco (todas as guildas + contagem de membros em lote)
+     *
+     * Entradas já criadas por eventos durante a carga são mantidas.
+     */
+    public CompletableFuture<Void> load(GuildService guildService) {
+        return guildService.getAllGuildsAsync().thenCompose(guilds -> {
+            List<Integer> ids = guilds.stream().map(Guild::getId).collect(Collectors.toList());
+            return guildService.getMemberCountsAsync(ids).thenAccept(counts -> {
+                for (Guild guild : guilds) {
+                    Entry entry = new Entry(guild.getId(), guild.getName(), guild.getTag(),
+                        guild.getLevel(), counts.getOrDefault(guild.getId(), 0));
+                    update(guild.getId(), old -> old != null ? old : entry);
+                }
+                logger.info("Ranking de guildas carregado: " + entries.size() + " guildas");
+            });
+        }).thenCompose(ignored -> resyncMemberCounts(guildService)).exceptionally(e -> {
+            logger.warning("Falha ao carregar ranking de guildas: " + e.getMessage());
+            return null;
+        });
+    }
+
+    /**
+     * Corrigir as contagens de membros com o banco (uma consulta em lote)
+     *
+     * Recupera entradas/saídas ocorridas entre a contagem da carga e a criação da entrada.
+     */
+    public CompletableFuture<Void> resyncMemberCounts(GuildService guildService) {
+        return guildService.getMemberCountsAsync(new ArrayList<>(entries.keySet())).thenAccept(counts -> {
+            for (Map.Entry<Integer, Integer> count : counts.entrySet()) {
+                int memberCount = count.getValue();
+                update(count.getKey(), old -> old == null || old.getMemberCount() == memberCount
+                    ? old : old.withMemberCount(memberCount));
+            }
+        }).exceptionally(e -> {
+            logger.warning("Falha ao ressincronizar ranking de guildas: " + e.getMessage());
+            return null;
+        });
+    }
+
+    /**
+     * Obter guilda na posição informada (1 = primeira; null se não houver)
+     */
+    public Entry getEntry(Metric metric, int rank) {
+        if (rank < 1) {
+            return null;
+        }
+        Iterator<Entry> iterator = view(metric).iterator();
+        for (int i = 1; iterator.hasNext(); i++) {
+            Entry entry = iterator.next();
+            if (i == rank) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Obter as primeiras posições do ranking
+     */
+    public List<Entry> getTop(Metric metric, int limit) {
+        List<Entry> top = new ArrayList<>(Math.min(limit, entries.size()));
+        for (Entry entry : view(metric)) {
+            if (top.size() >= limit) {
+                break;
+            }
+            top.add(entry);
+        }
+        return Collections.unmodifiableList(top);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private NavigableSet<Entry> view(Metric metric) {
+        return metric == Metric.LEVEL ? byLevel : byMembers;
+    }
+
+    /**
+     * Substituir a entrada da guilda, reposicionando-a nos conjuntos ordenados
+     */
+    private void update(int guildId, UnaryOperator<Entry> change) {
+        entries.compute(guildId, (id, old) -> {
+            Entry updated = change.apply(old);
+            if (updated == old) {
+                return old;
+            }
+            if (old != null) {
+                byMembers.remove(old);
+                byLevel.remove(old);
+            }
+            if (updated != null) {
+                byMembers.add(updated);
+                byLevel.add(updated);
+            }
+            return updated;
+        });
+    }
+
+    /**
+     * Posição imutável de uma guilda no ranking
+     */
+    public static final class Entry {
+        private final int guildId;
+        private final String name;
+        private final String tag;
+        private final int level;
+        private final int memberCount;
+
+        Entry(int guildId, String name, String tag, int level, int memberCount) {
+            this.guildId = guildId;
+            this.name = name;
+            this.tag = tag != null ? tag : "";
+            this.level = level;
+            this.memberCount = memberCount;
+        }
+
+        Entry withNames(String name, String tag) {
+            return new Entry(guildId, name, tag, level, memberCount);
+        }
+
+        Entry withLevel(int level) {
+            return new Entry(guildId, name, tag, level, memberCount);
+        }
+
+        Entry withMemberCount(int memberCount) {
+            return new Entry(guildId, name, tag, level, memberCount);
+        }
+
+        public int getGuildId() {
+            return guildId;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getTag() {
+            return tag;
+        }
+
+        public int getLevel() {
+            return level;
+        }
+
+        public int getMemberCount() {
+            return memberCount;
+        }
+    }
+}
@@ -1,27 +1,46 @@
 package com.guild.core.permissions;
 
 import com.guild.GuildPlugin;
-import com.guild.models.Guild;
+import com.guild.core.cache.GuildRegistry;
+import com.guild.core.session.PlayerSession;
+import com.guild.core.session.PlayerSessionManager;
 import com.guild.models.GuildMember;
 import com.guild.services.GuildService;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.entity.Player;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Logger;
 
+/**
+ * Gerenciador de permissões internas da guilda
+ *
+ * Cada jogador tem um {@link PermissionSnapshot} imutável (máscara de bits) em um mapa
+ * concorrente, calculado a partir da sessão do jogador (carregada fora da thread principal
+ * na entrada). As verificações não fazem I/O e podem ser chamadas de qualquer thread.
+ * O snapshot é recalculado quando a sessão muda (cargo ou guilda) e ao recarregar a configuração.
+ */
 public class PermissionManager {
     
+    private static final int CREATE = 1;
+    private static final int INVITE = 1 << 1;
+    private static final int KICK = 1 << 2;
+    private static final int PROMOTE = 1 << 3;
+    private static final int DEMOTE = 1 << 4;
+    private static final int DELETE = 1 << 5;
+    private static final int ADMIN = 1 << 6;
+    
     private final GuildPlugin plugin;
     private final Logger logger;
-    private final Map<UUID, PlayerPermissions> playerPermissions = new HashMap<>();
+    private final Map<UUID, PermissionSnapshot> snapshots = new ConcurrentHashMap<>();
     
-    private RolePermissions defaultPermissions;
-    private RolePermissions memberPermissions;
-    private RolePermissions officerPermissions;
-    private RolePermissions leaderPermissions;
+    // Máscaras por cargo, substituídas por inteiro ao recarregar a configuração
+    private volatile int defaultMask;
+    private volatile int memberMask;
+    private volatile int officerMask;
+    private volatile int leaderMask;
     
     public PermissionManager(GuildPlugin plugin) {
         this.plugin = plugin;
@@ -42,100 +61,132 @@ public class PermissionManager {
     }
     
     private boolean hasInternalPermission(Player player, String permission) {
-        UUID playerUuid = player.getUniqueId();
-        
-        PlayerPermissions permissions = getPlayerPermissions(playerUuid);
+        PermissionSnapshot snapshot = getSnapshot(player.getUniqueId());
         
         switch (permission) {
             case "guild.use":
                 return true; 
                 
             case "guild.create":
-                return permissions.canCreateGuild();
+                return snapshot.has(CREATE);
                 
             case "guild.invite":
-                return permissions.canInviteMembers();
+                return snapshot.has(INVITE);
                 
             case "guild.kick":
-                return permissions.canKickMembers();
+                return snapshot.has(KICK);
                 
             case "guild.promote":
-                return permissions.canPromoteMembers();
+                return snapshot.has(PROMOTE);
                 
             case "guild.demote":
-                return permissions.canDemoteMembers();
+                return snapshot.has(DEMOTE);
                 
             case "guild.delete":
-                return permissions.canDeleteGuild();
+                return snapshot.has(DELETE);
                 
             case "guild.admin":
-                return permissions.isAdmin();
+                return snapshot.has(ADMIN);
                 
             default:
                 return false;
         }
     }
     
-    private PlayerPermissions getPlayerPermissions(UUID playerUuid) {
-        return playerPermissions.computeIfAbsent(playerUuid, uuid -> {
-            PlayerPermissions resolved = new PlayerPermissions();
-            GuildService guildService = plugin.getServiceContainer().get(GuildService.class);
-            GuildMember.Role role = null;
-            if (guildService != null) {
-                Guild guild = guildService.getPlayerGuild(uuid);
-                if (guild != null) {
-                    GuildMember member = guildService.getGuildMember(uuid);
-                    if (member != null) {
-                        role = member.getRole();
-                    }
-                }
+    /**
+     * Obter snapshot de permissões do jogador (sem I/O)
+     *
+     * Sem sessão carregada, usa o registro em memória; se o jogador ainda for desconhecido,
+     * retorna as permissões padrão sem armazená-las e agenda a carga da sessão.
+     */
+    private PermissionSnapshot getSnapshot(UUID playerUuid) {
+        PermissionSnapshot snapshot = snapshots.get(playerUuid);
+        if (snapshot != null) {
+            return snapshot;
+        }
+        
+        PlayerSession session = getSession(playerUuid);
+        if (session != null) {
+            return store(playerUuid, session.hasGuild(), session.getRole());
+        }
+        
+        GuildService guildService = plugin.getGuildService();
+        if (guildService != null) {
+            GuildRegistry registry = guildService.getRegistry();
+            GuildMember member = registry.getMember(playerUuid);
+            if (member != null) {
+                return store(playerUuid, true, member.getRole());
+            }
+            if (registry.isKnownWithoutGuild(playerUuid)) {
+                return store(playerUuid, false, null);
             }
-            RolePermissions rp = resolveRolePermissions(role);
-            resolved.setCanCreateGuild(rp.canCreate);
-            resolved.setCanInviteMembers(rp.canInvite);
-            resolved.setCanKickMembers(rp.canKick);
-            resolved.setCanDeleteGuild(rp.canDelete);
-            resolved.setCanPromoteMembers(rp.canPromote);
-            resolved.setCanDemoteMembers(rp.canDemote);
-            
-            return resolved;
-        });
+        }
+        
+        PlayerSessionManager sessionManager = plugin.getSessionManager();
+        if (sessionManager != null) {
+            sessionManager.getOrLoadAsync(playerUuid);
+        }
+        return createSnapshot(false, null);
+    }
+    
+    private PermissionSnapshot store(UUID playerUuid, boolean inGuild, GuildMember.Role role) {
+        PermissionSnapshot snapshot = createSnapshot(inGuild, role);
+        snapshots.put(playerUuid, snapshot);
+        return snapshot;
+    }
+    
+    private PermissionSnapshot createSnapshot(boolean inGuild, GuildMember.Role role) {
+        return new PermissionSnapshot(inGuild, role, resolveMask(inGuild ? role : null));
     }
 
-    private RolePermissions resolveRolePermissions(GuildMember.Role role) {
+    private int resolveMask(GuildMember.Role role) {
         if (role == null) {
-            return defaultPermissions;
+            return defaultMask;
         }
         switch (role) {
             case LEADER:
-                return leaderPermissions;
+                return leaderMask;
             case OFFICER:
-                return officerPermissions;
+                return officerMask;
             case MEMBER:
             default:
-                return memberPermissions;
+                return memberMask;
         }
     }
     
+    /**
+     * Recalcular permissões do jogador a partir da sessão atual
+     */
     public void updatePlayerPermissions(UUID playerUuid) {
-        playerPermissions.remove(playerUuid);
-        
-        getPlayerPermissions(playerUuid);
+        PlayerSession session = getSession(playerUuid);
+        if (session != null) {
+            store(playerUuid, session.hasGuild(), session.getRole());
+        } else {
+            snapshots.remove(playerUuid);
+        }
+    }
+    
+    /**
+     * Descartar permissões do jogador (saída do servidor)
+     */
+    public void removePlayer(UUID playerUuid) {
+        snapshots.remove(playerUuid);
     }
 
     public void reloadFromConfig() {
         FileConfiguration cfg = plugin.getConfigManager().getMainConfig();
-        this.defaultPermissions = readRolePermissions(cfg, "permissions.default",
-                new RolePermissions(false, false, false, false, false, false));
-        this.memberPermissions = readRolePermissions(cfg, "permissions.member",
-                new RolePermissions(true, false, false, false, false, false));
-        this.officerPermissions = readRolePermissions(cfg, "permissions.officer",
-                new RolePermissions(true, true, true, false, false, false));
+        this.defaultMask = readRolePermissions(cfg, "permissions.default",
+                new RolePermissions(false, false, false, false, false, false)).toMask();
+        this.memberMask = readRolePermissions(cfg, "permissions.member",
+                new RolePermissions(true, false, false, false, false, false)).toMask();
+        this.officerMask = readRolePermissions(cfg, "permissions.officer",
+                new RolePermissions(true, true, true, false, false, false)).toMask();
         
         RolePermissions leaderFallback = new RolePermissions(true, true, true, true, true, true);
-        this.leaderPermissions = readRolePermissions(cfg, "permissions.leader", leaderFallback);
-        playerPermissions.clear();
-        logger.info("Matriz de permissões recarregada da configuração e cache de permissões de jogadores limpo");
+        this.leaderMask = readRolePermissions(cfg, "permissions.leader", leaderFallback).toMask();
+        // Recalcular snapshots existentes com a nova matriz, sem descartar quem já está online
+        snapshots.replaceAll((uuid, snapshot) -> createSnapshot(snapshot.inGuild, snapshot.role));
+        logger.info("Matriz de permissões recarregada da configuração e permissões de jogadores recalculadas");
     }
 
     private RolePermissions readRolePermissions(FileConfiguration cfg, String path, RolePermissions fallback) {
@@ -154,17 +205,8 @@ public class PermissionManager {
             return false;
         }
         
-        GuildService guildService = plugin.getServiceContainer().get(GuildService.class);
-        if (guildService == null) {
-            return false;
-        }
-        
-        Guild guild = guildService.getPlayerGuild(player.getUniqueId());
-        if (guild == null) {
-            return false;
-        }
-        
-        return getPlayerPermissions(player.getUniqueId()).canInviteMembers();
+        PermissionSnapshot snapshot = getSnapshot(player.getUniqueId());
+        return snapshot.inGuild && snapshot.has(INVITE);
     }
     
     public boolean canKickMembers(Player player) {
@@ -172,17 +214,8 @@ public class PermissionManager {
             return false;
         }
         
-        GuildService guildService = plugin.getServiceContainer().get(GuildService.class);
-        if (guildService == null) {
-            return false;
-        }
-        
-        Guild guild = guildService.getPlayerGuild(player.getUniqueId());
-        if (guild == null) {
-            return false;
-        }
-        
-        return getPlayerPermissions(player.getUniqueId()).canKickMembers();
+        PermissionSnapshot snapshot = getSnapshot(player.getUniqueId());
+        return snapshot.inGuild && snapshot.has(KICK);
     }
     
     public boolean canDeleteGuild(Player player) {
@@ -190,17 +223,8 @@ public class PermissionManager {
             return false;
         }
         
-        GuildService guildService = plugin.getServiceContainer().get(GuildService.class);
-        if (guildService == null) {
-            return false;
-        }
-        
-        Guild guild = guildService.getPlayerGuild(player.getUniqueId());
-        if (guild == null) {
-            return false;
-        }
-        
-        return getPlayerPermissions(player.getUniqueId()).canDeleteGuild();
+        PermissionSnapshot snapshot = getSnapshot(player.getUniqueId());
+        return snapshot.inGuild && snapshot.has(DELETE);
     }
     
     public boolean canCreateGuild(Player player) {
@@ -208,43 +232,31 @@ public class PermissionManager {
             return false;
         }
         
-        GuildService guildService = plugin.getServiceContainer().get(GuildService.class);
-        if (guildService == null) {
-            return false;
-        }
-        
-        return guildService.getPlayerGuild(player.getUniqueId()) == null;
+        return !getSnapshot(player.getUniqueId()).inGuild;
     }
     
-    private static class PlayerPermissions {
-        private boolean canCreateGuild = false;
-        private boolean canInviteMembers = false;
-        private boolean canKickMembers = false;
-        private boolean canDeleteGuild = false;
-        private boolean canPromoteMembers = false;
-        private boolean canDemoteMembers = false;
-        private boolean isAdmin = false;
-        
-        public boolean canCreateGuild() { return canCreateGuild; }
-        public void setCanCreateGuild(boolean canCreateGuild) { this.canCreateGuild = canCreateGuild; }
-        
-        public boolean canInviteMembers() { return canInviteMembers; }
-        public void setCanInviteMembers(boolean canInviteMembers) { this.canInviteMembers = canInviteMembers; }
-        
-        public boolean canKickMembers() { return canKickMembers; }
-        public void setCanKickMembers(boolean canKickMembers) { this.canKickMembers = canKickMembers; }
-        
-        public boolean canDeleteGuild() { return canDeleteGuild; }
-        public void setCanDeleteGuild(boolean canDeleteGuild) { this.canDeleteGuild = canDeleteGuild; }
-        
-        public boolean canPromoteMembers() { return canPromoteMembers; }
-        public void setCanPromoteMembers(boolean canPromoteMembers) { this.canPromoteMembers = canPromoteMembers; }
+    private PlayerSession getSession(UUID playerUuid) {
+        PlayerSessionManager sessionManager = plugin.getSessionManager();
+        return sessionManager != null ? sessionManager.getSession(playerUuid) : null;
+    }
+    
+    /**
+     * Permissões imutáveis do jogador: máscara de bits calculada do cargo
+     */
+    private static final class PermissionSnapshot {
+        private final boolean inGuild;
+        private final GuildMember.Role role;
+        private final int mask;
         
-        public boolean canDemoteMembers() { return canDemoteMembers; }
-        public void setCanDemoteMembers(boolean canDemoteMembers) { this.canDemoteMembers = canDemoteMembers; }
+        private PermissionSnapshot(boolean inGuild, GuildMember.Role role, int mask) {
+            this.inGuild = inGuild;
+            this.role = role;
+            this.mask = mask;
+        }
         
-        public boolean isAdmin() { return isAdmin; }
-        public void setAdmin(boolean admin) { isAdmin = admin; }
+        private boolean has(int permission) {
+            return (mask & permission) != 0;
+        }
     }
 
     private static class RolePermissions {
@@ -262,5 +274,10 @@ public class PermissionManager {
             this.canDemote = canDemote;
             this.canDelete = canDelete;
         }
+        
+        int toMask() {
+            return (canCreate ? CREATE : 0) | (canInvite ? INVITE : 0) | (canKick ? KICK : 0)
+                | (canPromote ? PROMOTE : 0) | (canDemote ? DEMOTE : 0) | (canDelete ? DELETE : 0);
+        }
     }
 }
@@ -1,7 +1,8 @@
 package com.guild.core.placeholder;
 
 import com.guild.GuildPlugin;
-import com.guild.models.Guild;
+import com.guild.core.leaderboard.GuildLeaderboard;
+import com.guild.core.profiling.PlaceholderResolveEvent;
 import com.guild.models.GuildMember;
 import com.guild.services.GuildService;
 import me.clip.placeholderapi.expansion.PlaceholderExpansion;
@@ -10,16 +11,28 @@ import org.jetbrains.annotations.NotNull;
 import com.guild.core.utils.PlaceholderUtils;
 
 import com.guild.core.time.TimeProvider;
-import java.util.concurrent.CompletableFuture;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Supplier;
 
 public class GuildPlaceholderExpansion extends PlaceholderExpansion {
     
     private final GuildPlugin plugin;
     private final GuildService guildService;
+    // Tabela de despacho montada uma única vez, indexada pelo parâmetro completo
+    private final Map<String, PlaceholderResolver> resolvers;
+    // Placeholders globais (ranking), independentes do jogador e fora do cache por jogador
+    private final Map<String, Supplier<String>> globalResolvers;
+    private final PlaceholderResolver onlineResolver = snapshot -> snapshot.hasGuild()
+        ? String.valueOf(plugin.getSessionManager().getPresenceIndex().getOnlineCount(snapshot.getGuild().getId()))
+        : "0";
     
     public GuildPlaceholderExpansion(GuildPlugin plugin, GuildService guildService) {
         this.plugin = plugin;
         this.guildService = guildService;
+        this.resolvers = createResolvers();
+        this.globalResolvers = createGlobalResolvers();
     }
     
     @Override
@@ -44,278 +57,135 @@ public class GuildPlaceholderExpansion extends PlaceholderExpansion {
     
     @Override
     public String onPlaceholderRequest(Player player, @NotNull String params) {
-        if (player == null) {
-            return "";
-        }
-        
-        String[] args = params.split("_");
-        if (args.length == 0) {
-            return "";
-        }
-        
-        try {
-            switch (args[0].toLowerCase()) {
-                case "name":
-                    return getGuildName(player);
-                case "tag":
-                    return getGuildTag(player);
-                case "description":
-                    return getGuildDescription(player);
-                case "leader":
-                    return getGuildLeader(player);
-                case "membercount":
-                    return getGuildMemberCount(player);
-                case "maxmembers":
-                    return getGuildMaxMembers(player);
-                case "level":
-                    return getGuildLevel(player);
-                case "frozen":
-                    return getGuildFrozenStatus(player);
-                
-                case "role":
-                    return getPlayerRoleColored(player);
-                case "roleraw":
-                    return getPlayerRoleRaw(player);
-                case "rolecolor":
-                    return getPlayerRoleColor(player);
-                case "rolecolored":
-                    return getPlayerRoleColored(player);
-                case "roleprefix":
-                    return getPlayerRolePrefix(player);
-                case "joined":
-                    return getPlayerJoinedTime(player);
-                
-                case "hasguild":
-                    return hasGuild(player);
-                case "isleader":
-                    return isLeader(player);
-                case "isofficer":
-                    return isOfficer(player);
-                case "ismember":
-                    return isMember(player);
-                
-                case "caninvite":
-                    return canInvite(player);
-                case "cankick":
-                    return canKick(player);
-                case "canpromote":
-                    return canPromote(player);
-                case "candemote":
-                    return canDemote(player);
-                
-                default:
-                    return "";
-            }
-        } catch (Exception e) {
-            plugin.getLogger().warning("Erro ao processar placeholder: " + e.getMessage());
-            return "";
-        }
+        PlaceholderResolveEvent event = new PlaceholderResolveEvent();
+        event.begin();
+        String value = request(player, params, event);
+        event.finish(params);
+        return value;
     }
     
-    private String getGuildName(Player player) {
-        try {
-            Guild guild = guildService.getPlayerGuild(player.getUniqueId());
-            return guild != null ? guild.getName() : "Sem Guilda";
-        } catch (Exception e) {
-            return "Sem Guilda";
+    private String request(Player player, String params, PlaceholderResolveEvent event) {
+        Supplier<String> global = globalResolvers.get(params);
+        if (global != null) {
+            event.miss();
+            return global.get();
         }
-    }
-    
-    private String getGuildTag(Player player) {
-        try {
-            Guild guild = guildService.getPlayerGuild(player.getUniqueId());
-            return guild != null ? guild.getTag() : "";
-        } catch (Exception e) {
-            return "";
-        }
-    }
-    
-    private String getGuildDescription(Player player) {
-        try {
-            Guild guild = guildService.getPlayerGuild(player.getUniqueId());
-            return guild != null ? guild.getDescription() : "";
-        } catch (Exception e) {
-            return "";
-        }
-    }
-    
-    private String getGuildLeader(Player player) {
-        try {
-            Guild guild = guildService.getPlayerGuild(player.getUniqueId());
-            return guild != null ? guild.getLeaderName() : "";
-        } catch (Exception e) {
-            return "";
-        }
-    }
-    
-    private String getGuildMemberCount(Player player) {
-        try {
-            Guild guild = guildService.getPlayerGuild(player.getUniqueId());
-            if (guild == null) return "0";
-            
-            CompletableFuture<Integer> future = guildService.getGuildMemberCountAsync(guild.getId());
-            return String.valueOf(future.get());
-        } catch (Exception e) {
-            return "0";
-        }
-    }
-    
-    private String getGuildMaxMembers(Player player) {
-        try {
-            Guild guild = guildService.getPlayerGuild(player.getUniqueId());
-            return guild != null ? String.valueOf(guild.getMaxMembers()) : "0";
-        } catch (Exception e) {
-            return "0";
-        }
-    }
-    
-    private String getGuildLevel(Player player) {
-        try {
-            Guild guild = guildService.getPlayerGuild(player.getUniqueId());
-            return guild != null ? String.valueOf(guild.getLevel()) : "0";
-        } catch (Exception e) {
-            return "0";
-        }
-    }
-    
-
-    private String getGuildFrozenStatus(Player player) {
-        try {
-            Guild guild = guildService.getPlayerGuild(player.getUniqueId());
-            return guild != null ? (guild.isFrozen() ? "Congelado" : "Normal") : "Sem Guilda";
-        } catch (Exception e) {
-            return "Sem Guilda";
-        }
-    }
-    
-    private String getPlayerRoleRaw(Player player) {
-        try {
-            GuildMember member = guildService.getGuildMember(player.getUniqueId());
-            return member != null ? member.getRole().getDisplayName() : "";
-        } catch (Exception e) {
-            return "";
-        }
-    }
-
-    private String getPlayerRoleColor(Player player) {
-        try {
-            GuildMember member = guildService.getGuildMember(player.getUniqueId());
-            if (member == null) return "";
-            return PlaceholderUtils.getRoleColorCode(member.getRole());
-        } catch (Exception e) {
+        if (player == null) {
             return "";
         }
-    }
-
-    private String getPlayerRoleColored(Player player) {
-        try {
-            GuildMember member = guildService.getGuildMember(player.getUniqueId());
-            if (member == null) return "";
-            return PlaceholderUtils.getColoredRoleDisplay(member.getRole());
-        } catch (Exception e) {
-            return "";
+        
+        PlaceholderResolver resolver = resolvers.get(params);
+        if (resolver == null) {
+            resolver = resolvers.get(params.toLowerCase(Locale.ROOT));
+            if (resolver == null) {
+                return "";
+            }
         }
-    }
-
-    private String getPlayerRolePrefix(Player player) {
-        try {
-            GuildMember member = guildService.getGuildMember(player.getUniqueId());
-            GuildMember.Role role = member != null ? member.getRole() : null;
-            return PlaceholderUtils.getRoleSeparator(role);
-        } catch (Exception e) {
-            return "";
+        
+        // Contagem em memória (O(1)); fica fora do cache para não ficar defasada
+        if (resolver == onlineResolver) {
+            event.miss();
+            return resolve(player, params, resolver);
         }
+        
+        PlaceholderResolver found = resolver;
+        return plugin.getPlaceholderManager().getCache().get(player.getUniqueId(), params, () -> {
+            // Também chamado depois, em segundo plano, na revalidação; aí o evento já foi gravado
+            event.miss();
+            return resolve(player, params, found);
+        });
     }
     
-    private String getPlayerJoinedTime(Player player) {
+    /**
+     * Resolver o placeholder sem cache
+     */
+    private String resolve(Player player, String params, PlaceholderResolver resolver) {
         try {
-            GuildMember member = guildService.getGuildMember(player.getUniqueId());
-            if (member == null || member.getJoinedAt() == null) return "";
-            return member.getJoinedAt().format(TimeProvider.FULL_FORMATTER);
+            String value = resolver.resolve(plugin.getPlaceholderManager().getSnapshot(player.getUniqueId()));
+            return value != null ? value : "";
         } catch (Exception e) {
+            plugin.getLogger().warning("Erro ao processar placeholder " + params + ": " + e.getMessage());
             return "";
         }
     }
     
-
-    private String hasGuild(Player player) {
-        try {
-            Guild guild = guildService.getPlayerGuild(player.getUniqueId());
-            return guild != null ? "Sim" : "Não";
-        } catch (Exception e) {
-            return "Não";
-        }
-    }
-    
-    private String isLeader(Player player) {
-        try {
-            GuildMember member = guildService.getGuildMember(player.getUniqueId());
-            return member != null && member.getRole() == GuildMember.Role.LEADER ? "Sim" : "Não";
-        } catch (Exception e) {
-            return "Não";
-        }
-    }
-    
-    private String isOfficer(Player player) {
-        try {
-            GuildMember member = guildService.getGuildMember(player.getUniqueId());
-            return member != null && member.getRole() == GuildMember.Role.OFFICER ? "Sim" : "Não";
-        } catch (Exception e) {
-            return "Não";
-        }
-    }
-    
-    private String isMember(Player player) {
-        try {
-            GuildMember member = guildService.getGuildMember(player.getUniqueId());
-            return member != null ? "Sim" : "Não";
-        } catch (Exception e) {
-            return "Não";
-        }
-    }
-    
-    private String canInvite(Player player) {
-        try {
-            GuildMember member = guildService.getGuildMember(player.getUniqueId());
-            if (member == null) return "Não";
-            
-            return (member.getRole() == GuildMember.Role.LEADER || member.getRole() == GuildMember.Role.OFFICER) ? "Sim" : "Não";
-        } catch (Exception e) {
-            return "Não";
-        }
-    }
-    
-    private String canKick(Player player) {
-        try {
-            GuildMember member = guildService.getGuildMember(player.getUniqueId());
-            if (member == null) return "Não";
-            
-            return (member.getRole() == GuildMember.Role.LEADER || member.getRole() == GuildMember.Role.OFFICER) ? "Sim" : "Não";
-        } catch (Exception e) {
-            return "Não";
-        }
-    }
-    
-    private String canPromote(Player player) {
-        try {
-            GuildMember member = guildService.getGuildMember(player.getUniqueId());
-            if (member == null) return "Não";
-            
-            return member.getRole() == GuildMember.Role.LEADER ? "Sim" : "Não";
-        } catch (Exception e) {
-            return "Não";
+    /**
+     * Montar a tabela de placeholders
+     */
+    private Map<String, PlaceholderResolver> createResolvers() {
+        Map<String, PlaceholderResolver> map = new HashMap<>();
+        
+        // Informações da guilda
+        map.put("name", snapshot -> snapshot.hasGuild() ? snapshot.getGuild().getName() : "Sem Guilda");
+        map.put("tag", snapshot -> snapshot.hasGuild() ? snapshot.getGuild().getTag() : "");
+        map.put("description", snapshot -> snapshot.hasGuild() ? snapshot.getGuild().getDescription() : "");
+        map.put("leader", snapshot -> snapshot.hasGuild() ? snapshot.getGuild().getLeaderName() : "");
+        map.put("membercount", snapshot -> String.valueOf(snapshot.getMemberCount()));
+        map.put("online", onlineResolver);
+        map.put("maxmembers", snapshot -> snapshot.hasGuild() ? String.valueOf(snapshot.getGuild().getMaxMembers()) : "0");
+        map.put("level", snapshot -> snapshot.hasGuild() ? String.valueOf(snapshot.getGuild().getLevel()) : "0");
+        map.put("frozen", snapshot -> snapshot.hasGuild() ? (snapshot.getGuild().isFrozen() ? "Congelado" : "Normal") : "Sem Guilda");
+        
+        // Cargo do jogador
+        PlaceholderResolver roleColored = snapshot -> snapshot.getRole() != null ? PlaceholderUtils.getColoredRoleDisplay(snapshot.getRole()) : "";
+        map.put("role", roleColored);
+        map.put("rolecolored", roleColored);
+        map.put("roleraw", snapshot -> snapshot.getRole() != null ? snapshot.getRole().getDisplayName() : "");
+        map.put("rolecolor", snapshot -> snapshot.getRole() != null ? PlaceholderUtils.getRoleColorCode(snapshot.getRole()) : "");
+        map.put("roleprefix", snapshot -> PlaceholderUtils.getRoleSeparator(snapshot.getRole()));
+        map.put("joined", snapshot -> {
+            GuildMember member = snapshot.getMember();
+            return member != null && member.getJoinedAt() != null ? member.getJoinedAt().format(TimeProvider.FULL_FORMATTER) : "";
+        });
+        
+        // Status do jogador
+        map.put("hasguild", snapshot -> yesNo(snapshot.hasGuild()));
+        map.put("isleader", snapshot -> yesNo(snapshot.getRole() == GuildMember.Role.LEADER));
+        map.put("isofficer", snapshot -> yesNo(snapshot.getRole() == GuildMember.Role.OFFICER));
+        map.put("ismember", snapshot -> yesNo(snapshot.getMember() != null));
+        
+        // Permissões
+        PlaceholderResolver leaderOrOfficer = snapshot -> yesNo(snapshot.getRole() == GuildMember.Role.LEADER || snapshot.getRole() == GuildMember.Role.OFFICER);
+        PlaceholderResolver leaderOnly = snapshot -> yesNo(snapshot.getRole() == GuildMember.Role.LEADER);
+        map.put("caninvite", leaderOrOfficer);
+        map.put("cankick", leaderOrOfficer);
+        map.put("canpromote", leaderOnly);
+        map.put("candemote", leaderOnly);
+        
+        return Map.copyOf(map);
+    }
+    
+    /**
+     * Montar placeholders do ranking: top_members_N_campo e top_level_N_campo
+     */
+    private Map<String, Supplier<String>> createGlobalResolvers() {
+        Map<String, Supplier<String>> map = new HashMap<>();
+        for (GuildLeaderboard.Metric metric : GuildLeaderboard.Metric.values()) {
+            String prefix = "top_" + metric.name().toLowerCase(Locale.ROOT) + "_";
+            for (int rank = 1; rank <= GuildLeaderboard.MAX_RANK; rank++) {
+                int position = rank;
+                map.put(prefix + rank + "_name", () -> {
+                    GuildLeaderboard.Entry entry = plugin.getLeaderboard().getEntry(metric, position);
+                    return entry != null ? entry.getName() : "";
+                });
+                map.put(prefix + rank + "_tag", () -> {
+                    GuildLeaderboard.Entry entry = plugin.getLeaderboard().getEntry(metric, position);
+                    return entry != null ? entry.getTag() : "";
+                });
+                map.put(prefix + rank + "_members", () -> {
+                    GuildLeaderboard.Entry entry = plugin.getLeaderboard().getEntry(metric, position);
+                    return entry != null ? String.valueOf(entry.getMemberCount()) : "0";
+                });
+                map.put(prefix + rank + "_level", () -> {
+                    GuildLeaderboard.Entry entry = plugin.getLeaderboard().getEntry(metric, position);
+                    return entry != null ? String.valueOf(entry.getLevel()) : "0";
+                });
+            }
         }
+        return Map.copyOf(map);
     }
     
-    private String canDemote(Player player) {
-        try {
-            GuildMember member = guildService.getGuildMember(player.getUniqueId());
-            if (member == null) return "Não";
-            
-            return member.getRole() == GuildMember.Role.LEADER ? "Sim" : "Não";
-        } catch (Exception e) {
-            return "Não";
-        }
+    private static String yesNo(boolean value) {
+        return value ? "Sim" : "Não";
     }
-    
 }
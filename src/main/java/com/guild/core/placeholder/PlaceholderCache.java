@@ -0,0 +1,109 @@
+package com.guild.core.placeholder;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+/**
+ * Cache de placeholders por jogador e por placeholder (TTL)
+ *
+ * Acertos retornam imediatamente. Quando o valor expira, o valor antigo continua sendo
+ * retornado enquanto uma nova resolução é feita em segundo plano (stale-while-revalidate).
+ * Apenas a primeira resolução de cada placeholder é feita na thread chamadora.
+ */
+public class PlaceholderCache {
+
+    private final Logger logger;
+    private final Executor refreshExecutor;
+    private final Map<UUID, Map<String, Entry>> entries = new ConcurrentHashMap<>();
+    private volatile boolean enabled = true;
+    private volatile long ttlMillis = 30_000L;
+
+    public PlaceholderCache(Logger logger, Executor refreshExecutor) {
+        this.logger = logger;
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    /**
+     * Configurar cache (placeholders.cache-enabled / placeholders.cache-time)
+     */
+    public void configure(boolean enabled, int cacheTimeSeconds) {
+        this.enabled = enabled && cacheTimeSeconds > 0;
+        this.ttlMillis = Math.max(0, cacheTimeSeconds) * 1000L;
+        entries.clear();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Obter valor do placeholder, resolvendo-o apenas se não estiver em cache
+     */
+    public String get(UUID playerUuid, String params, Supplier<String> resolver) {
+        if (!enabled) {
+            return resolver.get();
+        }
+
+        Map<String, Entry> playerEntries = entries.computeIfAbsent(playerUuid, uuid -> new ConcurrentHashMap<>());
+        Entry entry = playerEntries.get(params);
+        long now = System.currentTimeMillis();
+
+        if (entry == null) {
+            String value = resolver.get();
+            playerEntries.put(params, new Entry(value, now + ttlMillis));
+            return value;
+        }
+
+        if (now >= entry.expiresAt && entry.refreshing.compareAndSet(false, true)) {
+            // Valor expirado: retorna o antigo e atualiza em segundo plano
+            try {
+                refreshExecutor.execute(() -> {
+                    try {
+                        entry.value = resolver.get();
+                        entry.expiresAt = System.currentTimeMillis() + ttlMillis;
+                    } catch (Exception e) {
+                        logger.warning("Erro ao atualizar placeholder " + params + ": " + e.getMessage());
+                    } finally {
+                        entry.refreshing.set(false);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                // Executor sobrecarregado: mantém o valor antigo e tenta novamente na próxima leitura
+                entry.refreshing.set(false);
+            }
+        }
+        return entry.value;
+    }
+
+    /**
+     * Descartar valores em cache do jogador (ex: mudança de guilda ou saída do servidor)
+     */
+    public void invalidate(UUID playerUuid) {
+        entries.remove(playerUuid);
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private static final class Entry {
+        private volatile String value;
+        private volatile long expiresAt;
+        private final AtomicBoolean refreshing = new AtomicBoolean(false);
+
+        private Entry(String value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -1,7 +1,19 @@
 package com.guild.core.placeholder;
 
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+
 import com.guild.GuildPlugin;
+import com.guild.core.database.DatabaseExecutor;
+import com.guild.core.events.EventBus;
+import com.guild.core.events.GuildRenamedEvent;
+import com.guild.core.session.PlayerSession;
+import com.guild.models.Guild;
+import com.guild.models.GuildMember;
 import com.guild.services.GuildService;
+import org.bukkit.configuration.file.FileConfiguration;
 
 public class PlaceholderManager {
     
@@ -9,10 +21,80 @@ public class PlaceholderManager {
     private GuildService guildService;
     private GuildPlaceholderExpansion placeholderExpansion;
     private boolean placeholderApiAvailable = false;
+    private final PlaceholderCache cache;
+    private final Map<UUID, PlaceholderSnapshot> snapshots = new ConcurrentHashMap<>();
     
     public PlaceholderManager(GuildPlugin plugin) {
         this.plugin = plugin;
         this.guildService = null; 
+        this.cache = new PlaceholderCache(plugin.getLogger(), task -> {
+            DatabaseExecutor executor = plugin.getDatabaseManager().getExecutor();
+            if (executor == null) {
+                throw new RejectedExecutionException("Executor do banco de dados não inicializado");
+            }
+            executor.execute(task);
+        });
+        reloadFromConfig();
+    }
+    
+    /**
+     * Recarregar configuração do cache de placeholders
+     */
+    public void reloadFromConfig() {
+        FileConfiguration config = plugin.getConfigManager().getMainConfig();
+        cache.configure(config.getBoolean("placeholders.cache-enabled", true),
+                        config.getInt("placeholders.cache-time", 30));
+    }
+    
+    public PlaceholderCache getCache() {
+        return cache;
+    }
+    
+    /**
+     * Obter snapshot do jogador para resolução de placeholders
+     *
+     * Reaproveitado enquanto a sessão do jogador não mudar; sem sessão, consulta o serviço
+     * uma única vez até o jogador ser invalidado.
+     */
+    public PlaceholderSnapshot getSnapshot(UUID playerUuid) {
+        PlayerSession session = plugin.getSessionManager() != null ? plugin.getSessionManager().getSession(playerUuid) : null;
+        PlaceholderSnapshot snapshot = snapshots.get(playerUuid);
+        if (snapshot != null && snapshot.isFrom(session)) {
+            return snapshot;
+        }
+        if (session != null) {
+            snapshot = new PlaceholderSnapshot(session, session.getGuild(), session.getMember(),
+                memberCount(session.getGuild()));
+        } else {
+            GuildMember member = guildService != null ? guildService.getGuildMember(playerUuid) : null;
+            Guild guild = member != null ? guildService.getGuildById(member.getGuildId()) : null;
+            snapshot = new PlaceholderSnapshot(null, guild, guild != null ? member : null, memberCount(guild));
+        }
+        snapshots.put(playerUuid, snapshot);
+        return snapshot;
+    }
+    
+    private int memberCount(Guild guild) {
+        return guild != null && guildService != null ? guildService.getGuildMemberCount(guild.getId()) : 0;
+    }
+    
+    /**
+     * Descartar placeholders em cache do jogador
+     */
+    public void invalidatePlayer(UUID playerUuid) {
+        snapshots.remove(playerUuid);
+        cache.invalidate(playerUuid);
+    }
+    
+    /**
+     * Assinar eventos que alteram placeholders de vários jogadores de uma vez
+     */
+    public void subscribeEvents(EventBus eventBus) {
+        // Renomear é raro; descartar tudo evita exibir o nome antigo até o TTL expirar
+        eventBus.subscribe(GuildRenamedEvent.class, event -> {
+            snapshots.clear();
+            cache.clear();
+        });
     }
     
     public void setGuildService(GuildService guildService) {
@@ -0,0 +1,10 @@
+package com.guild.core.placeholder;
+
+/**
+ * Resolvedor de um placeholder a partir do snapshot do jogador
+ */
+@FunctionalInterface
+public interface PlaceholderResolver {
+
+    String resolve(PlaceholderSnapshot snapshot) throws Exception;
+}
@@ -0,0 +1,54 @@
+package com.guild.core.placeholder;
+
+import com.guild.core.session.PlayerSession;
+import com.guild.models.Guild;
+import com.guild.models.GuildMember;
+
+/**
+ * Dados do jogador usados na resolução de placeholders
+ *
+ * Montado uma única vez a partir da sessão (ou do serviço, se a sessão não existir) e
+ * reaproveitado por todos os placeholders do jogador até a sessão mudar. A contagem de
+ * membros é lida na montagem, de modo que nenhum placeholder consulta o banco.
+ */
+public final class PlaceholderSnapshot {
+
+    private final PlayerSession source;
+    private final Guild guild;
+    private final GuildMember member;
+    private final int memberCount;
+
+    PlaceholderSnapshot(PlayerSession source, Guild guild, GuildMember member, int memberCount) {
+        this.source = source;
+        this.guild = guild;
+        this.member = member;
+        this.memberCount = memberCount;
+    }
+
+    /**
+     * Verificar se o snapshot foi montado a partir da sessão informada
+     */
+    boolean isFrom(PlayerSession session) {
+        return source == session;
+    }
+
+    public Guild getGuild() {
+        return guild;
+    }
+
+    public GuildMember getMember() {
+        return member;
+    }
+
+    public int getMemberCount() {
+        return memberCount;
+    }
+
+    public GuildMember.Role getRole() {
+        return member != null ? member.getRole() : null;
+    }
+
+    public boolean hasGuild() {
+        return guild != null;
+    }
+}
@@ -0,0 +1,42 @@
+package com.guild.core.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Evento JFR da montagem e abertura de uma GUI (thread principal)
+ */
+@Name("com.guild.GuildGuiRender")
+@Label("Guild GUI Render")
+@Category({ "WBC Guild System", "GUI" })
+@Description("Montagem do inventário de uma GUI de guilda")
+@StackTrace(false)
+public class GuildGuiRenderEvent extends Event {
+
+    @Label("GUI Class")
+    private String guiClass;
+
+    @Label("Slots")
+    private int slots;
+
+    @Label("Refresh")
+    @Description("Se a GUI foi reaberta por uma atualização")
+    private boolean refresh;
+
+    /**
+     * Encerrar o evento e gravá-lo se a gravação estiver ativa
+     */
+    public void finish(Class<?> guiClass, int slots, boolean refresh) {
+        end();
+        if (shouldCommit()) {
+            this.guiClass = guiClass.getName();
+            this.slots = slots;
+            this.refresh = refresh;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.guild.core.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Evento JFR de uma instrução SQL (do início ao retorno do execute*)
+ */
+@Name("com.guild.GuildQuery")
+@Label("Guild Query")
+@Category({ "WBC Guild System", "Database" })
+@Description("Instrução SQL executada pelo plugin de guildas")
+public class GuildQueryEvent extends Event {
+
+    @Label("Query")
+    @Description("SQL normalizado da instrução")
+    private String query;
+
+    @Label("Rows")
+    @Description("Linhas afetadas")
+    private long rows;
+
+    @Label("Failed")
+    private boolean failed;
+
+    /**
+     * Encerrar o evento e gravá-lo se a gravação estiver ativa
+     */
+    public void finish(String query, long rows, boolean failed) {
+        end();
+        if (shouldCommit()) {
+            this.query = query;
+            this.rows = rows;
+            this.failed = failed;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.guild.core.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Evento JFR da espera de uma tarefa na fila da thread principal
+ *
+ * A duração do evento é o atraso entre o envio da tarefa e o início da sua execução.
+ */
+@Name("com.guild.MainThreadHop")
+@Label("Guild Main Thread Hop")
+@Category({ "WBC Guild System", "Scheduler" })
+@Description("Atraso de uma tarefa enviada para a thread principal")
+@StackTrace(false)
+public class MainThreadHopEvent extends Event {
+
+    @Label("Pending Tasks")
+    @Description("Tarefas ainda na fila quando esta começou a executar")
+    private int pending;
+
+    /**
+     * Encerrar o evento (início da execução) e gravá-lo se a gravação estiver ativa
+     */
+    public void finish(int pending) {
+        end();
+        if (shouldCommit()) {
+            this.pending = pending;
+            commit();
+        }
+    }
+}
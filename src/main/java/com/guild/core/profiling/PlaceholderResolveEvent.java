@@ -0,0 +1,44 @@
+package com.guild.core.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Evento JFR de uma requisição de placeholder do PlaceholderAPI
+ */
+@Name("com.guild.PlaceholderResolve")
+@Label("Guild Placeholder Resolve")
+@Category({ "WBC Guild System", "Placeholders" })
+@Description("Placeholder %guild_...% solicitado pelo PlaceholderAPI")
+@StackTrace(false)
+public class PlaceholderResolveEvent extends Event {
+
+    @Label("Parameter")
+    private String param;
+
+    @Label("Cache Hit")
+    @Description("Se o valor veio do cache sem resolução na thread chamadora")
+    private boolean cacheHit = true;
+
+    /**
+     * Marcar que o valor foi resolvido na thread chamadora
+     */
+    public void miss() {
+        cacheHit = false;
+    }
+
+    /**
+     * Encerrar o evento e gravá-lo se a gravação estiver ativa
+     */
+    public void finish(String param) {
+        end();
+        if (shouldCommit()) {
+            this.param = param;
+            commit();
+        }
+    }
+}
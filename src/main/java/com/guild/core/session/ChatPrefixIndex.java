@@ -0,0 +1,66 @@
+package com.guild.core.session;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Índice em memória de jogador para prefixo de chat da guilda
+ *
+ * Mantido pelo {@link PlayerSessionManager} na entrada, na saída e quando a guilda ou a tag
+ * mudam; o chat assíncrono apenas lê o prefixo já formatado, sem I/O nem troca de thread.
+ */
+public class ChatPrefixIndex {
+
+    private final Map<UUID, String> prefixes = new ConcurrentHashMap<>();
+
+    /**
+     * Obter prefixo de chat do jogador (null se não estiver em uma guilda)
+     *
+     * O prefixo já vem com '%' escapado para uso direto no formato do chat.
+     */
+    public String getPrefix(UUID playerUuid) {
+        return prefixes.get(playerUuid);
+    }
+
+    /**
+     * Atualizar prefixo a partir da sessão do jogador
+     */
+    public void update(PlayerSession session) {
+        if (session.hasGuild()) {
+            update(session.getPlayerUuid(), session.getGuild().getTag());
+        } else {
+            prefixes.remove(session.getPlayerUuid());
+        }
+    }
+
+    /**
+     * Atualizar prefixo do jogador com a tag informada
+     */
+    public void update(UUID playerUuid, String tag) {
+        if (tag == null || tag.isEmpty()) {
+            prefixes.remove(playerUuid);
+        } else {
+            prefixes.put(playerUuid, formatPrefix(tag));
+        }
+    }
+
+    public void remove(UUID playerUuid) {
+        prefixes.remove(playerUuid);
+    }
+
+    public void clear() {
+        prefixes.clear();
+    }
+
+    public int size() {
+        return prefixes.size();
+    }
+
+    /**
+     * Formato do chat: §a[TAG]§r nome: mensagem
+     */
+    private static String formatPrefix(String tag) {
+        return "§a[" + tag.replace("%", "%%") + "]§r ";
+    }
+}
@@ -0,0 +1,83 @@
+package com.guild.core.session;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Índice em memória de guilda para membros online
+ *
+ * Mantido pelo {@link PlayerSessionManager} na entrada, na saída e quando a sessão muda;
+ * contém apenas jogadores que já entraram no servidor. Permite contar e enviar mensagens
+ * aos membros online de uma guilda sem percorrer todos os jogadores nem consultar o banco.
+ */
+public class GuildPresenceIndex {
+
+    private final Map<Integer, Set<UUID>> onlineByGuild = new ConcurrentHashMap<>();
+    private final Map<UUID, Integer> guildByPlayer = new ConcurrentHashMap<>();
+
+    /**
+     * Atualizar guilda do jogador a partir da sessão
+     */
+    public void update(PlayerSession session) {
+        UUID playerUuid = session.getPlayerUuid();
+        if (!session.hasGuild()) {
+            remove(playerUuid);
+            return;
+        }
+        int guildId = session.getGuildId();
+        Integer previous = guildByPlayer.put(playerUuid, guildId);
+        if (previous != null && previous != guildId) {
+            removeFromGuild(previous, playerUuid);
+        }
+        onlineByGuild.compute(guildId, (id, members) -> {
+            Set<UUID> result = members != null ? members : ConcurrentHashMap.newKeySet();
+            result.add(playerUuid);
+            return result;
+        });
+    }
+
+    public void remove(UUID playerUuid) {
+        Integer guildId = guildByPlayer.remove(playerUuid);
+        if (guildId != null) {
+            removeFromGuild(guildId, playerUuid);
+        }
+    }
+
+    /**
+     * Obter membros online da guilda (visão somente leitura, sem cópia)
+     */
+    public Set<UUID> getOnlineMembers(int guildId) {
+        Set<UUID> members = onlineByGuild.get(guildId);
+        return members != null ? Collections.unmodifiableSet(members) : Collections.emptySet();
+    }
+
+    /**
+     * Verificar se o jogador está online (apenas membros de guilda)
+     */
+    public boolean isOnline(UUID playerUuid) {
+        return guildByPlayer.containsKey(playerUuid);
+    }
+
+    /**
+     * Obter quantidade de membros online da guilda
+     */
+    public int getOnlineCount(int guildId) {
+        Set<UUID> members = onlineByGuild.get(guildId);
+        return members != null ? members.size() : 0;
+    }
+
+    public void clear() {
+        onlineByGuild.clear();
+        guildByPlayer.clear();
+    }
+
+    private void removeFromGuild(int guildId, UUID playerUuid) {
+        onlineByGuild.computeIfPresent(guildId, (id, members) -> {
+            members.remove(playerUuid);
+            return members.isEmpty() ? null : members;
+        });
+    }
+}
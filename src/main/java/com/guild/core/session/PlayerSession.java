@@ -0,0 +1,103 @@
+package com.guild.core.session;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import com.guild.models.Guild;
+import com.guild.models.GuildMember;
+import com.guild.models.GuildRelation;
+
+/**
+ * Perfil de sessão do jogador
+ *
+ * Carregado uma única vez na entrada (AsyncPlayerPreLoginEvent) com a guilda, o cargo
+ * e as relações da guilda; listeners, chat, placeholders e permissões leem daqui em vez
+ * de consultar o banco de dados a cada evento.
+ */
+public final class PlayerSession {
+
+    private final UUID playerUuid;
+    private final Guild guild;
+    private final GuildMember member;
+    private final List<GuildRelation> relations;
+    private final List<GuildRelation> activeRelations;
+    private final long loadedAt;
+
+    public PlayerSession(UUID playerUuid, Guild guild, GuildMember member, List<GuildRelation> relations) {
+        this.playerUuid = playerUuid;
+        this.guild = guild;
+        this.member = member;
+        this.relations = relations != null ? Collections.unmodifiableList(new ArrayList<>(relations)) : Collections.emptyList();
+        List<GuildRelation> active = new ArrayList<>();
+        for (GuildRelation relation : this.relations) {
+            if (relation.getStatus() == GuildRelation.RelationStatus.ACTIVE) {
+                active.add(relation);
+            }
+        }
+        this.activeRelations = Collections.unmodifiableList(active);
+        this.loadedAt = System.currentTimeMillis();
+    }
+
+    /**
+     * Sessão de jogador sem guilda
+     */
+    public static PlayerSession empty(UUID playerUuid) {
+        return new PlayerSession(playerUuid, null, null, null);
+    }
+
+    public UUID getPlayerUuid() {
+        return playerUuid;
+    }
+
+    public boolean hasGuild() {
+        return guild != null && member != null;
+    }
+
+    public Guild getGuild() {
+        return guild;
+    }
+
+    public int getGuildId() {
+        return guild != null ? guild.getId() : -1;
+    }
+
+    public GuildMember getMember() {
+        return member;
+    }
+
+    public GuildMember.Role getRole() {
+        return member != null ? member.getRole() : null;
+    }
+
+    /**
+     * Todas as relações da guilda do jogador (inclusive pendentes)
+     */
+    public List<GuildRelation> getRelations() {
+        return relations;
+    }
+
+    /**
+     * Relações ativas da guilda do jogador
+     */
+    public List<GuildRelation> getActiveRelations() {
+        return activeRelations;
+    }
+
+    /**
+     * Verificar se a sessão contém a relação informada
+     */
+    public boolean hasRelation(int relationId) {
+        for (GuildRelation relation : relations) {
+            if (relation.getId() == relationId) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public long getLoadedAt() {
+        return loadedAt;
+    }
+}
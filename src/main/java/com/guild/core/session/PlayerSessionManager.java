@@ -0,0 +1,246 @@
+package com.guild.core.session;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+
+import com.guild.GuildPlugin;
+import com.guild.core.events.EventBus;
+import com.guild.core.events.GuildRenamedEvent;
+import com.guild.services.GuildService;
+
+/**
+ * Gerenciador de sessões de jogadores
+ *
+ * Mantém um {@link PlayerSession} por jogador online. A sessão é carregada na pré-entrada,
+ * atualizada pelo GuildService quando a guilda, o cargo ou as relações mudam e descartada
+ * na saída do jogador.
+ */
+public class PlayerSessionManager {
+
+    private static final long PRELOAD_TIMEOUT_SECONDS = 5;
+
+    private final GuildPlugin plugin;
+    private final Logger logger;
+    private final Map<UUID, PlayerSession> sessions = new ConcurrentHashMap<>();
+    // Última solicitação de carga por jogador; respostas antigas são descartadas
+    private final Map<UUID, Long> pendingLoads = new ConcurrentHashMap<>();
+    private final AtomicLong loadSequence = new AtomicLong();
+    private final ChatPrefixIndex chatPrefixIndex = new ChatPrefixIndex();
+    private final GuildPresenceIndex presenceIndex = new GuildPresenceIndex();
+
+    public PlayerSessionManager(GuildPlugin plugin) {
+        this.plugin = plugin;
+        this.logger = plugin.getLogger();
+    }
+
+    /**
+     * Atualizar prefixos de chat quando a tag de uma guilda muda
+     */
+    public void subscribeEvents(EventBus eventBus) {
+        eventBus.subscribe(GuildRenamedEvent.class, event -> {
+            if (!event.isTagChanged()) {
+                return;
+            }
+            for (PlayerSession session : sessions.values()) {
+                if (session.getGuildId() == event.getGuildId()) {
+                    chatPrefixIndex.update(session.getPlayerUuid(), event.getNewTag());
+                }
+            }
+        });
+    }
+    
+    /**
+     * Obter índice de prefixos de chat dos jogadores online
+     */
+    public ChatPrefixIndex getChatPrefixIndex() {
+        return chatPrefixIndex;
+    }
+    
+    /**
+     * Obter índice de membros online por guilda
+     */
+    public GuildPresenceIndex getPresenceIndex() {
+        return presenceIndex;
+    }
+    
+    /**
+     * Obter sessão do jogador (null se ainda não carregada)
+     */
+    public PlayerSession getSession(UUID playerUuid) {
+        return sessions.get(playerUuid);
+    }
+
+    /**
+     * Carregar perfil do jogador do serviço de guildas (não armazena)
+     */
+    public CompletableFuture<PlayerSession> loadAsync(UUID playerUuid) {
+        GuildService guildService = plugin.getGuildService();
+        if (guildService == null) {
+            return CompletableFuture.completedFuture(PlayerSession.empty(playerUuid));
+        }
+        return guildService.getGuildMemberAsync(playerUuid).thenCompose(member -> {
+            if (member == null) {
+                return CompletableFuture.completedFuture(PlayerSession.empty(playerUuid));
+            }
+            return guildService.getGuildByIdAsync(member.getGuildId()).thenCompose(guild -> {
+                if (guild == null) {
+                    return CompletableFuture.completedFuture(PlayerSession.empty(playerUuid));
+                }
+                return guildService.getGuildRelationsAsync(guild.getId()).thenApply(relations ->
+                    new PlayerSession(playerUuid, guild, member, relations));
+            });
+        });
+    }
+
+    /**
+     * Pré-carregar sessão durante a pré-entrada (bloqueante, executado fora da thread principal)
+     */
+    public PlayerSession preload(UUID playerUuid) {
+        long sequence = beginLoad(playerUuid);
+        try {
+            PlayerSession session = loadAsync(playerUuid).get(PRELOAD_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            store(playerUuid, session, sequence, true);
+            return session;
+        } catch (Exception e) {
+            pendingLoads.remove(playerUuid, sequence);
+            logger.warning("Falha ao pré-carregar sessão do jogador " + playerUuid + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Obter sessão do jogador, carregando-a se necessário
+     */
+    public CompletableFuture<PlayerSession> getOrLoadAsync(UUID playerUuid) {
+        PlayerSession session = sessions.get(playerUuid);
+        if (session != null) {
+            return CompletableFuture.completedFuture(session);
+        }
+        return refresh(playerUuid);
+    }
+
+    /**
+     * Recarregar sessão do jogador (armazenada apenas se ele estiver online)
+     */
+    public CompletableFuture<PlayerSession> refresh(UUID playerUuid) {
+        long sequence = beginLoad(playerUuid);
+        return loadAsync(playerUuid).thenApply(session -> {
+            store(playerUuid, session, sequence, false);
+            return session;
+        }).exceptionally(e -> {
+            pendingLoads.remove(playerUuid, sequence);
+            logger.warning("Falha ao atualizar sessão do jogador " + playerUuid + ": " + e.getMessage());
+            return sessions.get(playerUuid);
+        });
+    }
+
+    /**
+     * Recarregar sessões de todos os jogadores online da guilda
+     */
+    public CompletableFuture<Void> refreshGuild(int guildId) {
+        List<CompletableFuture<PlayerSession>> futures = new ArrayList<>();
+        for (PlayerSession session : sessions.values()) {
+            if (session.getGuildId() == guildId) {
+                futures.add(refresh(session.getPlayerUuid()));
+            }
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
+    }
+
+    /**
+     * Recarregar sessões que contêm a relação informada
+     */
+    public CompletableFuture<Void> refreshRelation(int relationId) {
+        List<CompletableFuture<PlayerSession>> futures = new ArrayList<>();
+        for (PlayerSession session : sessions.values()) {
+            if (session.hasRelation(relationId)) {
+                futures.add(refresh(session.getPlayerUuid()));
+            }
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
+    }
+
+    /**
+     * Carregar sessões dos jogadores já online (ex: após /reload)
+     */
+    public void loadOnlinePlayers() {
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            refresh(player.getUniqueId());
+        }
+    }
+
+    /**
+     * Registrar jogador como online (entrada no servidor)
+     */
+    public void markOnline(UUID playerUuid) {
+        PlayerSession session = sessions.get(playerUuid);
+        if (session != null) {
+            presenceIndex.update(session);
+        }
+    }
+    
+    /**
+     * Descartar sessão do jogador
+     */
+    public void invalidate(UUID playerUuid) {
+        pendingLoads.remove(playerUuid);
+        sessions.remove(playerUuid);
+        chatPrefixIndex.remove(playerUuid);
+        presenceIndex.remove(playerUuid);
+        if (plugin.getPlaceholderManager() != null) {
+            plugin.getPlaceholderManager().invalidatePlayer(playerUuid);
+        }
+        if (plugin.getPermissionManager() != null) {
+            plugin.getPermissionManager().removePlayer(playerUuid);
+        }
+    }
+
+    public int getSessionCount() {
+        return sessions.size();
+    }
+
+    public void clear() {
+        pendingLoads.clear();
+        sessions.clear();
+        chatPrefixIndex.clear();
+        presenceIndex.clear();
+    }
+
+    private long beginLoad(UUID playerUuid) {
+        long sequence = loadSequence.incrementAndGet();
+        pendingLoads.put(playerUuid, sequence);
+        return sequence;
+    }
+
+    private void store(UUID playerUuid, PlayerSession session, long sequence, boolean preLogin) {
+        // Ignorar resultado se uma carga mais recente foi iniciada ou a sessão foi descartada
+        if (!pendingLoads.remove(playerUuid, sequence)) {
+            return;
+        }
+        if (preLogin || sessions.containsKey(playerUuid) || Bukkit.getPlayer(playerUuid) != null) {
+            sessions.put(playerUuid, session);
+            chatPrefixIndex.update(session);
+            // Sessões pré-carregadas entram no índice de presença apenas na entrada (markOnline)
+            if (Bukkit.getPlayer(playerUuid) != null) {
+                presenceIndex.update(session);
+            }
+            if (!preLogin && plugin.getPlaceholderManager() != null) {
+                plugin.getPlaceholderManager().invalidatePlayer(playerUuid);
+            }
+            // Permissões dependem da guilda e do cargo da sessão; calculadas aqui, fora da thread principal
+            if (plugin.getPermissionManager() != null) {
+                plugin.getPermissionManager().updatePlayerPermissions(playerUuid);
+            }
+        }
+    }
+}
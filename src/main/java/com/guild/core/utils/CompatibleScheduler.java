@@ -5,27 +5,59 @@ import org.bukkit.Location;
 import org.bukkit.entity.Entity;
 import org.bukkit.plugin.Plugin;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
 
 /**
  * Agendador de Compatibilidade - Suporta Spigot e Folia
+ *
+ * No Folia, os agendadores (global, de região, de entidade e assíncrono) são resolvidos uma
+ * única vez em {@link #initialize(Logger)} como MethodHandles; as chamadas seguintes não usam
+ * reflexão nem dependem de exceções para escolher o agendador.
  */
 public class CompatibleScheduler {
     
+    private static volatile FoliaScheduler folia;
+    private static volatile boolean initialized = false;
+    
     /**
-     * Executa tarefa na thread principal
+     * Resolver os agendadores do servidor (chamado no início do plugin)
      */
-    public static void runTask(Plugin plugin, Runnable task) {
+    public static synchronized void initialize(Logger logger) {
+        if (initialized) {
+            return;
+        }
         if (ServerUtils.isFolia()) {
             try {
-                // Usa reflexão para chamar o agendador de região global do Folia
-                Object globalScheduler = Bukkit.class.getMethod("getGlobalRegionScheduler").invoke(null);
-                globalScheduler.getClass().getMethod("run", Plugin.class, java.util.function.Consumer.class)
-                    .invoke(globalScheduler, plugin, (java.util.function.Consumer<Object>) scheduledTask -> task.run());
-            } catch (Exception e) {
-                // Se a API do Folia não estiver disponível, volta para o agendador tradicional
-                Bukkit.getScheduler().runTask(plugin, task);
+                folia = new FoliaScheduler();
+            } catch (Throwable e) {
+                // Se a API do Folia não estiver disponível, usa o agendador tradicional
+                if (logger != null) {
+                    logger.warning("API de agendamento do Folia indisponível, usando agendador tradicional: " + e.getMessage());
+                }
             }
+        }
+        initialized = true;
+    }
+    
+    private static FoliaScheduler folia() {
+        if (!initialized) {
+            initialize(null);
+        }
+        return folia;
+    }
+    
+    /**
+     * Executa tarefa na thread principal
+     */
+    public static void runTask(Plugin plugin, Runnable task) {
+        FoliaScheduler scheduler = folia();
+        if (scheduler != null) {
+            scheduler.runGlobal(plugin, task);
         } else {
             Bukkit.getScheduler().runTask(plugin, task);
         }
@@ -35,16 +67,9 @@ public class CompatibleScheduler {
      * Executa tarefa em um local específico
      */
     public static void runTask(Plugin plugin, Location location, Runnable task) {
-        if (ServerUtils.isFolia()) {
-            try {
-                // Usa reflexão para chamar o agendador de região do Folia
-                Object regionScheduler = Bukkit.class.getMethod("getRegionScheduler").invoke(null);
-                regionScheduler.getClass().getMethod("run", Plugin.class, Location.class, java.util.function.Consumer.class)
-                    .invoke(regionScheduler, plugin, location, (java.util.function.Consumer<Object>) scheduledTask -> task.run());
-            } catch (Exception e) {
-                // Se a API do Folia não estiver disponível, volta para o agendador tradicional
-                Bukkit.getScheduler().runTask(plugin, task);
-            }
+        FoliaScheduler scheduler = folia();
+        if (scheduler != null) {
+            scheduler.runRegion(plugin, location, task);
         } else {
             Bukkit.getScheduler().runTask(plugin, task);
         }
@@ -54,16 +79,9 @@ public class CompatibleScheduler {
      * Executa tarefa na região da entidade especificada
      */
     public static void runTask(Plugin plugin, Entity entity, Runnable task) {
-        if (ServerUtils.isFolia()) {
-            try {
-                // Usa reflexão para chamar o agendador de entidade do Folia
-                Object entityScheduler = entity.getClass().getMethod("getScheduler").invoke(entity);
-                entityScheduler.getClass().getMethod("run", Plugin.class, java.util.function.Consumer.class, Runnable.class)
-                    .invoke(entityScheduler, plugin, (java.util.function.Consumer<Object>) scheduledTask -> task.run(), (Runnable) () -> {});
-            } catch (Exception e) {
-                // Se a API do Folia não estiver disponível, volta para o agendador tradicional
-                Bukkit.getScheduler().runTask(plugin, task);
-            }
+        FoliaScheduler scheduler = folia();
+        if (scheduler != null) {
+            scheduler.runEntity(plugin, entity, task);
         } else {
             Bukkit.getScheduler().runTask(plugin, task);
         }
@@ -73,16 +91,9 @@ public class CompatibleScheduler {
      * Executa tarefa com atraso
      */
     public static void runTaskLater(Plugin plugin, Runnable task, long delay) {
-        if (ServerUtils.isFolia()) {
-            try {
-                // Usa reflexão para chamar o agendador de região global do Folia
-                Object globalScheduler = Bukkit.class.getMethod("getGlobalRegionScheduler").invoke(null);
-                globalScheduler.getClass().getMethod("runDelayed", Plugin.class, java.util.function.Consumer.class, long.class)
-                    .invoke(globalScheduler, plugin, (java.util.function.Consumer<Object>) scheduledTask -> task.run(), delay);
-            } catch (Exception e) {
-                // Se a API do Folia não estiver disponível, volta para o agendador tradicional
-                Bukkit.getScheduler().runTaskLater(plugin, task, delay);
-            }
+        FoliaScheduler scheduler = folia();
+        if (scheduler != null) {
+            scheduler.runGlobalDelayed(plugin, task, delay);
         } else {
             Bukkit.getScheduler().runTaskLater(plugin, task, delay);
         }
@@ -92,16 +103,9 @@ public class CompatibleScheduler {
      * Executa tarefa com atraso em um local específico
      */
     public static void runTaskLater(Plugin plugin, Location location, Runnable task, long delay) {
-        if (ServerUtils.isFolia()) {
-            try {
-                // Usa reflexão para chamar o agendador de região do Folia
-                Object regionScheduler = Bukkit.class.getMethod("getRegionScheduler").invoke(null);
-                regionScheduler.getClass().getMethod("runDelayed", Plugin.class, Location.class, java.util.function.Consumer.class, long.class)
-                    .invoke(regionScheduler, plugin, location, (java.util.function.Consumer<Object>) scheduledTask -> task.run(), delay);
-            } catch (Exception e) {
-                // Se a API do Folia não estiver disponível, volta para o agendador tradicional
-                Bukkit.getScheduler().runTaskLater(plugin, task, delay);
-            }
+        FoliaScheduler scheduler = folia();
+        if (scheduler != null) {
+            scheduler.runRegionDelayed(plugin, location, task, delay);
         } else {
             Bukkit.getScheduler().runTaskLater(plugin, task, delay);
         }
@@ -111,16 +115,9 @@ public class CompatibleScheduler {
      * Executa tarefa assincronamente
      */
     public static void runTaskAsync(Plugin plugin, Runnable task) {
-        if (ServerUtils.isFolia()) {
-            try {
-                // Usa reflexão para chamar o agendador assíncrono do Folia
-                Object asyncScheduler = Bukkit.class.getMethod("getAsyncScheduler").invoke(null);
-                asyncScheduler.getClass().getMethod("runNow", Plugin.class, java.util.function.Consumer.class)
-                    .invoke(asyncScheduler, plugin, (java.util.function.Consumer<Object>) scheduledTask -> task.run());
-            } catch (Exception e) {
-                // Se a API do Folia não estiver disponível, volta para o agendador tradicional
-                Bukkit.getScheduler().runTaskAsynchronously(plugin, task);
-            }
+        FoliaScheduler scheduler = folia();
+        if (scheduler != null) {
+            scheduler.runAsync(plugin, task);
         } else {
             Bukkit.getScheduler().runTaskAsynchronously(plugin, task);
         }
@@ -130,16 +127,9 @@ public class CompatibleScheduler {
      * Executa tarefa repetidamente
      */
     public static void runTaskTimer(Plugin plugin, Runnable task, long delay, long period) {
-        if (ServerUtils.isFolia()) {
-            try {
-                // Usa reflexão para chamar o agendador de região global do Folia
-                Object globalScheduler = Bukkit.class.getMethod("getGlobalRegionScheduler").invoke(null);
-                globalScheduler.getClass().getMethod("runAtFixedRate", Plugin.class, java.util.function.Consumer.class, long.class, long.class)
-                    .invoke(globalScheduler, plugin, (java.util.function.Consumer<Object>) scheduledTask -> task.run(), delay, period);
-            } catch (Exception e) {
-                // Se a API do Folia não estiver disponível, volta para o agendador tradicional
-                Bukkit.getScheduler().runTaskTimer(plugin, task, delay, period);
-            }
+        FoliaScheduler scheduler = folia();
+        if (scheduler != null) {
+            scheduler.runGlobalTimer(plugin, task, delay, period);
         } else {
             Bukkit.getScheduler().runTaskTimer(plugin, task, delay, period);
         }
@@ -149,16 +139,147 @@ public class CompatibleScheduler {
      * Verifica se está na thread principal
      */
     public static boolean isPrimaryThread() {
-        if (ServerUtils.isFolia()) {
+        FoliaScheduler scheduler = folia();
+        if (scheduler != null) {
+            return scheduler.isGlobalTickThread();
+        }
+        return Bukkit.isPrimaryThread();
+    }
+    
+    /**
+     * Agendadores do Folia resolvidos por reflexão uma única vez
+     */
+    private static final class FoliaScheduler {
+        // Tipos ajustados (retorno descartado) para chamada com invokeExact
+        private final MethodHandle globalRun;
+        private final MethodHandle globalRunDelayed;
+        private final MethodHandle globalRunAtFixedRate;
+        private final MethodHandle regionRun;
+        private final MethodHandle regionRunDelayed;
+        private final MethodHandle asyncRunNow;
+        private final MethodHandle entityGetScheduler;
+        private final MethodHandle entityRun;
+        private final MethodHandle isGlobalTickThread;
+        
+        private FoliaScheduler() throws ReflectiveOperationException {
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            
+            Method getGlobal = Bukkit.class.getMethod("getGlobalRegionScheduler");
+            Object global = getGlobal.invoke(null);
+            Class<?> globalType = getGlobal.getReturnType();
+            globalRun = bind(lookup, globalType.getMethod("run", Plugin.class, Consumer.class), global,
+                MethodType.methodType(void.class, Plugin.class, Consumer.class));
+            globalRunDelayed = bind(lookup, globalType.getMethod("runDelayed", Plugin.class, Consumer.class, long.class), global,
+                MethodType.methodType(void.class, Plugin.class, Consumer.class, long.class));
+            globalRunAtFixedRate = bind(lookup, globalType.getMethod("runAtFixedRate", Plugin.class, Consumer.class, long.class, long.class), global,
+                MethodType.methodType(void.class, Plugin.class, Consumer.class, long.class, long.class));
+            
+            Method getRegion = Bukkit.class.getMethod("getRegionScheduler");
+            Object region = getRegion.invoke(null);
+            Class<?> regionType = getRegion.getReturnType();
+            regionRun = bind(lookup, regionType.getMethod("run", Plugin.class, Location.class, Consumer.class), region,
+                MethodType.methodType(void.class, Plugin.class, Location.class, Consumer.class));
+            regionRunDelayed = bind(lookup, regionType.getMethod("runDelayed", Plugin.class, Location.class, Consumer.class, long.class), region,
+                MethodType.methodType(void.class, Plugin.class, Location.class, Consumer.class, long.class));
+            
+            Method getAsync = Bukkit.class.getMethod("getAsyncScheduler");
+            Object async = getAsync.invoke(null);
+            asyncRunNow = bind(lookup, getAsync.getReturnType().getMethod("runNow", Plugin.class, Consumer.class), async,
+                MethodType.methodType(void.class, Plugin.class, Consumer.class));
+            
+            Method getEntityScheduler = Entity.class.getMethod("getScheduler");
+            entityGetScheduler = lookup.unreflect(getEntityScheduler)
+                .asType(MethodType.methodType(Object.class, Entity.class));
+            entityRun = lookup.unreflect(getEntityScheduler.getReturnType().getMethod("run", Plugin.class, Consumer.class, Runnable.class))
+                .asType(MethodType.methodType(void.class, Object.class, Plugin.class, Consumer.class, Runnable.class));
+            
+            isGlobalTickThread = lookup.unreflect(Bukkit.class.getMethod("isGlobalTickThread"))
+                .asType(MethodType.methodType(boolean.class));
+        }
+        
+        private static MethodHandle bind(MethodHandles.Lookup lookup, Method method, Object receiver, MethodType type)
+                throws IllegalAccessException {
+            return lookup.unreflect(method).bindTo(receiver).asType(type);
+        }
+        
+        private static Consumer<Object> consumer(Runnable task) {
+            return scheduledTask -> task.run();
+        }
+        
+        void runGlobal(Plugin plugin, Runnable task) {
             try {
-                // Usa reflexão para chamar a verificação de thread global do Folia
-                return (Boolean) Bukkit.class.getMethod("isGlobalTickThread").invoke(null);
-            } catch (Exception e) {
-                // Se a API do Folia não estiver disponível, volta para a verificação tradicional
-                return Bukkit.isPrimaryThread();
+                globalRun.invokeExact(plugin, consumer(task));
+            } catch (Throwable e) {
+                throw rethrow(e);
             }
-        } else {
-            return Bukkit.isPrimaryThread();
+        }
+        
+        void runGlobalDelayed(Plugin plugin, Runnable task, long delay) {
+            try {
+                globalRunDelayed.invokeExact(plugin, consumer(task), delay);
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        }
+        
+        void runGlobalTimer(Plugin plugin, Runnable task, long delay, long period) {
+            try {
+                globalRunAtFixedRate.invokeExact(plugin, consumer(task), delay, period);
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        }
+        
+        void runRegion(Plugin plugin, Location location, Runnable task) {
+            try {
+                regionRun.invokeExact(plugin, location, consumer(task));
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        }
+        
+        void runRegionDelayed(Plugin plugin, Location location, Runnable task, long delay) {
+            try {
+                regionRunDelayed.invokeExact(plugin, location, consumer(task), delay);
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        }
+        
+        void runAsync(Plugin plugin, Runnable task) {
+            try {
+                asyncRunNow.invokeExact(plugin, consumer(task));
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        }
+        
+        void runEntity(Plugin plugin, Entity entity, Runnable task) {
+            try {
+                Object scheduler = (Object) entityGetScheduler.invokeExact(entity);
+                Runnable retired = () -> {};
+                entityRun.invokeExact(scheduler, plugin, consumer(task), retired);
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        }
+        
+        boolean isGlobalTickThread() {
+            try {
+                return (boolean) isGlobalTickThread.invokeExact();
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        }
+        
+        private static RuntimeException rethrow(Throwable e) {
+            if (e instanceof RuntimeException) {
+                return (RuntimeException) e;
+            }
+            if (e instanceof Error) {
+                throw (Error) e;
+            }
+            return new IllegalStateException("Falha ao agendar tarefa no Folia", e);
         }
     }
 }
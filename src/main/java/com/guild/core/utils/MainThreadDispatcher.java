@@ -0,0 +1,133 @@
+package com.guild.core.utils;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+import org.bukkit.entity.Entity;
+import org.bukkit.plugin.Plugin;
+
+import com.guild.core.profiling.MainThreadHopEvent;
+
+/**
+ * Despachante de tarefas da thread principal com agrupamento por tick
+ *
+ * As tarefas enviadas de futuros assíncronos (GUIs, nomes de exibição) entram em uma única
+ * fila, drenada por uma só tarefa agendada por tick. Cada drenagem respeita um orçamento de
+ * tempo; o que sobrar é executado no tick seguinte, em ordem de envio.
+ */
+public class MainThreadDispatcher implements Executor {
+
+    private final Plugin plugin;
+    private final Logger logger;
+    private final Queue<QueuedTask> queue = new ConcurrentLinkedQueue<>();
+    // Tamanho da fila em O(1) (ConcurrentLinkedQueue.size() percorre a fila inteira)
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicBoolean drainScheduled = new AtomicBoolean(false);
+    private volatile long budgetNanos;
+    private volatile boolean shutdown = false;
+
+    public MainThreadDispatcher(Plugin plugin, long budgetMillis) {
+        this.plugin = plugin;
+        this.logger = plugin.getLogger();
+        setBudgetMillis(budgetMillis);
+    }
+
+    /**
+     * Definir o tempo máximo de execução por tick (scheduler.main-thread-budget-ms)
+     */
+    public void setBudgetMillis(long budgetMillis) {
+        this.budgetNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, budgetMillis));
+    }
+
+    /**
+     * Enfileirar tarefa para a thread principal
+     */
+    @Override
+    public void execute(Runnable task) {
+        if (shutdown) {
+            CompatibleScheduler.runTask(plugin, task);
+            return;
+        }
+        pending.incrementAndGet();
+        queue.add(new QueuedTask(task));
+        scheduleDrain();
+    }
+
+    /**
+     * Enfileirar tarefa que manipula a entidade informada
+     *
+     * No Folia a tarefa vai direto para o agendador da região da entidade; nos demais
+     * servidores entra na fila comum da thread principal.
+     */
+    public void execute(Entity entity, Runnable task) {
+        if (ServerUtils.isFolia()) {
+            CompatibleScheduler.runTask(plugin, entity, task);
+        } else {
+            execute(task);
+        }
+    }
+
+    public int getPendingCount() {
+        return pending.get();
+    }
+
+    /**
+     * Descartar tarefas pendentes (desligamento do plugin)
+     */
+    public void shutdown() {
+        shutdown = true;
+        while (queue.poll() != null) {
+            pending.decrementAndGet();
+        }
+    }
+
+    private void scheduleDrain() {
+        if (drainScheduled.compareAndSet(false, true)) {
+            try {
+                CompatibleScheduler.runTask(plugin, this::drain);
+            } catch (RuntimeException e) {
+                drainScheduled.set(false);
+                throw e;
+            }
+        }
+    }
+
+    private void drain() {
+        long deadline = System.nanoTime() + budgetNanos;
+        QueuedTask task;
+        // Pelo menos uma tarefa por tick, mesmo que ela sozinha exceda o orçamento
+        while ((task = queue.poll()) != null) {
+            task.hop.finish(pending.decrementAndGet());
+            try {
+                task.runnable.run();
+            } catch (Exception e) {
+                logger.severe("Erro ao executar tarefa na thread principal: " + e.getMessage());
+                e.printStackTrace();
+            }
+            if (System.nanoTime() >= deadline) {
+                break;
+            }
+        }
+        drainScheduled.set(false);
+        // Restante fica para o próximo tick
+        if (!queue.isEmpty() && !shutdown) {
+            scheduleDrain();
+        }
+    }
+
+    private static final class QueuedTask {
+        private final Runnable runnable;
+        // Iniciado no envio; a duração registrada é o tempo de espera na fila
+        private final MainThreadHopEvent hop = new MainThreadHopEvent();
+
+        private QueuedTask(Runnable runnable) {
+            this.runnable = runnable;
+            hop.begin();
+        }
+    }
+}
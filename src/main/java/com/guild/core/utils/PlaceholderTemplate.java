@@ -0,0 +1,132 @@
+package com.guild.core.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.bukkit.ChatColor;
+
+/**
+ * Texto com placeholders {nome} pré-compilado
+ *
+ * O texto é dividido uma única vez em trechos literais (com os códigos de cor já
+ * traduzidos) e tokens. A renderização percorre os trechos em uma única passada,
+ * resolvendo apenas os tokens presentes, em um StringBuilder reaproveitado por thread.
+ * Tokens não resolvidos são mantidos como estão ({nome}).
+ */
+public final class PlaceholderTemplate {
+
+    // Limite de textos compilados em cache (textos montados dinamicamente não crescem sem fim)
+    private static final int MAX_CACHED_TEMPLATES = 2048;
+    private static final Map<String, PlaceholderTemplate> CACHE = new ConcurrentHashMap<>();
+    private static final ThreadLocal<StringBuilder> BUILDER = ThreadLocal.withInitial(() -> new StringBuilder(128));
+
+    private final String[] literals;
+    private final String[] tokens;
+    private final String constant;
+
+    private PlaceholderTemplate(String[] literals, String[] tokens) {
+        this.literals = literals;
+        this.tokens = tokens;
+        this.constant = tokens.length == 0 ? literals[0] : null;
+    }
+
+    /**
+     * Obter template compilado do texto (em cache até a próxima recarga da configuração)
+     */
+    public static PlaceholderTemplate of(String text) {
+        PlaceholderTemplate template = CACHE.get(text);
+        if (template == null) {
+            if (CACHE.size() >= MAX_CACHED_TEMPLATES) {
+                CACHE.clear();
+            }
+            template = CACHE.computeIfAbsent(text, PlaceholderTemplate::compile);
+        }
+        return template;
+    }
+
+    /**
+     * Descartar templates compilados (recarga da configuração)
+     */
+    public static void clearCache() {
+        CACHE.clear();
+    }
+
+    /**
+     * Compilar texto em trechos literais e tokens
+     */
+    public static PlaceholderTemplate compile(String text) {
+        List<String> literals = new ArrayList<>();
+        List<String> tokens = new ArrayList<>();
+        int literalStart = 0;
+        int index = 0;
+        while (index < text.length()) {
+            int open = text.indexOf('{', index);
+            if (open < 0) {
+                break;
+            }
+            int close = text.indexOf('}', open + 1);
+            if (close < 0) {
+                break;
+            }
+            if (!isToken(text, open + 1, close)) {
+                index = open + 1;
+                continue;
+            }
+            literals.add(colorize(text.substring(literalStart, open)));
+            tokens.add(text.substring(open + 1, close));
+            literalStart = close + 1;
+            index = literalStart;
+        }
+        literals.add(colorize(text.substring(literalStart)));
+        return new PlaceholderTemplate(literals.toArray(new String[0]), tokens.toArray(new String[0]));
+    }
+
+    /**
+     * Renderizar o template; o resolvedor retorna null para tokens desconhecidos
+     */
+    public String render(Function<String, String> resolver) {
+        if (constant != null) {
+            return constant;
+        }
+        StringBuilder builder = BUILDER.get();
+        builder.setLength(0);
+        for (int i = 0; i < tokens.length; i++) {
+            builder.append(literals[i]);
+            String value = resolver.apply(tokens[i]);
+            if (value == null) {
+                builder.append('{').append(tokens[i]).append('}');
+            } else if (value.indexOf('&') >= 0) {
+                // Valores também podem conter códigos de cor (ex: {member_role_color})
+                builder.append(colorize(value));
+            } else {
+                builder.append(value);
+            }
+        }
+        builder.append(literals[tokens.length]);
+        return builder.toString();
+    }
+
+    public int getTokenCount() {
+        return tokens.length;
+    }
+
+    private static boolean isToken(String text, int start, int end) {
+        if (start == end) {
+            return false;
+        }
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (!Character.isLetterOrDigit(c) && c != '_' && c != '-' && c != '.') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String colorize(String text) {
+        return text.isEmpty() ? text : ChatColor.translateAlternateColorCodes('&', text);
+    }
+}
@@ -11,6 +11,9 @@ import java.util.concurrent.CompletableFuture;
 
 /**
  * Utilitários de processamento de placeholders
+ *
+ * Os textos são compilados uma única vez em {@link PlaceholderTemplate} (cores já traduzidas)
+ * e renderizados em uma única passada; o cache é descartado ao recarregar a configuração.
  */
 public class PlaceholderUtils {
     
@@ -34,32 +37,58 @@ public class PlaceholderUtils {
         if (text == null || guild == null) {
             return text;
         }
-        
-        String result = text
+        return PlaceholderTemplate.of(text).render(token -> resolveGuildToken(token, guild, player));
+    }
+    
+    /**
+     * Substitui placeholders relacionados à guilda, incluindo a quantidade de membros
+     * @param text Texto original
+     * @param guild Objeto da guilda
+     * @param player Objeto do jogador
+     * @param memberCount Quantidade de membros
+     * @return Texto substituído
+     */
+    public static String replaceGuildPlaceholders(String text, Guild guild, Player player, int memberCount) {
+        if (text == null || guild == null) {
+            return text;
+        }
+        return PlaceholderTemplate.of(text).render(token -> {
+            switch (token) {
+                case "member_count": return String.valueOf(memberCount);
+                case "online_member_count": return String.valueOf(getOnlineMemberCount(guild.getId()));
+                default: return resolveGuildToken(token, guild, player);
+            }
+        });
+    }
+    
+    /**
+     * Resolve um token de guilda (null se desconhecido)
+     */
+    private static String resolveGuildToken(String token, Guild guild, Player player) {
+        switch (token) {
             // Informações básicas da guilda
-            .replace("{guild_name}", guild.getName())
-            .replace("{guild_tag}", guild.getTag() != null ? guild.getTag() : "")
-            .replace("{guild_description}", guild.getDescription() != null ? guild.getDescription() : "")
-            .replace("{guild_id}", String.valueOf(guild.getId()))
-            .replace("{guild_created_time}", guild.getCreatedAt().format(DATE_FORMATTER))
-            .replace("{guild_created_date}", guild.getCreatedAt().toLocalDate().toString())
+            case "guild_name": return guild.getName();
+            case "guild_tag": return guild.getTag() != null ? guild.getTag() : "";
+            case "guild_description": return guild.getDescription() != null ? guild.getDescription() : "";
+            case "guild_id": return String.valueOf(guild.getId());
+            case "guild_created_time": return guild.getCreatedAt() != null ? guild.getCreatedAt().format(DATE_FORMATTER) : "";
+            case "guild_created_date": return guild.getCreatedAt() != null ? guild.getCreatedAt().toLocalDate().toString() : "";
             
             // Informações do líder da guilda
-            .replace("{leader_name}", guild.getLeaderName())
-            .replace("{leader_uuid}", guild.getLeaderUuid().toString())
+            case "leader_name": return guild.getLeaderName();
+            case "leader_uuid": return guild.getLeaderUuid() != null ? guild.getLeaderUuid().toString() : "";
             
             // Informações do jogador
-            .replace("{player_name}", player != null ? player.getName() : "")
-            .replace("{player_uuid}", player != null ? player.getUniqueId().toString() : "")
-            .replace("{player_display_name}", player != null ? player.getDisplayName() : "")
+            case "player_name": return player != null ? player.getName() : "";
+            case "player_uuid": return player != null ? player.getUniqueId().toString() : "";
+            case "player_display_name": return player != null ? player.getDisplayName() : "";
             
             // Informações estáticas
-            .replace("{guild_level}", String.valueOf(guild.getLevel()))
-            .replace("{guild_max_members}", String.valueOf(guild.getMaxMembers()))
-            .replace("{guild_frozen}", guild.isFrozen() ? "Congelado" : "Normal");
-        
-        // Processa códigos de cores
-        return ColorUtils.colorize(result);
+            case "guild_level": return String.valueOf(guild.getLevel());
+            case "guild_max_members": return String.valueOf(guild.getMaxMembers());
+            case "guild_frozen": return guild.isFrozen() ? "Congelado" : "Normal";
+            default: return null;
+        }
     }
     
     /**
@@ -75,22 +104,23 @@ public class PlaceholderUtils {
             return CompletableFuture.completedFuture(text);
         }
         
-        // Substitui placeholders estáticos primeiro
-        String result = replaceGuildPlaceholders(text, guild, player);
-        
-        // Obtém dados dinâmicos assincronamente
-        return guildService.getGuildMemberCountAsync(guild.getId()).thenApply(memberCount -> {
-            try {
-                return result
-                    .replace("{member_count}", String.valueOf(memberCount))
-                    .replace("{online_member_count}", String.valueOf(memberCount)); // Usando contagem total de membros temporariamente, pode adicionar estatísticas online depois
-            } catch (Exception e) {
-                // Se falhar ao obter, usa valor padrão
-                return result
-                    .replace("{member_count}", "0")
-                    .replace("{online_member_count}", "0");
-            }
-        });
+        // Obtém dados dinâmicos assincronamente e renderiza tudo em uma única passada
+        return guildService.getGuildMemberCountAsync(guild.getId())
+            .exceptionally(e -> 0)
+            .thenApply(memberCount -> replaceGuildPlaceholders(text, guild, player, memberCount != null ? memberCount : 0));
+    }
+    
+    /**
+     * Obtém a quantidade de membros online da guilda (índice de presença em memória)
+     * @param guildId ID da guilda
+     * @return Quantidade de membros online
+     */
+    public static int getOnlineMemberCount(int guildId) {
+        com.guild.GuildPlugin plugin = com.guild.GuildPlugin.getInstance();
+        if (plugin == null || plugin.getSessionManager() == null) {
+            return 0;
+        }
+        return plugin.getSessionManager().getPresenceIndex().getOnlineCount(guildId);
     }
     
     /**
@@ -105,21 +135,22 @@ public class PlaceholderUtils {
             return text;
         }
         
-        String result = text
-            // Informações básicas do membro
-            .replace("{member_name}", member.getPlayerName())
-            .replace("{member_uuid}", member.getPlayerUuid().toString())
-            .replace("{member_role}", getRoleDisplayName(member.getRole()))
-            .replace("{member_role_color}", getRoleColorFromConfig(member.getRole()))
-            .replace("{member_join_time}", member.getJoinedAt().format(DATE_FORMATTER))
-            .replace("{member_join_date}", member.getJoinedAt().toLocalDate().toString())
-            
-            // Informações da guilda
-            .replace("{guild_name}", guild != null ? guild.getName() : "")
-            .replace("{guild_tag}", guild != null && guild.getTag() != null ? guild.getTag() : "");
-        
-        // Processa códigos de cores
-        return ColorUtils.colorize(result);
+        return PlaceholderTemplate.of(text).render(token -> {
+            switch (token) {
+                // Informações básicas do membro
+                case "member_name": return member.getPlayerName();
+                case "member_uuid": return member.getPlayerUuid().toString();
+                case "member_role": return getRoleDisplayName(member.getRole());
+                case "member_role_color": return getRoleColorFromConfig(member.getRole());
+                case "member_join_time": return member.getJoinedAt() != null ? member.getJoinedAt().format(DATE_FORMATTER) : "";
+                case "member_join_date": return member.getJoinedAt() != null ? member.getJoinedAt().toLocalDate().toString() : "";
+                
+                // Informações da guilda
+                case "guild_name": return guild != null ? guild.getName() : "";
+                case "guild_tag": return guild != null && guild.getTag() != null ? guild.getTag() : "";
+                default: return null;
+            }
+        });
     }
     
     /**
@@ -135,14 +166,15 @@ public class PlaceholderUtils {
             return text;
         }
         
-        String result = text
-            .replace("{applicant_name}", applicantName != null ? applicantName : "")
-            .replace("{guild_name}", guildName != null ? guildName : "")
-            .replace("{apply_time}", applyTime != null ? applyTime.format(DATE_FORMATTER) : "")
-            .replace("{apply_date}", applyTime != null ? applyTime.toLocalDate().toString() : "");
-        
-        // Processa códigos de cores
-        return ColorUtils.colorize(result);
+        return PlaceholderTemplate.of(text).render(token -> {
+            switch (token) {
+                case "applicant_name": return applicantName != null ? applicantName : "";
+                case "guild_name": return guildName != null ? guildName : "";
+                case "apply_time": return applyTime != null ? applyTime.format(DATE_FORMATTER) : "";
+                case "apply_date": return applyTime != null ? applyTime.toLocalDate().toString() : "";
+                default: return null;
+            }
+        });
     }
     
     /**
@@ -226,6 +258,14 @@ public class PlaceholderUtils {
         return ColorUtils.colorize(color + cachedSeparatorText);
     }
 
+    /**
+     * Descarta templates compilados e cores de cargo em cache (recarga da configuração)
+     */
+    public static void invalidateCache() {
+        PlaceholderTemplate.clearCache();
+        cachedLeaderColor = null;
+    }
+
     private static void ensureRoleConfigCached() {
         if (cachedLeaderColor != null) {
             return;
@@ -14,30 +14,29 @@ public class ServerUtils {
         UNKNOWN
     }
     
-    private static ServerType serverType = null;
+    // Detectado uma única vez ao carregar a classe; o tipo de servidor não muda em execução
+    private static final ServerType SERVER_TYPE = detectServerType();
+    private static final boolean FOLIA = SERVER_TYPE == ServerType.FOLIA;
     
     /**
      * Detecta o tipo de servidor
      */
     public static ServerType getServerType() {
-        if (serverType == null) {
-            serverType = detectServerType();
-        }
-        return serverType;
+        return SERVER_TYPE;
     }
     
     /**
      * Verifica se é um servidor Folia
      */
     public static boolean isFolia() {
-        return getServerType() == ServerType.FOLIA;
+        return FOLIA;
     }
     
     /**
      * Verifica se é um servidor Spigot
      */
     public static boolean isSpigot() {
-        return getServerType() == ServerType.SPIGOT;
+        return SERVER_TYPE == ServerType.SPIGOT;
     }
     
     /**
@@ -253,13 +253,8 @@ public class GuildInfoGUI implements GUI {
     }
 
     private String replacePlaceholdersAsync(String text, int memberCount) {
-        // Primeiro usar PlaceholderUtils para processar variáveis básicas
-        String result = PlaceholderUtils.replaceGuildPlaceholders(text, guild, player);
-        
-        // Depois processar variáveis dinâmicas
-        return result
-            .replace("{member_count}", String.valueOf(memberCount))
-            .replace("{online_member_count}", String.valueOf(memberCount)); // Usar temporariamente o número total de membros
+        // Variáveis básicas e dinâmicas em uma única passada
+        return PlaceholderUtils.replaceGuildPlaceholders(text, guild, player, memberCount);
     }
     
     @Override
@@ -3,7 +3,6 @@ package com.guild.gui;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.concurrent.CompletableFuture;
 
 import org.bukkit.Material;
 import org.bukkit.entity.Player;
@@ -15,7 +14,6 @@ import org.bukkit.inventory.meta.ItemMeta;
 import com.guild.GuildPlugin;
 import com.guild.core.gui.GUI;
 import com.guild.core.utils.ColorUtils;
-import com.guild.core.utils.CompatibleScheduler;
 import com.guild.core.utils.PlaceholderUtils;
 import com.guild.models.Guild;
 
@@ -134,7 +132,7 @@ public class GuildListGUI implements GUI {
     private void loadGuilds(Inventory inventory) {
         plugin.getGuildService().getAllGuildsAsync().thenAccept(guilds -> {
             // Garantir atualização da GUI na thread principal
-            CompatibleScheduler.runTask(plugin, () -> {
+            plugin.getMainThreadDispatcher().execute(() -> {
                 if (guilds == null || guilds.isEmpty()) {
                     // Exibir informação de sem guildas
                     ItemStack noGuilds = createItem(
@@ -218,37 +216,30 @@ public class GuildListGUI implements GUI {
     private void displayGuilds(Inventory inventory, List<Guild> guilds) {
         int startIndex = currentPage * GUILDS_PER_PAGE;
         int endIndex = Math.min(startIndex + GUILDS_PER_PAGE, guilds.size());
+        List<Guild> pageGuilds = new ArrayList<>(guilds.subList(startIndex, endIndex));
         
-        // Criar tarefas assíncronas para todas as guildas
-        List<CompletableFuture<Void>> futures = new ArrayList<>();
-        
-        int slotIndex = 10; // Começar da linha 2, coluna 2
-        for (int i = startIndex; i < endIndex; i++) {
-            Guild guild = guilds.get(i);
-            if (slotIndex >= 44) break; // Evitar exceder área de exibição
-            
-            final int finalSlotIndex = slotIndex;
-            
-            // Obter quantidade de membros assincronamente e criar item
-            CompletableFuture<Void> future = plugin.getGuildService().getGuildMemberCountAsync(guild.getId())
-                .thenAccept(memberCount -> {
-                    // Atualizar GUI na thread principal
-                    CompatibleScheduler.runTask(plugin, () -> {
-                        ItemStack guildItem = createGuildItemWithMemberCount(guild, memberCount);
-                        inventory.setItem(finalSlotIndex, guildItem);
-                    });
-                });
-            
-            futures.add(future);
-            
-            slotIndex++;
-            if (slotIndex % 9 == 8) { // Pular borda
-                slotIndex += 2;
-            }
+        List<Integer> guildIds = new ArrayList<>();
+        for (Guild guild : pageGuilds) {
+            guildIds.add(guild.getId());
         }
         
-        // Aguardar conclusão de todas as tarefas assíncronas
-        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
+        // Obter quantidade de membros da página inteira em uma consulta e renderizar em uma única tarefa
+        plugin.getGuildService().getMemberCountsAsync(guildIds).thenAccept(memberCounts -> {
+            plugin.getMainThreadDispatcher().execute(() -> {
+                int slotIndex = 10; // Começar da linha 2, coluna 2
+                for (Guild guild : pageGuilds) {
+                    if (slotIndex >= 44) break; // Evitar exceder área de exibição
+                    
+                    int memberCount = memberCounts.getOrDefault(guild.getId(), 0);
+                    inventory.setItem(slotIndex, createGuildItemWithMemberCount(guild, memberCount));
+                    
+                    slotIndex++;
+                    if (slotIndex % 9 == 8) { // Pular borda
+                        slotIndex += 2;
+                    }
+                }
+            });
+        });
     }
     
     /**
@@ -417,7 +408,7 @@ public class GuildListGUI implements GUI {
         // Obter lista de guildas da página atual
         plugin.getGuildService().getAllGuildsAsync().thenAccept(guilds -> {
             // Garantir execução de operações GUI na thread principal
-            CompatibleScheduler.runTask(plugin, () -> {
+            plugin.getMainThreadDispatcher().execute(() -> {
                 if (guilds == null || guilds.isEmpty()) {
                     String message = plugin.getConfigManager().getMessagesConfig().getString("gui.no-guilds", "&cNenhuma guilda encontrada");
                     player.sendMessage(ColorUtils.colorize(message));
@@ -444,7 +435,7 @@ public class GuildListGUI implements GUI {
         // Verificar se jogador já tem guilda
         plugin.getGuildService().getPlayerGuildAsync(player.getUniqueId()).thenAccept(playerGuild -> {
             // Garantir execução de operações GUI na thread principal
-            CompatibleScheduler.runTask(plugin, () -> {
+            plugin.getMainThreadDispatcher().execute(() -> {
                 if (playerGuild != null) {
                     String message = plugin.getConfigManager().getMessagesConfig().getString("create.already-in-guild", "&cVocê já está em uma guilda!");
                     player.sendMessage(ColorUtils.colorize(message));
@@ -454,7 +445,7 @@ public class GuildListGUI implements GUI {
                 // Obter lista de guildas da página atual
                 plugin.getGuildService().getAllGuildsAsync().thenAccept(guilds -> {
                     // Garantir execução de operações GUI na thread principal
-                    CompatibleScheduler.runTask(plugin, () -> {
+                    plugin.getMainThreadDispatcher().execute(() -> {
                         if (guilds == null || guilds.isEmpty()) {
                             String message = plugin.getConfigManager().getMessagesConfig().getString("gui.no-guilds", "&cNenhuma guilda encontrada");
                             player.sendMessage(ColorUtils.colorize(message));
@@ -469,7 +460,7 @@ public class GuildListGUI implements GUI {
                             // Verificar se já existe solicitação pendente
                             plugin.getGuildService().hasPendingApplicationAsync(player.getUniqueId(), guild.getId()).thenAccept(hasPending -> {
                                 // Garantir execução de operações GUI na thread principal
-                                CompatibleScheduler.runTask(plugin, () -> {
+                                plugin.getMainThreadDispatcher().execute(() -> {
                                     if (hasPending) {
                                         String message = plugin.getConfigManager().getMessagesConfig().getString("apply.already-applied", "&cVocê já solicitou entrada nesta guilda!");
                                         player.sendMessage(ColorUtils.colorize(message));
@@ -479,7 +470,7 @@ public class GuildListGUI implements GUI {
                                     // Enviar solicitação
                                     plugin.getGuildService().submitApplicationAsync(guild.getId(), player.getUniqueId(), player.getName(), "").thenAccept(success -> {
                                         // Garantir execução de operações GUI na thread principal
-                                        CompatibleScheduler.runTask(plugin, () -> {
+                                        plugin.getMainThreadDispatcher().execute(() -> {
                                             if (success) {
                                                 String message = plugin.getConfigManager().getMessagesConfig().getString("apply.success", "&aSolicitação enviada!");
                                                 player.sendMessage(ColorUtils.colorize(message));
@@ -13,6 +13,8 @@ import org.bukkit.event.inventory.ClickType;
 import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemStack;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
@@ -26,18 +28,22 @@ public class GuildLogsGUI implements GUI {
     private final Player player;
     private final int page;
     private final int itemsPerPage = 28; // Colunas 2-8, Linhas 2-5
+    // Cursor (ID do último log exibido) de cada página até a atual; página 0 usa 0
+    private final List<Integer> cursors;
     private List<GuildLog> logs;
     private int totalLogs;
+    private boolean hasNextPage;
     
     public GuildLogsGUI(GuildPlugin plugin, Guild guild, Player player) {
-        this(plugin, guild, player, 0);
+        this(plugin, guild, player, Collections.singletonList(0));
     }
     
-    public GuildLogsGUI(GuildPlugin plugin, Guild guild, Player player, int page) {
+    private GuildLogsGUI(GuildPlugin plugin, Guild guild, Player player, List<Integer> cursors) {
         this.plugin = plugin;
         this.guild = guild;
         this.player = player;
-        this.page = page;
+        this.cursors = cursors;
+        this.page = cursors.size() - 1;
     }
     
     @Override
@@ -84,36 +90,37 @@ public class GuildLogsGUI implements GUI {
      * Carregar dados de log assincronamente
      */
     private CompletableFuture<Boolean> loadLogsAsync() {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                plugin.getLogger().info("Iniciando carregamento de dados de log da guilda " + guild.getName() + " ...");
-                
-                // Verificar se o ID da guilda é válido
-                if (guild.getId() <= 0) {
-                    plugin.getLogger().warning("ID da guilda inválido: " + guild.getId());
-                    return false;
-                }
-                
-                // Obter número total de logs
-                totalLogs = plugin.getGuildService().getGuildLogsCountAsync(guild.getId()).get();
-                plugin.getLogger().info("Guilda " + guild.getName() + " tem um total de " + totalLogs + " registros de log");
-                
-                // Obter logs da página atual
-                int offset = page * itemsPerPage;
-                logs = plugin.getGuildService().getGuildLogsAsync(guild.getId(), itemsPerPage, offset).get();
-                plugin.getLogger().info("Sucesso ao carregar a página " + (page + 1) + " com " + logs.size() + " registros de log");
-                
-                return true;
-            } catch (Exception e) {
-                plugin.getLogger().severe("Erro ao carregar logs da guilda: " + e.getMessage());
-                e.printStackTrace();
-                
-                // Definir valores padrão
-                totalLogs = 0;
-                logs = new java.util.ArrayList<>();
-                
-                return false;
-            }
+        plugin.getLogger().info("Iniciando carregamento de dados de log da guilda " + guild.getName() + " ...");
+        
+        // Verificar se o ID da guilda é válido
+        if (guild.getId() <= 0) {
+            plugin.getLogger().warning("ID da guilda inválido: " + guild.getId());
+            return CompletableFuture.completedFuture(false);
+        }
+        
+        // Obter número total de logs e logs da página atual em paralelo, sem bloquear threads
+        // A página é buscada pelo cursor (id < último ID exibido), com um registro extra para saber se há próxima
+        int beforeId = cursors.get(page);
+        CompletableFuture<Integer> countFuture = plugin.getGuildService().getGuildLogsCountAsync(guild.getId());
+        CompletableFuture<List<GuildLog>> logsFuture = plugin.getGuildService().getGuildLogsPageAsync(guild.getId(), beforeId, itemsPerPage + 1);
+        
+        return countFuture.thenCombine(logsFuture, (count, pageLogs) -> {
+            totalLogs = count;
+            hasNextPage = pageLogs.size() > itemsPerPage;
+            logs = hasNextPage ? new ArrayList<>(pageLogs.subList(0, itemsPerPage)) : pageLogs;
+            plugin.getLogger().info("Guilda " + guild.getName() + " tem um total de " + totalLogs + " registros de log");
+            plugin.getLogger().info("Sucesso ao carregar a página " + (page + 1) + " com " + logs.size() + " registros de log");
+            return true;
+        }).exceptionally(e -> {
+            plugin.getLogger().severe("Erro ao carregar logs da guilda: " + e.getMessage());
+            e.printStackTrace();
+            
+            // Definir valores padrão
+            totalLogs = 0;
+            hasNextPage = false;
+            logs = new java.util.ArrayList<>();
+            
+            return false;
         });
     }
     
@@ -255,7 +262,7 @@ public class GuildLogsGUI implements GUI {
             inventory.setItem(45, prevButton);
         }
         
-        if ((page + 1) * itemsPerPage < totalLogs) {
+        if (hasNextPage) {
             ItemStack nextButton = createItem(
                 Material.ARROW,
                 ColorUtils.colorize("&ePróxima Página"),
@@ -269,7 +276,7 @@ public class GuildLogsGUI implements GUI {
             Material.PAPER,
             ColorUtils.colorize("&6Informações da Página"),
             ColorUtils.colorize("&7Página Atual: &f" + (page + 1)),
-            ColorUtils.colorize("&7Total de Páginas: &f" + ((totalLogs - 1) / itemsPerPage + 1)),
+            ColorUtils.colorize("&7Total de Páginas: &f" + Math.max(page + 1, (totalLogs - 1) / itemsPerPage + 1)),
             ColorUtils.colorize("&7Total de Registros: &f" + totalLogs)
         );
         inventory.setItem(47, pageInfo);
@@ -300,7 +307,7 @@ public class GuildLogsGUI implements GUI {
         // Botão de página anterior
         if (itemName.contains("Página Anterior")) {
             if (page > 0) {
-                GuildLogsGUI prevPageGUI = new GuildLogsGUI(plugin, guild, player, page - 1);
+                GuildLogsGUI prevPageGUI = new GuildLogsGUI(plugin, guild, player, new ArrayList<>(cursors.subList(0, page)));
                 plugin.getGuiManager().openGUI(player, prevPageGUI);
             }
             return;
@@ -308,8 +315,10 @@ public class GuildLogsGUI implements GUI {
         
         // Botão de próxima página
         if (itemName.contains("Próxima Página")) {
-            if ((page + 1) * itemsPerPage < totalLogs) {
-                GuildLogsGUI nextPageGUI = new GuildLogsGUI(plugin, guild, player, page + 1);
+            if (hasNextPage && !logs.isEmpty()) {
+                List<Integer> nextCursors = new ArrayList<>(cursors);
+                nextCursors.add(logs.get(logs.size() - 1).getId());
+                GuildLogsGUI nextPageGUI = new GuildLogsGUI(plugin, guild, player, nextCursors);
                 plugin.getGuiManager().openGUI(player, nextPageGUI);
             }
             return;
@@ -317,7 +326,7 @@ public class GuildLogsGUI implements GUI {
         
         // Botão de atualizar
         if (itemName.contains("Atualizar")) {
-            GuildLogsGUI refreshGUI = new GuildLogsGUI(plugin, guild, player, page);
+            GuildLogsGUI refreshGUI = new GuildLogsGUI(plugin, guild, player, cursors);
             plugin.getGuiManager().openGUI(player, refreshGUI);
             return;
         }
@@ -328,9 +337,8 @@ public class GuildLogsGUI implements GUI {
             int col = slot % 9;
             if (row >= 1 && row <= 4 && col >= 1 && col <= 7) {
                 int relativeIndex = (row - 1) * 7 + (col - 1);
-                int logIndex = (page * itemsPerPage) + relativeIndex;
-                if (logIndex < logs.size()) {
-                    GuildLog log = logs.get(logIndex);
+                if (logs != null && relativeIndex < logs.size()) {
+                    GuildLog log = logs.get(relativeIndex);
                     handleLogClick(player, log);
                 }
             }
@@ -362,7 +370,7 @@ public class GuildLogsGUI implements GUI {
     @Override
     public void refresh(Player player) {
         // Atualizar GUI
-        GuildLogsGUI refreshGUI = new GuildLogsGUI(plugin, guild, player, page);
+        GuildLogsGUI refreshGUI = new GuildLogsGUI(plugin, guild, player, cursors);
         plugin.getGuiManager().openGUI(player, refreshGUI);
     }
     
@@ -4,7 +4,6 @@ import com.guild.GuildPlugin;
 import com.guild.core.gui.GUI;
 import com.guild.core.utils.ColorUtils;
 import com.guild.core.utils.PlaceholderUtils;
-import com.guild.core.utils.CompatibleScheduler;
 import com.guild.models.Guild;
 import com.guild.models.GuildMember;
 import com.guild.models.GuildRelation;
@@ -59,7 +58,7 @@ public class GuildRelationsGUI implements GUI {
             this.relations = relationsList;
             
             // Garante execução de operações de GUI na thread principal
-            CompatibleScheduler.runTask(plugin, () -> {
+            plugin.getMainThreadDispatcher().execute(() -> {
                 // Mostra lista de relações
                 displayRelations(inventory);
                 
@@ -343,7 +342,7 @@ public class GuildRelationsGUI implements GUI {
     private void acceptRelation(Player player, GuildRelation relation) {
         plugin.getGuildService().updateGuildRelationStatusAsync(relation.getId(), GuildRelation.RelationStatus.ACTIVE)
             .thenAccept(success -> {
-                CompatibleScheduler.runTask(plugin, () -> {
+                plugin.getMainThreadDispatcher().execute(() -> {
                     if (success) {
                         String message = plugin.getConfigManager().getMessagesConfig().getString("relations.accept-success", "&aRelação com {guild} aceita!");
                         message = message.replace("{guild}", relation.getOtherGuildName(guild.getId()));
@@ -370,7 +369,7 @@ public class GuildRelationsGUI implements GUI {
                 relation.getInitiatorUuid(),
                 relation.getInitiatorName()
             ).thenAccept(success -> {
-                CompatibleScheduler.runTask(plugin, () -> {
+                plugin.getMainThreadDispatcher().execute(() -> {
                     if (success) {
                         String message = plugin.getConfigManager().getMessagesConfig().getString("relations.reject-success", "&cRelação com {guild} rejeitada!");
                         message = message.replace("{guild}", relation.getOtherGuildName(guild.getId()));
@@ -385,7 +384,7 @@ public class GuildRelationsGUI implements GUI {
         } else {
             plugin.getGuildService().updateGuildRelationStatusAsync(relation.getId(), GuildRelation.RelationStatus.CANCELLED)
                 .thenAccept(success -> {
-                    CompatibleScheduler.runTask(plugin, () -> {
+                    plugin.getMainThreadDispatcher().execute(() -> {
                         if (success) {
                             String message = plugin.getConfigManager().getMessagesConfig().getString("relations.reject-success", "&cRelação com {guild} rejeitada!");
                             message = message.replace("{guild}", relation.getOtherGuildName(guild.getId()));
@@ -412,7 +411,7 @@ public class GuildRelationsGUI implements GUI {
                 relation.getInitiatorUuid(),
                 relation.getInitiatorName()
             ).thenAccept(success -> {
-                CompatibleScheduler.runTask(plugin, () -> {
+                plugin.getMainThreadDispatcher().execute(() -> {
                     if (success) {
                         String message = plugin.getConfigManager().getMessagesConfig().getString("relations.cancel-success", "&cRelação com {guild} cancelada!");
                         message = message.replace("{guild}", relation.getOtherGuildName(guild.getId()));
@@ -427,7 +426,7 @@ public class GuildRelationsGUI implements GUI {
         } else {
             plugin.getGuildService().updateGuildRelationStatusAsync(relation.getId(), GuildRelation.RelationStatus.CANCELLED)
                 .thenAccept(success -> {
-                    CompatibleScheduler.runTask(plugin, () -> {
+                    plugin.getMainThreadDispatcher().execute(() -> {
                         if (success) {
                             String message = plugin.getConfigManager().getMessagesConfig().getString("relations.cancel-success", "&cRelação com {guild} cancelada!");
                             message = message.replace("{guild}", relation.getOtherGuildName(guild.getId()));
@@ -454,7 +453,7 @@ public class GuildRelationsGUI implements GUI {
             player.getUniqueId(),
             player.getName()
         ).thenAccept(success -> {
-            CompatibleScheduler.runTask(plugin, () -> {
+            plugin.getMainThreadDispatcher().execute(() -> {
                 if (success) {
                     String message = plugin.getConfigManager().getMessagesConfig().getString("relations.truce-end", "&aTrégua com {guild} terminou, relação agora é neutra!");
                     message = message.replace("{guild}", relation.getOtherGuildName(guild.getId()));
@@ -480,7 +479,7 @@ public class GuildRelationsGUI implements GUI {
             player.getUniqueId(),
             player.getName()
         ).thenAccept(success -> {
-            CompatibleScheduler.runTask(plugin, () -> {
+            plugin.getMainThreadDispatcher().execute(() -> {
                 if (success) {
                     String message = plugin.getConfigManager().getMessagesConfig().getString("relations.truce-proposed", "&eTrégua proposta para {guild}!");
                     message = message.replace("{guild}", relation.getOtherGuildName(guild.getId()));
@@ -500,7 +499,7 @@ public class GuildRelationsGUI implements GUI {
     private void deleteRelation(Player player, GuildRelation relation) {
         plugin.getGuildService().deleteGuildRelationAsync(relation.getId())
             .thenAccept(success -> {
-                CompatibleScheduler.runTask(plugin, () -> {
+                plugin.getMainThreadDispatcher().execute(() -> {
                     if (success) {
                         String message = plugin.getConfigManager().getMessagesConfig().getString("relations.delete-success", "&aRelação com {guild} excluída!");
                         message = message.replace("{guild}", relation.getOtherGuildName(guild.getId()));
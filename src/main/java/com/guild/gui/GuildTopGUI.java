@@ -0,0 +1,133 @@
+package com.guild.gui;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.bukkit.Material;
+import org.bukkit.entity.Player;
+import org.bukkit.event.inventory.ClickType;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+
+import com.guild.GuildPlugin;
+import com.guild.core.gui.GUI;
+import com.guild.core.leaderboard.GuildLeaderboard;
+import com.guild.core.utils.ColorUtils;
+
+/**
+ * GUI do Ranking de Guildas (/guild top)
+ *
+ * Lida diretamente do ranking em memória, sem consultas ao banco.
+ */
+public class GuildTopGUI implements GUI {
+    
+    private static final int[] RANK_SLOTS = {13, 21, 22, 23, 29, 30, 31, 32, 33, 40};
+    
+    private final GuildPlugin plugin;
+    private final GuildLeaderboard.Metric metric;
+    
+    public GuildTopGUI(GuildPlugin plugin) {
+        this(plugin, GuildLeaderboard.Metric.MEMBERS);
+    }
+    
+    public GuildTopGUI(GuildPlugin plugin, GuildLeaderboard.Metric metric) {
+        this.plugin = plugin;
+        this.metric = metric;
+    }
+    
+    @Override
+    public String getTitle() {
+        String path = metric == GuildLeaderboard.Metric.LEVEL ? "guild-top.title-level" : "guild-top.title-members";
+        String fallback = metric == GuildLeaderboard.Metric.LEVEL ? "&6Ranking de Guildas - Nível" : "&6Ranking de Guildas - Membros";
+        return ColorUtils.colorize(plugin.getConfigManager().getGuiConfig().getString(path, fallback));
+    }
+    
+    @Override
+    public int getSize() {
+        return 54;
+    }
+    
+    @Override
+    public void setupInventory(Inventory inventory) {
+        // Preencher borda
+        ItemStack border = createItem(Material.BLACK_STAINED_GLASS_PANE, " ");
+        for (int i = 0; i < 9; i++) {
+            inventory.setItem(i, border);
+            inventory.setItem(i + 45, border);
+        }
+        for (int i = 9; i < 45; i += 9) {
+            inventory.setItem(i, border);
+            inventory.setItem(i + 8, border);
+        }
+        
+        // Posições do ranking
+        List<GuildLeaderboard.Entry> top = plugin.getLeaderboard().getTop(metric, RANK_SLOTS.length);
+        if (top.isEmpty()) {
+            inventory.setItem(22, createItem(Material.BARRIER,
+                ColorUtils.colorize("&cSem Guildas"),
+                ColorUtils.colorize("&7Não há guildas no servidor ainda")));
+        }
+        for (int i = 0; i < top.size(); i++) {
+            inventory.setItem(RANK_SLOTS[i], createRankItem(i + 1, top.get(i)));
+        }
+        
+        // Alternar critério
+        GuildLeaderboard.Metric other = metric == GuildLeaderboard.Metric.LEVEL ? GuildLeaderboard.Metric.MEMBERS : GuildLeaderboard.Metric.LEVEL;
+        inventory.setItem(47, createItem(
+            other == GuildLeaderboard.Metric.LEVEL ? Material.EXPERIENCE_BOTTLE : Material.PLAYER_HEAD,
+            ColorUtils.colorize(other == GuildLeaderboard.Metric.LEVEL ? "&eOrdenar por Nível" : "&eOrdenar por Membros"),
+            ColorUtils.colorize("&7Clique para alternar o ranking")
+        ));
+        
+        // Voltar
+        inventory.setItem(49, createItem(
+            Material.ARROW,
+            ColorUtils.colorize(plugin.getConfigManager().getGuiConfig().getString("guild-top.items.back.name", "&7Voltar")),
+            ColorUtils.colorize(plugin.getConfigManager().getGuiConfig().getString("guild-top.items.back.lore.1", "&7Voltar ao menu principal"))
+        ));
+    }
+    
+    @Override
+    public void onClick(Player player, int slot, ItemStack clickedItem, ClickType clickType) {
+        if (slot == 47) {
+            GuildLeaderboard.Metric other = metric == GuildLeaderboard.Metric.LEVEL ? GuildLeaderboard.Metric.MEMBERS : GuildLeaderboard.Metric.LEVEL;
+            plugin.getGuiManager().openGUI(player, new GuildTopGUI(plugin, other));
+        } else if (slot == 49) {
+            plugin.getGuiManager().openGUI(player, new MainGuildGUI(plugin));
+        }
+    }
+    
+    /**
+     * Criar item de uma posição do ranking
+     */
+    private ItemStack createRankItem(int rank, GuildLeaderboard.Entry entry) {
+        Material material;
+        switch (rank) {
+            case 1: material = Material.GOLD_BLOCK; break;
+            case 2: material = Material.IRON_BLOCK; break;
+            case 3: material = Material.COPPER_BLOCK; break;
+            default: material = Material.PAPER; break;
+        }
+        return createItem(material,
+            ColorUtils.colorize("&6#" + rank + " &e" + entry.getName()),
+            ColorUtils.colorize("&7Tag: &f" + entry.getTag()),
+            ColorUtils.colorize("&7Membros: &f" + entry.getMemberCount()),
+            ColorUtils.colorize("&7Nível: &f" + entry.getLevel()));
+    }
+    
+    private ItemStack createItem(Material material, String name, String... lore) {
+        ItemStack item = new ItemStack(material);
+        ItemMeta meta = item.getItemMeta();
+        
+        if (meta != null) {
+            meta.setDisplayName(name);
+            if (lore.length > 0) {
+                meta.setLore(Arrays.asList(lore));
+            }
+            item.setItemMeta(meta);
+        }
+        
+        return item;
+    }
+}
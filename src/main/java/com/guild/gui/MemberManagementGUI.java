@@ -139,7 +139,8 @@ public class MemberManagementGUI implements GUI {
      * Carrega lista de membros
      */
     private void loadMembers(Inventory inventory) {
-        plugin.getGuildService().getGuildMembersAsync(guild.getId()).thenAccept(members -> {
+        // Callbacks executados na thread principal pelo despachante (agrupados por tick)
+        plugin.getGuildService().getGuildMembersAsync(guild.getId()).thenAcceptAsync(members -> {
             if (members == null || members.isEmpty()) {
                 // Mostra informação de sem membros
                 ItemStack noMembers = createItem(
@@ -182,7 +183,7 @@ public class MemberManagementGUI implements GUI {
                 
                 slotIndex++;
             }
-        });
+        }, plugin.getMainThreadDispatcher());
     }
     
     /**
@@ -236,6 +237,8 @@ public class MemberManagementGUI implements GUI {
                 break;
         }
         
+        boolean online = plugin.getSessionManager().getPresenceIndex().isOnline(member.getPlayerUuid());
+        lore.add(ColorUtils.colorize(online ? "&7Status: &aOnline" : "&7Status: &8Offline"));
         lore.add(PlaceholderUtils.replaceMemberPlaceholders("&7Entrou em: {member_join_time}", member, guild));
         lore.add(PlaceholderUtils.replaceMemberPlaceholders("&7Permissões: " + getRolePermissions(member.getRole()), member, guild));
         lore.add("");
@@ -330,7 +333,7 @@ public class MemberManagementGUI implements GUI {
         int memberIndex = (currentPage * MEMBERS_PER_PAGE) + (slot - 10);
         if (memberIndex % 9 == 0 || memberIndex % 9 == 8) return; // Pula borda
         
-        plugin.getGuildService().getGuildMembersAsync(guild.getId()).thenAccept(members -> {
+        plugin.getGuildService().getGuildMembersAsync(guild.getId()).thenAcceptAsync(members -> {
             if (members != null && memberIndex < members.size()) {
                 GuildMember member = members.get(memberIndex);
                 
@@ -345,7 +348,7 @@ public class MemberManagementGUI implements GUI {
                     handlePromoteDemoteMember(player, member);
                 }
             }
-        });
+        }, plugin.getMainThreadDispatcher());
     }
     
     /**
@@ -361,7 +364,7 @@ public class MemberManagementGUI implements GUI {
      */
     private void handleKickMemberDirect(Player player, GuildMember member) {
         // Verifica permissão
-        plugin.getGuildService().getGuildMemberAsync(guild.getId(), player.getUniqueId()).thenAccept(executor -> {
+        plugin.getGuildService().getGuildMemberAsync(guild.getId(), player.getUniqueId()).thenAcceptAsync(executor -> {
             if (executor == null || !executor.getRole().canKick()) {
                 String message = plugin.getConfigManager().getMessagesConfig().getString("gui.no-permission", "&cPermissão insuficiente");
                 player.sendMessage(ColorUtils.colorize(message));
@@ -379,7 +382,7 @@ public class MemberManagementGUI implements GUI {
             String message = plugin.getConfigManager().getMessagesConfig().getString("gui.confirm-kick", "&cTem certeza que deseja expulsar {member}? Digite &f/guild kick {member} confirm &cpara confirmar")
                 .replace("{member}", member.getPlayerName());
             player.sendMessage(ColorUtils.colorize(message));
-        });
+        }, plugin.getMainThreadDispatcher());
     }
     
     /**
@@ -387,7 +390,7 @@ public class MemberManagementGUI implements GUI {
      */
     private void handlePromoteDemoteMember(Player player, GuildMember member) {
         // Verifica permissão
-        plugin.getGuildService().getGuildMemberAsync(guild.getId(), player.getUniqueId()).thenAccept(executor -> {
+        plugin.getGuildService().getGuildMemberAsync(guild.getId(), player.getUniqueId()).thenAcceptAsync(executor -> {
             if (executor == null || executor.getRole() != GuildMember.Role.LEADER) {
                 String message = plugin.getConfigManager().getMessagesConfig().getString("gui.leader-only", "&cApenas o líder da guilda pode realizar esta ação");
                 player.sendMessage(ColorUtils.colorize(message));
@@ -412,7 +415,7 @@ public class MemberManagementGUI implements GUI {
                     .replace("{member}", member.getPlayerName());
                 player.sendMessage(ColorUtils.colorize(message));
             }
-        });
+        }, plugin.getMainThreadDispatcher());
     }
     
     /**
@@ -420,7 +423,7 @@ public class MemberManagementGUI implements GUI {
      */
     private void handleInviteMember(Player player) {
         // Verifica permissão
-        plugin.getGuildService().getGuildMemberAsync(guild.getId(), player.getUniqueId()).thenAccept(member -> {
+        plugin.getGuildService().getGuildMemberAsync(guild.getId(), player.getUniqueId()).thenAcceptAsync(member -> {
             if (member == null || !member.getRole().canInvite()) {
                 String message = plugin.getConfigManager().getMessagesConfig().getString("gui.no-permission", "&cPermissão insuficiente");
                 player.sendMessage(ColorUtils.colorize(message));
@@ -430,7 +433,7 @@ public class MemberManagementGUI implements GUI {
             // Abre GUI de convite de membro
             InviteMemberGUI inviteMemberGUI = new InviteMemberGUI(plugin, guild);
             plugin.getGuiManager().openGUI(player, inviteMemberGUI);
-        });
+        }, plugin.getMainThreadDispatcher());
     }
     
     /**
@@ -438,7 +441,7 @@ public class MemberManagementGUI implements GUI {
      */
     private void handleKickMember(Player player) {
         // Verifica permissão
-        plugin.getGuildService().getGuildMemberAsync(guild.getId(), player.getUniqueId()).thenAccept(member -> {
+        plugin.getGuildService().getGuildMemberAsync(guild.getId(), player.getUniqueId()).thenAcceptAsync(member -> {
             if (member == null || !member.getRole().canKick()) {
                 String message = plugin.getConfigManager().getMessagesConfig().getString("gui.no-permission", "&cPermissão insuficiente");
                 player.sendMessage(ColorUtils.colorize(message));
@@ -448,7 +451,7 @@ public class MemberManagementGUI implements GUI {
             // Abre GUI de expulsão de membro
             KickMemberGUI kickMemberGUI = new KickMemberGUI(plugin, guild);
             plugin.getGuiManager().openGUI(player, kickMemberGUI);
-        });
+        }, plugin.getMainThreadDispatcher());
     }
     
     /**
@@ -456,7 +459,7 @@ public class MemberManagementGUI implements GUI {
      */
     private void handlePromoteMember(Player player) {
         // Verifica permissão
-        plugin.getGuildService().getGuildMemberAsync(guild.getId(), player.getUniqueId()).thenAccept(member -> {
+        plugin.getGuildService().getGuildMemberAsync(guild.getId(), player.getUniqueId()).thenAcceptAsync(member -> {
             if (member == null || member.getRole() != GuildMember.Role.LEADER) {
                 String message = plugin.getConfigManager().getMessagesConfig().getString("gui.leader-only", "&cApenas o líder da guilda pode realizar esta ação");
                 player.sendMessage(ColorUtils.colorize(message));
@@ -466,7 +469,7 @@ public class MemberManagementGUI implements GUI {
             // Abre GUI de promoção de membro
             PromoteMemberGUI promoteMemberGUI = new PromoteMemberGUI(plugin, guild);
             plugin.getGuiManager().openGUI(player, promoteMemberGUI);
-        });
+        }, plugin.getMainThreadDispatcher());
     }
     
     /**
@@ -474,7 +477,7 @@ public class MemberManagementGUI implements GUI {
      */
     private void handleDemoteMember(Player player) {
         // Verifica permissão
-        plugin.getGuildService().getGuildMemberAsync(guild.getId(), player.getUniqueId()).thenAccept(member -> {
+        plugin.getGuildService().getGuildMemberAsync(guild.getId(), player.getUniqueId()).thenAcceptAsync(member -> {
             if (member == null || member.getRole() != GuildMember.Role.LEADER) {
                 String message = plugin.getConfigManager().getMessagesConfig().getString("gui.leader-only", "&cApenas o líder da guilda pode realizar esta ação");
                 player.sendMessage(ColorUtils.colorize(message));
@@ -484,7 +487,7 @@ public class MemberManagementGUI implements GUI {
             // Abre GUI de rebaixamento de membro
             DemoteMemberGUI demoteMemberGUI = new DemoteMemberGUI(plugin, guild);
             plugin.getGuiManager().openGUI(player, demoteMemberGUI);
-        });
+        }, plugin.getMainThreadDispatcher());
     }
     
     /**
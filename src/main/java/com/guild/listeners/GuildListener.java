@@ -1,9 +1,19 @@
 package com.guild.listeners;
 
 import com.guild.GuildPlugin;
+import com.guild.core.chat.ChatChannel;
+import com.guild.core.chat.GuildChatManager;
+import com.guild.core.combat.FriendlyFireManager;
+import com.guild.core.session.PlayerSession;
+import com.guild.core.utils.ColorUtils;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+import org.bukkit.entity.Projectile;
 import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
-import org.bukkit.event.player.PlayerChatEvent;
+import org.bukkit.event.entity.EntityDamageByEntityEvent;
+import org.bukkit.event.player.AsyncPlayerChatEvent;
 
 /**
  * Listener de Eventos da Guilda
@@ -17,11 +27,73 @@ public class GuildListener implements Listener {
     }
     
     /**
-     * Evento de chat do jogador (pode ser usado para funcionalidade de chat da guilda)
+     * Evento de chat do jogador: desvia a mensagem para o canal da guilda escolhido
+     *
+     * Executado depois do modo de entrada da GUI (que cancela o evento) e na thread
+     * assíncrona do chat; lê apenas sessões e índices em memória.
      */
-    @EventHandler
-    public void onPlayerChat(PlayerChatEvent event) {
-        // Aqui pode ser adicionada a funcionalidade de chat da guilda
-        // Como detectar prefixo da guilda, processar chat da guilda, etc.
+    @EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true)
+    public void onPlayerChat(AsyncPlayerChatEvent event) {
+        GuildChatManager chatManager = plugin.getChatManager();
+        if (chatManager == null || !chatManager.isEnabled()) {
+            return;
+        }
+        Player player = event.getPlayer();
+        ChatChannel channel = chatManager.getChannel(player.getUniqueId());
+        if (channel == ChatChannel.GLOBAL) {
+            return;
+        }
+        
+        // Mensagem destinada a um canal privado nunca cai no chat público
+        event.setCancelled(true);
+        PlayerSession session = plugin.getSessionManager().getSession(player.getUniqueId());
+        if (!chatManager.canUse(session, channel)) {
+            chatManager.setChannel(player.getUniqueId(), ChatChannel.GLOBAL);
+            String message = plugin.getConfigManager().getMessagesConfig().getString("chat.channel-unavailable", "&cVocê não pode mais usar o canal {channel}. Canal alterado para Global.");
+            player.sendMessage(ColorUtils.colorize(message.replace("{channel}", channel.getDisplayName())));
+            return;
+        }
+        chatManager.send(player, session, channel, event.getMessage());
+    }
+    
+    /**
+     * Evento de dano entre jogadores: aplica a proteção entre membros e guildas relacionadas
+     *
+     * Caminho crítico em arenas de PvP; apenas leituras em memória, sem banco de dados.
+     */
+    @EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true)
+    public void onEntityDamageByEntity(EntityDamageByEntityEvent event) {
+        if (!(event.getEntity() instanceof Player)) {
+            return;
+        }
+        FriendlyFireManager friendlyFire = plugin.getFriendlyFireManager();
+        if (friendlyFire == null || !friendlyFire.isEnabled()) {
+            return;
+        }
+        Player attacker = getAttackingPlayer(event.getDamager());
+        Player victim = (Player) event.getEntity();
+        if (attacker == null || attacker == victim) {
+            return;
+        }
+        
+        double multiplier = friendlyFire.getDamageMultiplier(attacker.getUniqueId(), victim.getUniqueId());
+        if (multiplier <= 0.0) {
+            event.setCancelled(true);
+        } else if (multiplier != 1.0) {
+            event.setDamage(event.getDamage() * multiplier);
+        }
+    }
+    
+    /**
+     * Obter o jogador responsável pelo dano (diretamente ou por projétil)
+     */
+    private Player getAttackingPlayer(Entity damager) {
+        if (damager instanceof Player) {
+            return (Player) damager;
+        }
+        if (damager instanceof Projectile && ((Projectile) damager).getShooter() instanceof Player) {
+            return (Player) ((Projectile) damager).getShooter();
+        }
+        return null;
     }
 }
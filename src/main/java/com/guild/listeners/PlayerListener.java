@@ -2,14 +2,18 @@ package com.guild.listeners;
 
 import org.bukkit.Bukkit;
 import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.player.AsyncPlayerChatEvent;
+import org.bukkit.event.player.AsyncPlayerPreLoginEvent;
 import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerLoginEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
 
 import com.guild.GuildPlugin;
 import com.guild.core.gui.GUIManager;
-import com.guild.core.utils.CompatibleScheduler;
+import com.guild.core.session.PlayerSession;
+import com.guild.core.session.PlayerSessionManager;
 
 /**
  * Listener de Eventos de Jogador
@@ -22,38 +26,92 @@ public class PlayerListener implements Listener {
         this.plugin = plugin;
     }
     
+    /**
+     * Evento de pré-entrada (thread assíncrona): carrega a sessão do jogador uma única vez
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onAsyncPlayerPreLogin(AsyncPlayerPreLoginEvent event) {
+        if (event.getLoginResult() != AsyncPlayerPreLoginEvent.Result.ALLOWED) {
+            return;
+        }
+        PlayerSessionManager sessionManager = plugin.getSessionManager();
+        if (sessionManager != null) {
+            sessionManager.preload(event.getUniqueId());
+        }
+    }
+    
+    /**
+     * Evento de login: descarta a sessão pré-carregada se a entrada foi negada
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerLogin(PlayerLoginEvent event) {
+        if (event.getResult() != PlayerLoginEvent.Result.ALLOWED && plugin.getSessionManager() != null) {
+            plugin.getSessionManager().invalidate(event.getPlayer().getUniqueId());
+        }
+    }
+    
     /**
      * Evento de entrada de jogador no servidor
      */
     @EventHandler
     public void onPlayerJoin(PlayerJoinEvent event) {
-        // Verifica o status de guerra da guilda
-        checkWarStatus(event.getPlayer());
+        org.bukkit.entity.Player player = event.getPlayer();
+        plugin.getSessionManager().markOnline(player.getUniqueId());
+        PlayerSession session = plugin.getSessionManager().getSession(player.getUniqueId());
+        if (session != null) {
+            applySession(player, session);
+            return;
+        }
         
-        // Atualiza o nome de exibição do jogador com a tag da guilda
-        updatePlayerDisplayName(event.getPlayer());
+        // Sessão não pré-carregada (ex: falha na pré-entrada): carrega assincronamente
+        plugin.getSessionManager().getOrLoadAsync(player.getUniqueId()).thenAccept(loaded -> {
+            if (loaded != null) {
+                plugin.getMainThreadDispatcher().execute(player, () -> {
+                    if (player.isOnline()) {
+                        applySession(player, loaded);
+                    }
+                });
+            }
+        });
     }
     
     /**
-     * Atualiza o nome de exibição do jogador com a tag da guilda
+     * Aplica a sessão carregada ao jogador que acabou de entrar
+     */
+    private void applySession(org.bukkit.entity.Player player, PlayerSession session) {
+        // Atualiza o nome na lista de jogadores com a tag da guilda
+        applyListName(player, session);
+        
+        // Verifica o status de guerra da guilda
+        checkWarStatus(player, session);
+    }
+    
+    /**
+     * Atualiza o nome do jogador na lista com a tag da guilda
      */
     private void updatePlayerDisplayName(org.bukkit.entity.Player player) {
-        plugin.getGuildService().getPlayerGuildAsync(player.getUniqueId()).thenAccept(guild -> {
-            CompatibleScheduler.runTask(plugin, () -> {
-                if (guild != null) {
-                    // Define o nome de exibição com a tag verde
-                    String displayName = "§a[" + guild.getTag() + "]§r " + player.getName();
-                    player.setDisplayName(displayName);
-                    player.setPlayerListName(displayName);
-                } else {
-                    // Remove a tag se o jogador não estiver em uma guilda
-                    player.setDisplayName(player.getName());
-                    player.setPlayerListName(player.getName());
-                }
-            });
+        plugin.getSessionManager().getOrLoadAsync(player.getUniqueId()).thenAccept(session -> {
+            plugin.getMainThreadDispatcher().execute(player, () -> applyListName(player, session));
         });
     }
     
+    /**
+     * Define o nome na lista de jogadores a partir da sessão (thread principal)
+     *
+     * O nome de exibição não é alterado (pode vir de plugins de apelido); no chat a tag vem
+     * apenas do ChatPrefixIndex, aplicado ao formato em onAsyncPlayerChat.
+     */
+    private void applyListName(org.bukkit.entity.Player player, PlayerSession session) {
+        String tag = session != null && session.hasGuild() ? session.getGuild().getTag() : null;
+        if (tag != null && !tag.isEmpty()) {
+            // Define o nome na lista com a tag verde
+            player.setPlayerListName("§a[" + tag + "]§r " + player.getName());
+        } else {
+            // Remove a tag se o jogador não estiver em uma guilda
+            player.setPlayerListName(player.getName());
+        }
+    }
+    
     /**
      * Atualiza o nome de exibição de todos os jogadores online
      */
@@ -66,25 +124,22 @@ public class PlayerListener implements Listener {
     /**
      * Verifica o status de guerra da guilda e envia notificação
      */
-    private void checkWarStatus(org.bukkit.entity.Player player) {
-        // Verifica a guilda do jogador assincronamente
-        plugin.getGuildService().getPlayerGuildAsync(player.getUniqueId()).thenAccept(guild -> {
-            if (guild != null) {
-                // Verifica todas as relações da guilda
-                plugin.getGuildService().getGuildRelationsAsync(guild.getId()).thenAccept(relations -> {
-                    // Garante execução na thread principal
-                    CompatibleScheduler.runTask(plugin, () -> {
-                        for (com.guild.models.GuildRelation relation : relations) {
-                            if (relation.isWar()) {
-                                String message = plugin.getConfigManager().getMessagesConfig().getString("relations.war-notification", "&4[Guerra de Guildas] &cSua guilda está em guerra com {guild}!");
-                                message = message.replace("{guild}", relation.getOtherGuildName(guild.getId()));
-                                player.sendMessage(com.guild.core.utils.ColorUtils.colorize(message));
-                            }
-                        }
-                    });
-                });
+    private void checkWarStatus(org.bukkit.entity.Player player, PlayerSession session) {
+        if (!session.hasGuild()) {
+            return;
+        }
+        int guildId = session.getGuildId();
+        com.guild.core.cache.RelationGraph graph = plugin.getGuildService().getRelationGraph();
+        java.util.List<com.guild.models.GuildRelation> relations = graph.isLoaded()
+            ? graph.atWarWith(guildId)
+            : session.getActiveRelations();
+        for (com.guild.models.GuildRelation relation : relations) {
+            if (relation.isWar()) {
+                String message = plugin.getConfigManager().getMessagesConfig().getString("relations.war-notification", "&4[Guerra de Guildas] &cSua guilda está em guerra com {guild}!");
+                message = message.replace("{guild}", relation.getOtherGuildName(guildId));
+                player.sendMessage(com.guild.core.utils.ColorUtils.colorize(message));
             }
-        });
+        }
     }
     
     /**
@@ -97,6 +152,17 @@ public class PlayerListener implements Listener {
         if (guiManager != null) {
             guiManager.closeGUI(event.getPlayer());
         }
+        
+        // Descarta a sessão e o cache negativo (sem guilda) do jogador
+        if (plugin.getSessionManager() != null) {
+            plugin.getSessionManager().invalidate(event.getPlayer().getUniqueId());
+        }
+        if (plugin.getGuildService() != null) {
+            plugin.getGuildService().getRegistry().forgetPlayer(event.getPlayer().getUniqueId());
+        }
+        if (plugin.getChatManager() != null) {
+            plugin.getChatManager().removePlayer(event.getPlayer().getUniqueId());
+        }
     }
     
     /**
@@ -112,7 +178,7 @@ public class PlayerListener implements Listener {
             
             // Processa a entrada - executa na thread principal
             String input = event.getMessage();
-            CompatibleScheduler.runTask(plugin, () -> {
+            plugin.getMainThreadDispatcher().execute(event.getPlayer(), () -> {
                 try {
                     guiManager.handleInput(event.getPlayer(), input);
                 } catch (Exception e) {
@@ -123,21 +189,12 @@ public class PlayerListener implements Listener {
                 }
             });
         } else {
-            // Adiciona tag da guilda no nome do jogador no chat
-            plugin.getGuildService().getPlayerGuildAsync(event.getPlayer().getUniqueId()).thenAccept(guild -> {
-                if (guild != null) {
-                    // Formato do chat: §a[TAG]§r nome: mensagem
-                    String guildTag = "§a[" + guild.getTag() + "]§r ";
-                    
-                    // Substitui o placeholder %1$s (nome do jogador) para incluir a tag
-                    String newFormat = event.getFormat().replace("%1$s", guildTag + "%1$s");
-                    
-                    // Executa na thread principal para modificar o formato
-                    CompatibleScheduler.runTask(plugin, () -> {
-                        event.setFormat(newFormat);
-                    });
-                }
-            });
+            // Adiciona tag da guilda no nome do jogador no chat (índice em memória, sem acesso ao banco)
+            String guildTag = plugin.getSessionManager().getChatPrefixIndex().getPrefix(event.getPlayer().getUniqueId());
+            if (guildTag != null) {
+                // Substitui o placeholder %1$s (nome do jogador) para incluir a tag
+                event.setFormat(event.getFormat().replace("%1$s", guildTag + "%1$s"));
+            }
         }
     }
 }
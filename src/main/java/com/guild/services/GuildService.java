@@ -8,18 +8,39 @@ import java.sql.Statement;
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Logger;
 
 import org.bukkit.Bukkit;
+import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.entity.Player;
 
 import com.guild.GuildPlugin;
+import com.guild.core.cache.GuildRegistry;
+import com.guild.core.cache.RelationGraph;
+import com.guild.core.database.GuildLogSink;
+import com.guild.core.session.PlayerSessionManager;
 import com.guild.core.database.DatabaseManager;
+import com.guild.core.events.EventBus;
+import com.guild.core.events.GuildCreatedEvent;
+import com.guild.core.events.GuildDeletedEvent;
+import com.guild.core.events.GuildEvent;
+import com.guild.core.events.GuildLevelChangedEvent;
+import com.guild.core.events.GuildRenamedEvent;
+import com.guild.core.events.MemberJoinedEvent;
+import com.guild.core.events.MemberLeftEvent;
+import com.guild.core.events.RelationChangedEvent;
+import com.guild.core.events.RoleChangedEvent;
 import com.guild.core.time.TimeProvider;
-import com.guild.core.utils.CompatibleScheduler;
 import com.guild.models.Guild;
 import com.guild.models.GuildApplication;
 import com.guild.models.GuildInvitation;
@@ -32,11 +53,84 @@ public class GuildService {
     private final GuildPlugin plugin;
     private final DatabaseManager databaseManager;
     private final Logger logger;
+    private final GuildRegistry registry;
+    private final RelationGraph relationGraph;
+    private final GuildLogSink logSink;
+    private static final int MEMBER_COUNT_BATCH_SIZE = 500;
+    // Contagem de logs por guilda, semeada com COUNT(*) na primeira consulta e mantida pelo GuildLogSink
+    private final Map<Integer, AtomicInteger> logCounts = new ConcurrentHashMap<>();
     
     public GuildService(GuildPlugin plugin) {
         this.plugin = plugin;
         this.databaseManager = plugin.getDatabaseManager();
         this.logger = plugin.getLogger();
+        this.registry = new GuildRegistry();
+        this.registry.setEnabled(plugin.getConfigManager().getMainConfig().getBoolean("cache.enabled", true));
+        this.relationGraph = new RelationGraph();
+        
+        FileConfiguration dbConfig = plugin.getConfigManager().getDatabaseConfig();
+        this.logSink = new GuildLogSink(databaseManager, logger,
+            dbConfig.getLong("log-batching.flush-interval-ms", 1000),
+            dbConfig.getInt("log-batching.batch-size", 100),
+            dbConfig.getInt("log-batching.queue-capacity", 10000));
+        this.logSink.setWriteListener(guildId -> {
+            AtomicInteger count = logCounts.get(guildId);
+            if (count != null) {
+                count.incrementAndGet();
+            }
+        });
+    }
+    
+    /**
+     * Desligar o serviço, gravando os logs pendentes
+     */
+    public void shutdown() {
+        logSink.close();
+    }
+    
+    /**
+     * Obter o registro em memória de guildas e membros
+     */
+    public GuildRegistry getRegistry() {
+        return registry;
+    }
+    
+    /**
+     * Obter o grafo em memória das relações entre guildas
+     */
+    public RelationGraph getRelationGraph() {
+        return relationGraph;
+    }
+    
+    /**
+     * Carregar o grafo de relações do banco (uma única vez, na inicialização)
+     */
+    public CompletableFuture<Void> loadRelationGraphAsync() {
+        if (!registry.isEnabled()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return databaseManager.runAsync(() -> {
+            // Refaz a leitura se alguma relação for alterada durante a carga
+            for (int attempt = 0; attempt < 3; attempt++) {
+                long readVersion = relationGraph.version();
+                List<GuildRelation> relations = new ArrayList<>();
+                try (Connection conn = databaseManager.getConnection();
+                     PreparedStatement stmt = conn.prepareStatement("SELECT * FROM guild_relations ORDER BY id");
+                     ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        relations.add(createGuildRelationFromResultSet(rs));
+                    }
+                } catch (SQLException e) {
+                    logger.severe("Erro ao carregar relações de guilda: " + e.getMessage());
+                    return;
+                }
+                if (relationGraph.load(relations, readVersion)) {
+                    logger.info("Relações de guilda carregadas: " + relations.size());
+                    return;
+                }
+            }
+            logger.warning("Relações de guilda alteradas durante a carga; consultas continuarão no banco de dados");
+        });
     }
     
     // Ferramenta de tempo: use uniformemente a string de hora local do sistema operacional (yyyy-MM-dd HH:mm:ss)
@@ -48,63 +142,38 @@ public class GuildService {
      * Criar guilda (Assíncrono)
      */
     public CompletableFuture<Boolean> createGuildAsync(String name, String tag, String description, UUID leaderUuid, String leaderName) {
-        return getGuildByNameAsync(name).thenCompose(existingGuildByName -> {
-            if (existingGuildByName != null) {
-                return CompletableFuture.completedFuture(false);
-            }
-            
-            return getGuildByTagAsync(tag).thenCompose(existingGuildByTag -> {
-                if (existingGuildByTag != null) {
-                    return CompletableFuture.completedFuture(false);
-                }
-                
-                return CompletableFuture.supplyAsync(() -> {
-                    try {
-                        String sql = "INSERT INTO guilds (name, tag, description, leader_uuid, leader_name, level, max_members, frozen, created_at, updated_at) VALUES (?, ?, ?, ?, ?, 1, 6, 0, ?, ?)";
-                        
-                        try (Connection conn = databaseManager.getConnection();
-                             PreparedStatement stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
-                            
-                            stmt.setString(1, name);
-                            stmt.setString(2, tag);
-                            stmt.setString(3, description);
-                            stmt.setString(4, leaderUuid.toString());
-                            stmt.setString(5, leaderName);
-                            
-                            stmt.setString(6, nowString());
-                            stmt.setString(7, nowString());
-                            int affectedRows = stmt.executeUpdate();
-                            if (affectedRows > 0) {
-                                try (ResultSet rs = stmt.getGeneratedKeys()) {
-                                    if (rs.next()) {
-                                        int guildId = rs.getInt(1);
-                                        logger.info("Guilda criada com sucesso: " + name + " (ID: " + guildId + ")");
-                                        return guildId;
-                                    }
-                                }
-                            }
-                        }
-                    } catch (SQLException e) {
-                        logger.severe("Erro ao criar guilda: " + e.getMessage());
-                    }
-                    return -1;
-                }).thenCompose(guildId -> {
-                    if ((Integer) guildId > 0) {
-                        // Adicionar o líder como membro da guilda (evitar consultas repetidas)
-                        return addGuildMemberDirectAsync((Integer) guildId, leaderUuid, leaderName, GuildMember.Role.LEADER)
-                            .thenCompose(success -> {
-                                if (success) {
-                                    // Registrar log de criação da guilda
-                                    return logGuildActionAsync((Integer) guildId, name, leaderUuid.toString(), leaderName,
-                                        GuildLog.LogType.GUILD_CREATED, "Criar Guilda", "Nome da Guilda: " + name + ", Tag: " + tag)
-                                        .thenApply(logSuccess -> success);
-                                }
-                                return CompletableFuture.completedFuture(success);
-                            });
+        return databaseManager.supplyAsync(() -> {
+            try {
+                // Guilda e líder gravados na mesma transação; nome/tag duplicados são detectados pela restrição UNIQUE
+                LocalDateTime createdAt = TimeProvider.nowLocalDateTime().withNano(0);
+                CreatedGuild created = databaseManager.inTransaction(conn -> {
+                    Guild guild = insertGuild(conn, name, tag, description, leaderUuid, leaderName, createdAt);
+                    if (guild == null) {
+                        throw new SQLException("Nenhuma chave gerada para a guilda " + name);
                     }
-                    return CompletableFuture.completedFuture(false);
+                    GuildMember leader = insertMember(conn, guild.getId(), leaderUuid, leaderName, GuildMember.Role.LEADER, createdAt);
+                    return new CreatedGuild(guild, leader);
                 });
-            });
+                
+                logger.info("Guilda criada com sucesso: " + name + " (ID: " + created.guild.getId() + ")");
+                registry.putGuild(created.guild);
+                registry.putMember(created.leader);
+                refreshPlayerState(leaderUuid);
+                publishEvent(new GuildCreatedEvent(created.guild.getId(), name, tag, leaderUuid, leaderName));
+                publishEvent(new MemberJoinedEvent(created.guild.getId(), leaderUuid, leaderName, GuildMember.Role.LEADER));
+                
+                // Registrar log de criação da guilda
+                logGuildActionAsync(created.guild.getId(), name, leaderUuid.toString(), leaderName,
+                    GuildLog.LogType.GUILD_CREATED, "Criar Guilda", "Nome da Guilda: " + name + ", Tag: " + tag);
+                return true;
+            } catch (SQLException e) {
+                if (DatabaseManager.isUniqueViolation(e)) {
+                    logger.info("Nome ou tag de guilda já em uso: " + name + " [" + tag + "]");
+                } else {
+                    logger.severe("Erro ao criar guilda: " + e.getMessage());
+                }
+            }
+            return false;
         });
     }
     
@@ -135,32 +204,52 @@ public class GuildService {
                     return CompletableFuture.completedFuture(false);
                 }
                 
-                return CompletableFuture.supplyAsync(() -> {
+                return databaseManager.supplyAsync(() -> {
                     try {
-                        // Deletar todos os membros da guilda
-                        String deleteMembersSql = "DELETE FROM guild_members WHERE guild_id = ?";
-                        try (Connection conn = databaseManager.getConnection();
-                             PreparedStatement stmt = conn.prepareStatement(deleteMembersSql)) {
-                            stmt.setInt(1, guildId);
-                            stmt.executeUpdate();
-                        }
-                        
-                        // Deletar guilda
-                        String deleteGuildSql = "DELETE FROM guilds WHERE id = ?";
-                        try (Connection conn = databaseManager.getConnection();
-                             PreparedStatement stmt = conn.prepareStatement(deleteGuildSql)) {
-                            stmt.setInt(1, guildId);
-                            int affectedRows = stmt.executeUpdate();
-                            if (affectedRows > 0) {
-                                logger.info("Guilda deletada com sucesso: " + guild.getName() + " (ID: " + guildId + ")");
-                                
-                                // Registrar log de dissolução da guilda
-                                logGuildActionAsync(guildId, guild.getName(), guild.getLeaderUuid().toString(), guild.getLeaderName(),
-                                    GuildLog.LogType.GUILD_DISSOLVED, "Dissolução da Guilda", "Guilda dissolvida");
-                                
-                                return true;
+                        // Remover guilda e dados dependentes em uma única transação
+                        // (explícito para não depender de PRAGMA foreign_keys no SQLite)
+                        List<Integer> relatedGuildIds = databaseManager.inTransaction(conn -> {
+                            List<Integer> related = new ArrayList<>();
+                            try (PreparedStatement stmt = conn.prepareStatement(
+                                    "SELECT guild1_id, guild2_id FROM guild_relations WHERE guild1_id = ? OR guild2_id = ?")) {
+                                stmt.setInt(1, guildId);
+                                stmt.setInt(2, guildId);
+                                try (ResultSet rs = stmt.executeQuery()) {
+                                    while (rs.next()) {
+                                        related.add(rs.getInt(1) == guildId ? rs.getInt(2) : rs.getInt(1));
+                                    }
+                                }
                             }
+                            
+                            executeDelete(conn, "DELETE FROM guild_members WHERE guild_id = ?", guildId);
+                            executeDelete(conn, "DELETE FROM guild_applications WHERE guild_id = ?", guildId);
+                            executeDelete(conn, "DELETE FROM guild_invites WHERE guild_id = ?", guildId);
+                            executeDelete(conn, "DELETE FROM guild_relations WHERE guild1_id = ? OR guild2_id = ?", guildId, guildId);
+                            
+                            // Guilda já removida por outra operação
+                            if (executeDelete(conn, "DELETE FROM guilds WHERE id = ?", guildId) == 0) {
+                                return null;
+                            }
+                            return related;
+                        });
+                        
+                        if (relatedGuildIds == null) {
+                            return false;
                         }
+                        
+                        logger.info("Guilda deletada com sucesso: " + guild.getName() + " (ID: " + guildId + ")");
+                        registry.removeGuild(guildId);
+                        relationGraph.removeGuild(guildId);
+                        logCounts.remove(guildId);
+                        refreshGuildSessions(guildId);
+                        refreshGuildSessions(relatedGuildIds.stream().mapToInt(Integer::intValue).toArray());
+                        publishEvent(new GuildDeletedEvent(guildId, guild.getName()));
+                        
+                        // Registrar log de dissolução da guilda
+                        logGuildActionAsync(guildId, guild.getName(), guild.getLeaderUuid().toString(), guild.getLeaderName(),
+                            GuildLog.LogType.GUILD_DISSOLVED, "Dissolução da Guilda", "Guilda dissolvida");
+                        
+                        return true;
                     } catch (SQLException e) {
                         logger.severe("Erro ao deletar guilda: " + e.getMessage());
                     }
@@ -215,7 +304,7 @@ public class GuildService {
                             return CompletableFuture.completedFuture(false);
                         }
                         
-                        return CompletableFuture.supplyAsync(() -> {
+                        return databaseManager.supplyAsync(() -> {
                             try {
                                 String sql = "UPDATE guilds SET name = COALESCE(?, name), tag = COALESCE(?, tag), description = COALESCE(?, description), updated_at = ? WHERE id = ?";
                                 
@@ -231,10 +320,29 @@ public class GuildService {
                                     int affectedRows = stmt.executeUpdate();
                                     if (affectedRows > 0) {
                                         logger.info("Informações da guilda atualizadas com sucesso: " + guild.getName() + " (ID: " + guildId + ")");
+                                        boolean tagChanged = tag != null && !tag.equals(guild.getTag());
+                                        boolean nameChanged = name != null && !name.equals(guild.getName());
+                                        String oldName = guild.getName();
+                                        String oldTag = guild.getTag();
+                                        registry.updateGuild(guildId, cached -> {
+                                            if (name != null) cached.setName(name);
+                                            if (tag != null) cached.setTag(tag);
+                                            if (description != null) cached.setDescription(description);
+                                            cached.setUpdatedAt(TimeProvider.nowLocalDateTime());
+                                        });
+                                        // Sem o registro, as sessões guardam cópias próprias da guilda
+                                        if (!registry.isEnabled()) {
+                                            refreshGuildSessions(guildId);
+                                        }
+                                        
+                                        if (nameChanged || tagChanged) {
+                                            publishEvent(new GuildRenamedEvent(guildId, oldName, nameChanged ? name : oldName,
+                                                oldTag, tagChanged ? tag : oldTag));
+                                        }
                                         
                                         // Se a tag foi alterada, atualizar nome de exibição de todos os membros online
-                                        if (tag != null && !tag.equals(guild.getTag())) {
-                                            CompatibleScheduler.runTask(plugin, () -> {
+                                        if (tagChanged) {
+                                            plugin.getMainThreadDispatcher().execute(() -> {
                                                 updateGuildMembersDisplayNames(guildId);
                                             });
                                         }
@@ -273,30 +381,33 @@ public class GuildService {
                 return CompletableFuture.completedFuture(false);
             }
             
-            return CompletableFuture.supplyAsync(() -> {
+            return databaseManager.supplyAsync(() -> {
                 try {
                 
                 String sql = "INSERT INTO guild_members (guild_id, player_uuid, player_name, role, joined_at) VALUES (?, ?, ?, ?, ?)";
                 
                 try (Connection conn = databaseManager.getConnection();
-                     PreparedStatement stmt = conn.prepareStatement(sql)) {
+                     PreparedStatement stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
                     
+                    LocalDateTime joinedAt = TimeProvider.nowLocalDateTime().withNano(0);
                     stmt.setInt(1, guildId);
                     stmt.setString(2, playerUuid.toString());
                     stmt.setString(3, playerName);
                     stmt.setString(4, role.name());
-                    stmt.setString(5, nowString());
+                    stmt.setString(5, joinedAt.format(TimeProvider.FULL_FORMATTER));
                     
                     int affectedRows = stmt.executeUpdate();
                     if (affectedRows > 0) {
                         logger.info("Jogador " + playerName + " entrou na guilda (ID: " + guildId + ")");
-                        // Atualizar cache de permissões interno
-                        try { plugin.getPermissionManager().updatePlayerPermissions(playerUuid); } catch (Exception ignored) {}
+                        registry.putMember(createInsertedMember(stmt, guildId, playerUuid, playerName, role, joinedAt));
+                        // Atualizar sessão e cache de permissões interno
+                        refreshPlayerState(playerUuid);
+                        publishEvent(new MemberJoinedEvent(guildId, playerUuid, playerName, role));
                         
                         // Atualizar nome de exibição do jogador
                         Player onlinePlayer = Bukkit.getPlayer(playerUuid);
                         if (onlinePlayer != null) {
-                            CompatibleScheduler.runTask(plugin, () -> {
+                            plugin.getMainThreadDispatcher().execute(() -> {
                                 updatePlayerDisplayName(onlinePlayer);
                             });
                         }
@@ -359,7 +470,7 @@ public class GuildService {
                     return CompletableFuture.completedFuture(false);
                 }
                 
-                return CompletableFuture.supplyAsync(() -> {
+                return databaseManager.supplyAsync(() -> {
                     try {
                         String sql = "DELETE FROM guild_members WHERE player_uuid = ?";
                         
@@ -371,13 +482,16 @@ public class GuildService {
                             int affectedRows = stmt.executeUpdate();
                             if (affectedRows > 0) {
                                 logger.info("Jogador " + member.getPlayerName() + " saiu da guilda (ID: " + member.getGuildId() + ")");
-                                // Atualizar cache de permissões interno
-                                try { plugin.getPermissionManager().updatePlayerPermissions(playerUuid); } catch (Exception ignored) {}
+                                registry.removeMember(playerUuid);
+                                // Atualizar sessão e cache de permissões interno
+                                refreshPlayerState(playerUuid);
+                                publishEvent(new MemberLeftEvent(member.getGuildId(), playerUuid, member.getPlayerName(),
+                                    !playerUuid.equals(requesterUuid)));
                                 
                                 // Atualizar nome de exibição do jogador (remover tag)
                                 Player onlinePlayer = Bukkit.getPlayer(playerUuid);
                                 if (onlinePlayer != null) {
-                                    CompatibleScheduler.runTask(plugin, () -> {
+                                    plugin.getMainThreadDispatcher().execute(() -> {
                                         updatePlayerDisplayName(onlinePlayer);
                                     });
                                 }
@@ -437,7 +551,8 @@ public class GuildService {
                     return CompletableFuture.completedFuture(false);
                 }
                 
-                return CompletableFuture.supplyAsync(() -> {
+                GuildMember.Role oldRole = member.getRole();
+                return databaseManager.supplyAsync(() -> {
                     try {
                         String sql = "UPDATE guild_members SET role = ? WHERE player_uuid = ?";
                         
@@ -450,8 +565,12 @@ public class GuildService {
                             int affectedRows = stmt.executeUpdate();
                             if (affectedRows > 0) {
                                 logger.info("Jogador " + member.getPlayerName() + " cargo atualizado para: " + newRole.name());
-                                // Atualizar cache de permissões interno
-                                try { plugin.getPermissionManager().updatePlayerPermissions(playerUuid); } catch (Exception ignored) {}
+                                registry.updateMember(playerUuid, cached -> cached.setRole(newRole));
+                                // Atualizar sessão e cache de permissões interno
+                                refreshPlayerState(playerUuid);
+                                if (oldRole != newRole) {
+                                    publishEvent(new RoleChangedEvent(member.getGuildId(), playerUuid, member.getPlayerName(), oldRole, newRole));
+                                }
                                 
                                 // Registrar log de alteração de cargo
                                 getGuildByIdAsync(member.getGuildId()).thenAccept(guild -> {
@@ -498,20 +617,44 @@ public class GuildService {
      * Obter guilda do jogador (Assíncrono)
      */
     public CompletableFuture<Guild> getPlayerGuildAsync(UUID playerUuid) {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                String sql = "SELECT g.* FROM guilds g " +
-                            "INNER JOIN guild_members gm ON g.id = gm.guild_id " +
-                            "WHERE gm.player_uuid = ?";
-                
-                try (Connection conn = databaseManager.getConnection();
-                     PreparedStatement stmt = conn.prepareStatement(sql)) {
-                    
-                    stmt.setString(1, playerUuid.toString());
-                    
+        if (registry.isKnownWithoutGuild(playerUuid)) {
+            return CompletableFuture.completedFuture(null);
+        }
+        GuildMember cachedMember = registry.getMember(playerUuid);
+        if (cachedMember != null) {
+            Guild cachedGuild = registry.getGuildById(cachedMember.getGuildId());
+            if (cachedGuild != null) {
+                return CompletableFuture.completedFuture(cachedGuild);
+            }
+        }
+        long readVersion = registry.version();
+        return databaseManager.supplyAsync(() -> {
+            try (Connection conn = databaseManager.getConnection()) {
+                GuildMember member = cachedMember;
+                if (member == null) {
+                    try (PreparedStatement stmt = conn.prepareStatement("SELECT * FROM guild_members WHERE player_uuid = ?")) {
+                        stmt.setString(1, playerUuid.toString());
+                        try (ResultSet rs = stmt.executeQuery()) {
+                            if (rs.next()) {
+                                member = createGuildMemberFromResultSet(rs);
+                            }
+                        }
+                    }
+                    // Membro (ou "sem guilda") em cache, como em getGuildMemberAsync
+                    registry.cacheMember(playerUuid, member, readVersion);
+                    if (member == null) {
+                        return null;
+                    }
+                }
+                Guild cachedGuild = registry.getGuildById(member.getGuildId());
+                if (cachedGuild != null) {
+                    return cachedGuild;
+                }
+                try (PreparedStatement stmt = conn.prepareStatement("SELECT * FROM guilds WHERE id = ?")) {
+                    stmt.setInt(1, member.getGuildId());
                     try (ResultSet rs = stmt.executeQuery()) {
                         if (rs.next()) {
-                            return createGuildFromResultSet(rs);
+                            return registry.cacheGuild(createGuildFromResultSet(rs), readVersion);
                         }
                     }
                 }
@@ -538,7 +681,12 @@ public class GuildService {
      * Obter membro da guilda (Assíncrono)
      */
     public CompletableFuture<GuildMember> getGuildMemberAsync(UUID playerUuid) {
-        return CompletableFuture.supplyAsync(() -> {
+        GuildMember cachedMember = registry.getMember(playerUuid);
+        if (cachedMember != null || registry.isKnownWithoutGuild(playerUuid)) {
+            return CompletableFuture.completedFuture(cachedMember);
+        }
+        long readVersion = registry.version();
+        return databaseManager.supplyAsync(() -> {
             try {
                 String sql = "SELECT * FROM guild_members WHERE player_uuid = ?";
                 
@@ -547,11 +695,14 @@ public class GuildService {
                     
                     stmt.setString(1, playerUuid.toString());
                     
+                    GuildMember member = null;
                     try (ResultSet rs = stmt.executeQuery()) {
                         if (rs.next()) {
-                            return createGuildMemberFromResultSet(rs);
+                            member = createGuildMemberFromResultSet(rs);
                         }
                     }
+                    registry.cacheMember(playerUuid, member, readVersion);
+                    return member;
                 }
             } catch (SQLException e) {
                 logger.severe("Erro ao obter membro da guilda: " + e.getMessage());
@@ -576,7 +727,7 @@ public class GuildService {
      * Obter contagem de membros da guilda (Assíncrono)
      */
     public CompletableFuture<Integer> getGuildMemberCountAsync(int guildId) {
-        return CompletableFuture.supplyAsync(() -> {
+        return databaseManager.supplyAsync(() -> {
             try {
                 String sql = "SELECT COUNT(*) FROM guild_members WHERE guild_id = ?";
                 
@@ -610,11 +761,52 @@ public class GuildService {
         }
     }
     
+    /**
+     * Obter contagem de membros de várias guildas em uma única consulta (Assíncrono)
+     *
+     * Guildas sem membros aparecem no resultado com contagem 0.
+     */
+    public CompletableFuture<Map<Integer, Integer>> getMemberCountsAsync(Collection<Integer> guildIds) {
+        if (guildIds == null || guildIds.isEmpty()) {
+            return CompletableFuture.completedFuture(new HashMap<>());
+        }
+        List<Integer> ids = new ArrayList<>(new LinkedHashSet<>(guildIds));
+        return databaseManager.supplyAsync(() -> {
+            Map<Integer, Integer> counts = new HashMap<>();
+            for (Integer guildId : ids) {
+                counts.put(guildId, 0);
+            }
+            try (Connection conn = databaseManager.getConnection()) {
+                // Dividir em blocos para não exceder o limite de parâmetros do banco
+                for (int start = 0; start < ids.size(); start += MEMBER_COUNT_BATCH_SIZE) {
+                    List<Integer> chunk = ids.subList(start, Math.min(start + MEMBER_COUNT_BATCH_SIZE, ids.size()));
+                    String placeholders = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+                    String sql = "SELECT guild_id, COUNT(*) FROM guild_members WHERE guild_id IN (" + placeholders + ") GROUP BY guild_id";
+                    
+                    try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                        for (int i = 0; i < chunk.size(); i++) {
+                            stmt.setInt(i + 1, chunk.get(i));
+                        }
+                        
+                        try (ResultSet rs = stmt.executeQuery()) {
+                            while (rs.next()) {
+                                counts.put(rs.getInt(1), rs.getInt(2));
+                            }
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                logger.severe("Erro ao obter contagem de membros das guildas: " + e.getMessage());
+            }
+            return counts;
+        });
+    }
+    
     /**
      * Obter todos os membros da guilda (Assíncrono)
      */
     public CompletableFuture<List<GuildMember>> getGuildMembersAsync(int guildId) {
-        return CompletableFuture.supplyAsync(() -> {
+        return databaseManager.supplyAsync(() -> {
             List<GuildMember> members = new ArrayList<>();
             try {
                 String sql = "SELECT * FROM guild_members WHERE guild_id = ? ORDER BY role ASC, joined_at ASC";
@@ -653,7 +845,12 @@ public class GuildService {
      * Obter guilda por ID (Assíncrono)
      */
     public CompletableFuture<Guild> getGuildByIdAsync(int guildId) {
-        return CompletableFuture.supplyAsync(() -> {
+        Guild cachedGuild = registry.getGuildById(guildId);
+        if (cachedGuild != null) {
+            return CompletableFuture.completedFuture(cachedGuild);
+        }
+        long readVersion = registry.version();
+        return databaseManager.supplyAsync(() -> {
             try {
                 String sql = "SELECT * FROM guilds WHERE id = ?";
                 
@@ -664,7 +861,7 @@ public class GuildService {
                     
                     try (ResultSet rs = stmt.executeQuery()) {
                         if (rs.next()) {
-                            return createGuildFromResultSet(rs);
+                            return registry.cacheGuild(createGuildFromResultSet(rs), readVersion);
                         }
                     }
                 }
@@ -691,7 +888,12 @@ public class GuildService {
      * Obter guilda por nome (Assíncrono)
      */
     public CompletableFuture<Guild> getGuildByNameAsync(String name) {
-        return CompletableFuture.supplyAsync(() -> {
+        Guild cachedGuild = registry.getGuildByName(name);
+        if (cachedGuild != null) {
+            return CompletableFuture.completedFuture(cachedGuild);
+        }
+        long readVersion = registry.version();
+        return databaseManager.supplyAsync(() -> {
             try {
                 String sql = "SELECT * FROM guilds WHERE name = ?";
                 
@@ -702,7 +904,7 @@ public class GuildService {
                     
                     try (ResultSet rs = stmt.executeQuery()) {
                         if (rs.next()) {
-                            return createGuildFromResultSet(rs);
+                            return registry.cacheGuild(createGuildFromResultSet(rs), readVersion);
                         }
                     }
                 }
@@ -729,7 +931,12 @@ public class GuildService {
      * Obter guilda por tag (Assíncrono)
      */
     public CompletableFuture<Guild> getGuildByTagAsync(String tag) {
-        return CompletableFuture.supplyAsync(() -> {
+        Guild cachedGuild = registry.getGuildByTag(tag);
+        if (cachedGuild != null) {
+            return CompletableFuture.completedFuture(cachedGuild);
+        }
+        long readVersion = registry.version();
+        return databaseManager.supplyAsync(() -> {
             try {
                 String sql = "SELECT * FROM guilds WHERE tag = ?";
                 
@@ -740,7 +947,7 @@ public class GuildService {
                     
                     try (ResultSet rs = stmt.executeQuery()) {
                         if (rs.next()) {
-                            return createGuildFromResultSet(rs);
+                            return registry.cacheGuild(createGuildFromResultSet(rs), readVersion);
                         }
                     }
                 }
@@ -767,7 +974,8 @@ public class GuildService {
      * Obter todas as guildas (Assíncrono)
      */
     public CompletableFuture<List<Guild>> getAllGuildsAsync() {
-        return CompletableFuture.supplyAsync(() -> {
+        long readVersion = registry.version();
+        return databaseManager.supplyAsync(() -> {
             List<Guild> guilds = new ArrayList<>();
             try {
                 String sql = "SELECT * FROM guilds ORDER BY created_at DESC";
@@ -777,7 +985,7 @@ public class GuildService {
                      ResultSet rs = stmt.executeQuery()) {
                     
                     while (rs.next()) {
-                        guilds.add(createGuildFromResultSet(rs));
+                        guilds.add(registry.cacheGuild(createGuildFromResultSet(rs), readVersion));
                     }
                 }
             } catch (SQLException e) {
@@ -930,7 +1138,7 @@ public class GuildService {
      * Enviar aplicação (Assíncrono)
      */
     public CompletableFuture<Boolean> submitApplicationAsync(int guildId, UUID playerUuid, String playerName, String message) {
-        return CompletableFuture.supplyAsync(() -> {
+        return databaseManager.supplyAsync(() -> {
             try {
                 // Verificar se já existe uma aplicação pendente
                 if (hasPendingApplication(playerUuid, guildId)) {
@@ -999,7 +1207,7 @@ public class GuildService {
                     return CompletableFuture.completedFuture(false);
                 }
                 
-                return CompletableFuture.supplyAsync(() -> {
+                return databaseManager.supplyAsync(() -> {
                     try {
                         String sql = "UPDATE guild_applications SET status = ? WHERE id = ?";
                         
@@ -1062,7 +1270,7 @@ public class GuildService {
      * Verificar se há aplicações pendentes (Assíncrono)
      */
     public CompletableFuture<Boolean> hasPendingApplicationAsync(UUID playerUuid, int guildId) {
-        return CompletableFuture.supplyAsync(() -> {
+        return databaseManager.supplyAsync(() -> {
             try {
                 String sql = "SELECT COUNT(*) FROM guild_applications WHERE player_uuid = ? AND guild_id = ? AND status = ?";
                 
@@ -1102,7 +1310,7 @@ public class GuildService {
      * Obter lista de aplicações da guilda (Assíncrono)
      */
     public CompletableFuture<List<GuildApplication>> getGuildApplicationsAsync(int guildId) {
-        return CompletableFuture.supplyAsync(() -> {
+        return databaseManager.supplyAsync(() -> {
             List<GuildApplication> applications = new ArrayList<>();
             try {
                 String sql = "SELECT * FROM guild_applications WHERE guild_id = ? ORDER BY created_at DESC";
@@ -1141,7 +1349,7 @@ public class GuildService {
      * Obter lista de aplicações do jogador (Assíncrono)
      */
     public CompletableFuture<List<GuildApplication>> getPlayerApplicationsAsync(UUID playerUuid) {
-        return CompletableFuture.supplyAsync(() -> {
+        return databaseManager.supplyAsync(() -> {
             List<GuildApplication> applications = new ArrayList<>();
             try {
                 String sql = "SELECT * FROM guild_applications WHERE player_uuid = ? ORDER BY created_at DESC";
@@ -1180,7 +1388,7 @@ public class GuildService {
      * Obter aplicação por ID (Assíncrono)
      */
     public CompletableFuture<GuildApplication> getApplicationByIdAsync(int applicationId) {
-        return CompletableFuture.supplyAsync(() -> {
+        return databaseManager.supplyAsync(() -> {
             try {
                 String sql = "SELECT * FROM guild_applications WHERE id = ?";
                 
@@ -1247,7 +1455,7 @@ public class GuildService {
                      return CompletableFuture.completedFuture(false);
                  }
                  
-                 return CompletableFuture.supplyAsync(() -> {
+                 return databaseManager.supplyAsync(() -> {
                      try {
                          String sql = "INSERT INTO guild_invites (guild_id, player_uuid, player_name, inviter_uuid, inviter_name, status, expires_at, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
                          
@@ -1299,7 +1507,7 @@ public class GuildService {
                  return CompletableFuture.completedFuture(false);
              }
              
-             return CompletableFuture.supplyAsync(() -> {
+             return databaseManager.supplyAsync(() -> {
                  try {
                      String status = accept ? "ACCEPTED" : "DECLINED";
                      String sql = "UPDATE guild_invites SET status = ? WHERE player_uuid = ? AND inviter_uuid = ? AND status = 'PENDING'";
@@ -1348,7 +1556,7 @@ public class GuildService {
       * Obter convite pendente (Assíncrono)
       */
      public CompletableFuture<GuildInvitation> getPendingInvitationAsync(UUID targetUuid, UUID inviterUuid) {
-         return CompletableFuture.supplyAsync(() -> {
+         return databaseManager.supplyAsync(() -> {
              try {
                  String sql = "SELECT * FROM guild_invites WHERE player_uuid = ? AND inviter_uuid = ? AND status = 'PENDING' AND expires_at > ? ORDER BY created_at DESC LIMIT 1";
                  
@@ -1388,7 +1596,7 @@ public class GuildService {
       * Obter convite pendente do jogador (Assíncrono)
       */
      public CompletableFuture<GuildInvitation> getPendingInvitationAsync(UUID targetUuid, int guildId) {
-         return CompletableFuture.supplyAsync(() -> {
+         return databaseManager.supplyAsync(() -> {
              try {
                  String sql = "SELECT * FROM guild_invites WHERE player_uuid = ? AND guild_id = ? AND status = 'PENDING' AND expires_at > ? ORDER BY created_at DESC LIMIT 1";
                  
@@ -1445,7 +1653,7 @@ public class GuildService {
       * Obter aplicações pendentes (Assíncrono)
       */
      public CompletableFuture<List<GuildApplication>> getPendingApplicationsAsync(int guildId) {
-         return CompletableFuture.supplyAsync(() -> {
+         return databaseManager.supplyAsync(() -> {
              List<GuildApplication> applications = new ArrayList<>();
              try {
                  String sql = "SELECT * FROM guild_applications WHERE guild_id = ? AND status = 'PENDING' ORDER BY created_at DESC";
@@ -1472,7 +1680,7 @@ public class GuildService {
       * Obter histórico de aplicações (Assíncrono)
       */
      public CompletableFuture<List<GuildApplication>> getApplicationHistoryAsync(int guildId) {
-         return CompletableFuture.supplyAsync(() -> {
+         return databaseManager.supplyAsync(() -> {
              List<GuildApplication> applications = new ArrayList<>();
              try {
                  String sql = "SELECT * FROM guild_applications WHERE guild_id = ? AND status != 'PENDING' ORDER BY created_at DESC";
@@ -1499,7 +1707,12 @@ public class GuildService {
       * Obter membro da guilda (Assíncrono) - Método sobrecarregado, aceita parâmetro guildId
       */
      public CompletableFuture<GuildMember> getGuildMemberAsync(int guildId, UUID playerUuid) {
-         return CompletableFuture.supplyAsync(() -> {
+         GuildMember cachedMember = registry.getMember(playerUuid);
+         if (cachedMember != null || registry.isKnownWithoutGuild(playerUuid)) {
+             return CompletableFuture.completedFuture(
+                 cachedMember != null && cachedMember.getGuildId() == guildId ? cachedMember : null);
+         }
+         return databaseManager.supplyAsync(() -> {
              try {
                  String sql = "SELECT * FROM guild_members WHERE guild_id = ? AND player_uuid = ?";
                  
@@ -1526,7 +1739,7 @@ public class GuildService {
       * Atualizar descrição da guilda (Assíncrono)
       */
      public CompletableFuture<Boolean> updateGuildDescriptionAsync(int guildId, String description) {
-         return CompletableFuture.supplyAsync(() -> {
+         return databaseManager.supplyAsync(() -> {
              try {
                  String sql = "UPDATE guilds SET description = ? WHERE id = ?";
                  
@@ -1537,6 +1750,9 @@ public class GuildService {
                      stmt.setInt(2, guildId);
                      
                      int rowsAffected = stmt.executeUpdate();
+                     if (rowsAffected > 0) {
+                         registry.updateGuild(guildId, cached -> cached.setDescription(description));
+                     }
                      return rowsAffected > 0;
                  }
              } catch (SQLException e) {
@@ -1550,7 +1766,7 @@ public class GuildService {
       * Atualizar banner da guilda (Assíncrono)
       */
      public CompletableFuture<Boolean> updateGuildBannerAsync(int guildId, org.bukkit.inventory.ItemStack banner) {
-         return CompletableFuture.supplyAsync(() -> {
+         return databaseManager.supplyAsync(() -> {
              try {
                  String bannerData = com.guild.core.utils.BannerSerializer.serialize(banner);
                  String bannerJson = com.guild.core.utils.BannerSerializer.serializeToJson(banner);
@@ -1564,6 +1780,12 @@ public class GuildService {
                      stmt.setInt(3, guildId);
                      
                      int rowsAffected = stmt.executeUpdate();
+                     if (rowsAffected > 0) {
+                         registry.updateGuild(guildId, cached -> {
+                             cached.setBanner(banner != null ? banner.clone() : null);
+                             cached.setBannerJson(bannerJson);
+                         });
+                     }
                      return rowsAffected > 0;
                  }
              } catch (SQLException e) {
@@ -1580,12 +1802,12 @@ public class GuildService {
       */
      public CompletableFuture<Boolean> createGuildRelationAsync(int guild1Id, int guild2Id, String guild1Name, String guild2Name,
                                                               GuildRelation.RelationType type, UUID initiatorUuid, String initiatorName) {
-         return CompletableFuture.supplyAsync(() -> {
+         return databaseManager.supplyAsync(() -> {
              try {
                  String sql = "INSERT INTO guild_relations (guild1_id, guild2_id, guild1_name, guild2_name, relation_type, initiator_uuid, initiator_name, expires_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
                  
                  try (Connection conn = databaseManager.getConnection();
-                      PreparedStatement stmt = conn.prepareStatement(sql)) {
+                      PreparedStatement stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
                  
                      stmt.setInt(1, guild1Id);
                      stmt.setInt(2, guild2Id);
@@ -1597,6 +1819,17 @@ public class GuildService {
                      stmt.setString(8, plusDaysString(7));
                      
                      int rowsAffected = stmt.executeUpdate();
+                     if (rowsAffected > 0) {
+                         int relationId;
+                         try (ResultSet rs = stmt.getGeneratedKeys()) {
+                             relationId = rs.next() ? rs.getInt(1) : -1;
+                         }
+                         // Grafo atualizado antes das sessões, que leem as relações dele
+                         relationGraph.putRelation(readRelation(conn, relationId));
+                         refreshGuildSessions(guild1Id, guild2Id);
+                         publishEvent(new RelationChangedEvent(relationId, guild1Id, guild2Id,
+                             RelationChangedEvent.Change.CREATED, type, GuildRelation.RelationStatus.PENDING));
+                     }
                      return rowsAffected > 0;
                  }
              } catch (SQLException e) {
@@ -1610,7 +1843,7 @@ public class GuildService {
       * Atualizar status da relação de guilda (Assíncrono)
       */
      public CompletableFuture<Boolean> updateGuildRelationStatusAsync(int relationId, GuildRelation.RelationStatus status) {
-         return CompletableFuture.supplyAsync(() -> {
+         return databaseManager.supplyAsync(() -> {
              try {
                  String sql = "UPDATE guild_relations SET status = ?, updated_at = ? WHERE id = ?";
                  
@@ -1622,6 +1855,11 @@ public class GuildService {
                      stmt.setInt(3, relationId);
                  
                      int rowsAffected = stmt.executeUpdate();
+                     if (rowsAffected > 0) {
+                         relationGraph.putRelation(readRelation(conn, relationId));
+                         refreshRelationSessions(relationId);
+                         publishRelationChanged(conn, relationId, RelationChangedEvent.Change.UPDATED, null, status);
+                     }
                      return rowsAffected > 0;
                  }
              } catch (SQLException e) {
@@ -1635,7 +1873,7 @@ public class GuildService {
       * Atualizar tipo, status e iniciador da relação de guilda (Assíncrono)
       */
      public CompletableFuture<Boolean> updateGuildRelationAsync(int relationId, GuildRelation.RelationType type, GuildRelation.RelationStatus status, UUID initiatorUuid, String initiatorName) {
-         return CompletableFuture.supplyAsync(() -> {
+         return databaseManager.supplyAsync(() -> {
              try {
                  String sql = "UPDATE guild_relations SET relation_type = ?, status = ?, initiator_uuid = ?, initiator_name = ?, updated_at = ? WHERE id = ?";
                  
@@ -1650,6 +1888,11 @@ public class GuildService {
                      stmt.setInt(6, relationId);
                  
                      int rowsAffected = stmt.executeUpdate();
+                     if (rowsAffected > 0) {
+                         relationGraph.putRelation(readRelation(conn, relationId));
+                         refreshRelationSessions(relationId);
+                         publishRelationChanged(conn, relationId, RelationChangedEvent.Change.UPDATED, type, status);
+                     }
                      return rowsAffected > 0;
                  }
              } catch (SQLException e) {
@@ -1663,9 +1906,13 @@ public class GuildService {
       * Obter relação de guilda (Assíncrono)
       */
      public CompletableFuture<GuildRelation> getGuildRelationAsync(int guild1Id, int guild2Id) {
-         return CompletableFuture.supplyAsync(() -> {
+         if (relationGraph.isLoaded()) {
+             return CompletableFuture.completedFuture(relationGraph.relationBetween(guild1Id, guild2Id));
+         }
+         return databaseManager.supplyAsync(() -> {
              try {
-                 String sql = "SELECT * FROM guild_relations WHERE (guild1_id = ? AND guild2_id = ?) OR (guild1_id = ? AND guild2_id = ?)";
+                 // Linhas nos dois sentidos: a mais recente prevalece, como no RelationGraph
+                 String sql = "SELECT * FROM guild_relations WHERE (guild1_id = ? AND guild2_id = ?) OR (guild1_id = ? AND guild2_id = ?) ORDER BY id DESC LIMIT 1";
                  
                  try (Connection conn = databaseManager.getConnection();
                       PreparedStatement stmt = conn.prepareStatement(sql)) {
@@ -1692,7 +1939,10 @@ public class GuildService {
       * Obter todas as relações da guilda (Assíncrono)
       */
      public CompletableFuture<List<GuildRelation>> getGuildRelationsAsync(int guildId) {
-         return CompletableFuture.supplyAsync(() -> {
+         if (relationGraph.isLoaded()) {
+             return CompletableFuture.completedFuture(relationGraph.relationsOf(guildId));
+         }
+         return databaseManager.supplyAsync(() -> {
              List<GuildRelation> relations = new ArrayList<>();
              try {
                  String sql = "SELECT * FROM guild_relations WHERE guild1_id = ? OR guild2_id = ? ORDER BY created_at DESC";
@@ -1720,16 +1970,26 @@ public class GuildService {
       * Deletar relação de guilda (Assíncrono)
       */
      public CompletableFuture<Boolean> deleteGuildRelationAsync(int relationId) {
-         return CompletableFuture.supplyAsync(() -> {
+         return databaseManager.supplyAsync(() -> {
              try {
                  String sql = "DELETE FROM guild_relations WHERE id = ?";
                  
                  try (Connection conn = databaseManager.getConnection();
                       PreparedStatement stmt = conn.prepareStatement(sql)) {
                      
+                     // Guildas da relação, lidas antes de removê-la para o evento
+                     int[] guildIds = findRelationGuildIds(conn, relationId);
                      stmt.setInt(1, relationId);
                      
                      int rowsAffected = stmt.executeUpdate();
+                     if (rowsAffected > 0) {
+                         relationGraph.removeRelation(relationId);
+                         refreshRelationSessions(relationId);
+                         if (guildIds != null) {
+                             publishEvent(new RelationChangedEvent(relationId, guildIds[0], guildIds[1],
+                                 RelationChangedEvent.Change.DELETED, null, null));
+                         }
+                     }
                      return rowsAffected > 0;
                  }
              } catch (SQLException e) {
@@ -1742,6 +2002,15 @@ public class GuildService {
 
      // ==================== Métodos Auxiliares ====================
      
+     private GuildRelation readRelation(Connection conn, int relationId) throws SQLException {
+         try (PreparedStatement stmt = conn.prepareStatement("SELECT * FROM guild_relations WHERE id = ?")) {
+             stmt.setInt(1, relationId);
+             try (ResultSet rs = stmt.executeQuery()) {
+                 return rs.next() ? createGuildRelationFromResultSet(rs) : null;
+             }
+         }
+     }
+     
      private GuildRelation createGuildRelationFromResultSet(ResultSet rs) throws SQLException {
          GuildRelation relation = new GuildRelation();
          relation.setId(rs.getInt("id"));
@@ -1770,7 +2039,7 @@ public class GuildService {
      * Atualizar nível da guilda (Assíncrono)
      */
     public CompletableFuture<Boolean> updateGuildLevelAsync(int guildId, int level) {
-        return CompletableFuture.supplyAsync(() -> {
+        return databaseManager.supplyAsync(() -> {
             try {
                 String sql = "UPDATE guilds SET level = ? WHERE id = ?";
                 
@@ -1781,6 +2050,10 @@ public class GuildService {
                     stmt.setInt(2, guildId);
                     
                     int affectedRows = stmt.executeUpdate();
+                    if (affectedRows > 0) {
+                        registry.updateGuild(guildId, cached -> cached.setLevel(level));
+                        publishEvent(new GuildLevelChangedEvent(guildId, level));
+                    }
                     return affectedRows > 0;
                 }
             } catch (SQLException e) {
@@ -1794,7 +2067,7 @@ public class GuildService {
      * Atualizar número máximo de membros da guilda (Assíncrono)
      */
     public CompletableFuture<Boolean> updateGuildMaxMembersAsync(int guildId, int maxMembers) {
-        return CompletableFuture.supplyAsync(() -> {
+        return databaseManager.supplyAsync(() -> {
             try {
                 String sql = "UPDATE guilds SET max_members = ? WHERE id = ?";
                 
@@ -1805,6 +2078,9 @@ public class GuildService {
                     stmt.setInt(2, guildId);
                     
                     int affectedRows = stmt.executeUpdate();
+                    if (affectedRows > 0) {
+                        registry.updateGuild(guildId, cached -> cached.setMaxMembers(maxMembers));
+                    }
                     return affectedRows > 0;
                 }
             } catch (SQLException e) {
@@ -1823,7 +2099,7 @@ public class GuildService {
                 return CompletableFuture.completedFuture(false);
             }
             
-            return CompletableFuture.supplyAsync(() -> {
+            return databaseManager.supplyAsync(() -> {
                 try {
                     String sql = "UPDATE guilds SET frozen = ? WHERE id = ?";
                     
@@ -1835,6 +2111,7 @@ public class GuildService {
                         
                         int affectedRows = stmt.executeUpdate();
                         if (affectedRows > 0) {
+                            registry.updateGuild(guildId, cached -> cached.setFrozen(frozen));
                             // Registrar log de alteração de status de congelamento
                             GuildLog.LogType logType = frozen ? GuildLog.LogType.GUILD_FROZEN : GuildLog.LogType.GUILD_UNFROZEN;
                             String description = frozen ? "Guilda congelada" : "Guilda descongelada";
@@ -1854,34 +2131,158 @@ public class GuildService {
     }
 
     /**
-     * Inserir membro da guilda diretamente (sem verificação de guilda existente).
-     * Usado apenas para inserir o líder após a criação da guilda, para evitar contenção de conexão extra.
-     */
-    private CompletableFuture<Boolean> addGuildMemberDirectAsync(int guildId, UUID playerUuid, String playerName, GuildMember.Role role) {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                String sql = "INSERT INTO guild_members (guild_id, player_uuid, player_name, role, joined_at) VALUES (?, ?, ?, ?, ?)";
-                try (Connection conn = databaseManager.getConnection();
-                     PreparedStatement stmt = conn.prepareStatement(sql)) {
-                    stmt.setInt(1, guildId);
-                    stmt.setString(2, playerUuid.toString());
-                    stmt.setString(3, playerName);
-                    stmt.setString(4, role.name());
-                    stmt.setString(5, nowString());
-                    int affectedRows = stmt.executeUpdate();
-                    if (affectedRows > 0) {
-                        try { plugin.getPermissionManager().updatePlayerPermissions(playerUuid); } catch (Exception ignored) {}
-                        return true;
+     * Inserir guilda na conexão informada (parte de uma transação)
+     */
+    private Guild insertGuild(Connection conn, String name, String tag, String description, UUID leaderUuid,
+                              String leaderName, LocalDateTime createdAt) throws SQLException {
+        String sql = "INSERT INTO guilds (name, tag, description, leader_uuid, leader_name, level, max_members, frozen, created_at, updated_at) VALUES (?, ?, ?, ?, ?, 1, 6, 0, ?, ?)";
+        try (PreparedStatement stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+            stmt.setString(1, name);
+            stmt.setString(2, tag);
+            stmt.setString(3, description);
+            stmt.setString(4, leaderUuid.toString());
+            stmt.setString(5, leaderName);
+            stmt.setString(6, createdAt.format(TimeProvider.FULL_FORMATTER));
+            stmt.setString(7, createdAt.format(TimeProvider.FULL_FORMATTER));
+            if (stmt.executeUpdate() > 0) {
+                try (ResultSet rs = stmt.getGeneratedKeys()) {
+                    if (rs.next()) {
+                        Guild guild = new Guild(name, tag, description, leaderUuid, leaderName);
+                        guild.setId(rs.getInt(1));
+                        guild.setLevel(1);
+                        guild.setMaxMembers(6);
+                        guild.setFrozen(false);
+                        guild.setCreatedAt(createdAt);
+                        guild.setUpdatedAt(createdAt);
+                        return guild;
                     }
                 }
-            } catch (SQLException e) {
-                logger.severe("Erro ao adicionar membro da guilda diretamente: " + e.getMessage());
             }
-            return false;
-        });
+        }
+        return null;
     }
 
+    /**
+     * Inserir membro na conexão informada (parte de uma transação)
+     */
+    private GuildMember insertMember(Connection conn, int guildId, UUID playerUuid, String playerName,
+                                     GuildMember.Role role, LocalDateTime joinedAt) throws SQLException {
+        String sql = "INSERT INTO guild_members (guild_id, player_uuid, player_name, role, joined_at) VALUES (?, ?, ?, ?, ?)";
+        try (PreparedStatement stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+            stmt.setInt(1, guildId);
+            stmt.setString(2, playerUuid.toString());
+            stmt.setString(3, playerName);
+            stmt.setString(4, role.name());
+            stmt.setString(5, joinedAt.format(TimeProvider.FULL_FORMATTER));
+            stmt.executeUpdate();
+            return createInsertedMember(stmt, guildId, playerUuid, playerName, role, joinedAt);
+        }
+    }
 
+    /**
+     * Executar DELETE parametrizado na conexão informada
+     */
+    private int executeDelete(Connection conn, String sql, Object... params) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            for (int i = 0; i < params.length; i++) {
+                stmt.setObject(i + 1, params[i]);
+            }
+            return stmt.executeUpdate();
+        }
+    }
+    
+    /**
+     * Guilda e líder gravados por createGuildAsync
+     */
+    private static final class CreatedGuild {
+        private final Guild guild;
+        private final GuildMember leader;
+        
+        private CreatedGuild(Guild guild, GuildMember leader) {
+            this.guild = guild;
+            this.leader = leader;
+        }
+    }
+    
+    /**
+     * Atualizar sessão e permissões do jogador após mudança de guilda ou cargo
+     */
+    private void refreshPlayerState(UUID playerUuid) {
+        PlayerSessionManager sessionManager = plugin.getSessionManager();
+        CompletableFuture<?> refreshed = sessionManager != null
+            ? sessionManager.refresh(playerUuid)
+            : CompletableFuture.completedFuture(null);
+        refreshed.whenComplete((session, error) -> {
+            try { plugin.getPermissionManager().updatePlayerPermissions(playerUuid); } catch (Exception ignored) {}
+        });
+    }
+    
+    /**
+     * Atualizar sessões dos jogadores online das guildas informadas
+     */
+    private void refreshGuildSessions(int... guildIds) {
+        PlayerSessionManager sessionManager = plugin.getSessionManager();
+        if (sessionManager != null) {
+            for (int guildId : guildIds) {
+                sessionManager.refreshGuild(guildId);
+            }
+        }
+    }
+    
+    /**
+     * Publicar evento de domínio no barramento de eventos (entrega assíncrona)
+     */
+    private void publishEvent(GuildEvent event) {
+        EventBus eventBus = plugin.getEventBus();
+        if (eventBus != null) {
+            eventBus.publishAsync(event);
+        }
+    }
+    
+    /**
+     * Publicar alteração de relação, lendo as guildas envolvidas na mesma conexão
+     */
+    private void publishRelationChanged(Connection conn, int relationId, RelationChangedEvent.Change change,
+                                        GuildRelation.RelationType type, GuildRelation.RelationStatus status) throws SQLException {
+        int[] guildIds = findRelationGuildIds(conn, relationId);
+        if (guildIds != null) {
+            publishEvent(new RelationChangedEvent(relationId, guildIds[0], guildIds[1], change, type, status));
+        }
+    }
+    
+    private int[] findRelationGuildIds(Connection conn, int relationId) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement("SELECT guild1_id, guild2_id FROM guild_relations WHERE id = ?")) {
+            stmt.setInt(1, relationId);
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next() ? new int[] { rs.getInt(1), rs.getInt(2) } : null;
+            }
+        }
+    }
+    
+    /**
+     * Atualizar sessões que contêm a relação informada
+     */
+    private void refreshRelationSessions(int relationId) {
+        PlayerSessionManager sessionManager = plugin.getSessionManager();
+        if (sessionManager != null) {
+            sessionManager.refreshRelation(relationId);
+        }
+    }
+    
+    /**
+     * Montar o membro recém-inserido para o registro em memória
+     */
+    private GuildMember createInsertedMember(PreparedStatement stmt, int guildId, UUID playerUuid, String playerName,
+                                             GuildMember.Role role, LocalDateTime joinedAt) throws SQLException {
+        GuildMember member = new GuildMember(guildId, playerUuid, playerName, role);
+        member.setJoinedAt(joinedAt);
+        try (ResultSet rs = stmt.getGeneratedKeys()) {
+            if (rs.next()) {
+                member.setId(rs.getInt(1));
+            }
+        }
+        return member;
+    }
     
     /**
      * Notificar membros da guilda sobre atualização bem-sucedida
@@ -1893,7 +2294,7 @@ public class GuildService {
                 .replace("{max_members}", String.valueOf(newMaxMembers));
             
             // Enviar mensagem na thread principal
-            CompatibleScheduler.runTask(plugin, () -> {
+            plugin.getMainThreadDispatcher().execute(() -> {
                 for (GuildMember member : members) {
                     Player player = Bukkit.getPlayer(member.getPlayerUuid());
                     if (player != null && player.isOnline()) {
@@ -1915,30 +2316,8 @@ public class GuildService {
     public CompletableFuture<Boolean> logGuildActionAsync(int guildId, String guildName, String playerUuid, 
                                                         String playerName, GuildLog.LogType logType, 
                                                         String description, String details) {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                String sql = "INSERT INTO guild_logs (guild_id, guild_name, player_uuid, player_name, log_type, description, details, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
-                
-                try (Connection conn = databaseManager.getConnection();
-                     PreparedStatement stmt = conn.prepareStatement(sql)) {
-                 
-                     stmt.setInt(1, guildId);
-                     stmt.setString(2, guildName);
-                     stmt.setString(3, playerUuid);
-                     stmt.setString(4, playerName);
-                     stmt.setString(5, logType.name());
-                     stmt.setString(6, description);
-                     stmt.setString(7, details);
-                     stmt.setString(8, nowString());
-                 
-                     int affectedRows = stmt.executeUpdate();
-                     return affectedRows > 0;
-                 }
-            } catch (SQLException e) {
-                logger.severe("Erro ao registrar log da guilda: " + e.getMessage());
-                return false;
-            }
-        });
+        // Gravado em lote pelo GuildLogSink
+        return logSink.submit(new GuildLog(guildId, guildName, playerUuid, playerName, logType, description, details));
     }
     
     /**
@@ -1958,7 +2337,9 @@ public class GuildService {
      * Obter lista de logs da guilda (Assíncrono)
      */
     public CompletableFuture<List<GuildLog>> getGuildLogsAsync(int guildId, int limit, int offset) {
-        return CompletableFuture.supplyAsync(() -> {
+        return databaseManager.supplyAsync(() -> {
+            // Garantir que logs ainda na fila apareçam na consulta
+            logSink.flush();
             List<GuildLog> logs = new ArrayList<>();
             try {
                 String sql = "SELECT * FROM guild_logs WHERE guild_id = ? ORDER BY created_at DESC LIMIT ? OFFSET ?";
@@ -1996,11 +2377,66 @@ public class GuildService {
         }
     }
     
+    /**
+     * Obter página de logs da guilda por cursor (Assíncrono)
+     *
+     * Retorna os logs com ID menor que beforeId, do mais recente para o mais antigo;
+     * beforeId <= 0 retorna a primeira página. O custo não cresce com a profundidade da página.
+     */
+    public CompletableFuture<List<GuildLog>> getGuildLogsPageAsync(int guildId, int beforeId, int limit) {
+        return databaseManager.supplyAsync(() -> {
+            logSink.flush();
+            List<GuildLog> logs = new ArrayList<>();
+            try {
+                String sql = beforeId > 0
+                    ? "SELECT * FROM guild_logs WHERE guild_id = ? AND id < ? ORDER BY id DESC LIMIT ?"
+                    : "SELECT * FROM guild_logs WHERE guild_id = ? ORDER BY id DESC LIMIT ?";
+                
+                try (Connection conn = databaseManager.getConnection();
+                     PreparedStatement stmt = conn.prepareStatement(sql)) {
+                    
+                    int index = 1;
+                    stmt.setInt(index++, guildId);
+                    if (beforeId > 0) {
+                        stmt.setInt(index++, beforeId);
+                    }
+                    stmt.setInt(index, limit);
+                    
+                    try (ResultSet rs = stmt.executeQuery()) {
+                        while (rs.next()) {
+                            logs.add(createGuildLogFromResultSet(rs));
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                logger.severe("Erro ao obter página de logs da guilda: " + e.getMessage());
+            }
+            return logs;
+        });
+    }
+    
+    /**
+     * Obter página de logs da guilda por cursor (Wrapper Síncrono)
+     */
+    public List<GuildLog> getGuildLogsPage(int guildId, int beforeId, int limit) {
+        try {
+            return getGuildLogsPageAsync(guildId, beforeId, limit).get();
+        } catch (Exception e) {
+            logger.severe("Exceção ao obter página de logs da guilda: " + e.getMessage());
+            return new ArrayList<>();
+        }
+    }
+    
     /**
      * Obter contagem total de logs da guilda (Assíncrono)
      */
     public CompletableFuture<Integer> getGuildLogsCountAsync(int guildId) {
-        return CompletableFuture.supplyAsync(() -> {
+        AtomicInteger cachedCount = logCounts.get(guildId);
+        if (cachedCount != null) {
+            return CompletableFuture.completedFuture(cachedCount.get());
+        }
+        // Semear o contador com a trava do GuildLogSink, para nenhuma gravação escapar da contagem
+        return databaseManager.supplyAsync(() -> logSink.callFlushed(() -> {
             try {
                 String sql = "SELECT COUNT(*) FROM guild_logs WHERE guild_id = ?";
                 
@@ -2010,16 +2446,16 @@ public class GuildService {
                     stmt.setInt(1, guildId);
                     
                     try (ResultSet rs = stmt.executeQuery()) {
-                        if (rs.next()) {
-                            return rs.getInt(1);
-                        }
+                        int count = rs.next() ? rs.getInt(1) : 0;
+                        logCounts.putIfAbsent(guildId, new AtomicInteger(count));
+                        return count;
                     }
                 }
             } catch (SQLException e) {
                 logger.severe("Erro ao obter contagem total de logs da guilda: " + e.getMessage());
             }
             return 0;
-        });
+        }));
     }
     
     /**
@@ -2068,7 +2504,7 @@ public class GuildService {
      * Limpar logs antigos (Assíncrono)
      */
     public CompletableFuture<Integer> cleanOldLogsAsync(int daysToKeep) {
-        return CompletableFuture.supplyAsync(() -> {
+        return databaseManager.supplyAsync(() -> {
             try {
                 // Usar parâmetro de tempo limite unificado (string) para evitar diferenças de fuso horário no banco de dados
                 String sql = "DELETE FROM guild_logs WHERE created_at < ?";
@@ -2081,6 +2517,8 @@ public class GuildService {
                         .format(com.guild.core.time.TimeProvider.FULL_FORMATTER);
                     stmt.setString(1, threshold);
                     int affectedRows = stmt.executeUpdate();
+                    // Contadores serão semeados novamente na próxima consulta
+                    logCounts.clear();
                     logger.info("Limpos " + affectedRows + " registros de log antigos");
                     return affectedRows;
                 }
@@ -2108,7 +2546,7 @@ public class GuildService {
      */
     private void updatePlayerDisplayName(Player player) {
         getPlayerGuildAsync(player.getUniqueId()).thenAccept(guild -> {
-            CompatibleScheduler.runTask(plugin, () -> {
+            plugin.getMainThreadDispatcher().execute(player, () -> {
                 if (guild != null) {
                     // Define o nome de exibição com a tag verde
                     String displayName = "§a[" + guild.getTag() + "]§r " + player.getName();